@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.sql.parser.core.database.cache.SQLParserCacheRegistry;
+import org.apache.shardingsphere.sql.parser.core.database.cache.SQLParserCacheStats;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * SQL parser cache information collector.
+ */
+public final class SQLParserCacheInfoCollector extends Collector {
+    
+    private static final String SIZE = "size";
+    
+    private static final String HIT_COUNT = "hit_count";
+    
+    private static final String MISS_COUNT = "miss_count";
+    
+    private static final String EVICTION_COUNT = "eviction_count";
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> result = new LinkedList<>();
+        Optional<GaugeMetricFamily> cacheInfo = FACTORY.createGaugeMetricFamily(MetricIds.SQL_PARSER_CACHE_INFO);
+        if (cacheInfo.isPresent()) {
+            for (Entry<String, SQLParserCacheStats> entry : SQLParserCacheRegistry.getStats().entrySet()) {
+                collect(cacheInfo.get(), entry.getKey(), entry.getValue());
+            }
+            result.add(cacheInfo.get());
+        }
+        return result;
+    }
+    
+    private void collect(final GaugeMetricFamily metricFamily, final String cacheName, final SQLParserCacheStats stats) {
+        metricFamily.addMetric(Arrays.asList(cacheName, SIZE), stats.getSize());
+        metricFamily.addMetric(Arrays.asList(cacheName, HIT_COUNT), stats.getHitCount());
+        metricFamily.addMetric(Arrays.asList(cacheName, MISS_COUNT), stats.getMissCount());
+        metricFamily.addMetric(Arrays.asList(cacheName, EVICTION_COUNT), stats.getEvictionCount());
+    }
+}
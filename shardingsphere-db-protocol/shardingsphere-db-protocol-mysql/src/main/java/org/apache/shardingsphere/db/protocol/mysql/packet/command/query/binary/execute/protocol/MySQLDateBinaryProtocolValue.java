@@ -63,18 +63,17 @@ public final class MySQLDateBinaryProtocolValue implements MySQLBinaryProtocolVa
         return new Timestamp(result.getTimeInMillis());
     }
     
+    @SuppressWarnings("deprecation")
     @Override
     public void write(final MySQLPacketPayload payload, final Object value) {
-        Timestamp timestamp = new Timestamp(((Date) value).getTime());
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(timestamp);
-        int year = calendar.get(Calendar.YEAR);
-        int month = calendar.get(Calendar.MONTH) + 1;
-        int dayOfMonth = calendar.get(Calendar.DAY_OF_MONTH);
-        int hourOfDay = calendar.get(Calendar.HOUR_OF_DAY);
-        int minutes = calendar.get(Calendar.MINUTE);
-        int seconds = calendar.get(Calendar.SECOND);
-        int nanos = timestamp.getNanos();
+        Timestamp timestamp = value instanceof Timestamp ? (Timestamp) value : new Timestamp(((Date) value).getTime());
+        int year = timestamp.getYear() + 1900;
+        int month = timestamp.getMonth() + 1;
+        int dayOfMonth = timestamp.getDate();
+        int hourOfDay = timestamp.getHours();
+        int minutes = timestamp.getMinutes();
+        int seconds = timestamp.getSeconds();
+        int nanos = (int) Math.floorMod(timestamp.getTime(), 1000L) * 1000000;
         boolean isTimeAbsent = 0 == hourOfDay && 0 == minutes && 0 == seconds;
         boolean isNanosAbsent = 0 == nanos;
         if (isTimeAbsent && isNanosAbsent) {
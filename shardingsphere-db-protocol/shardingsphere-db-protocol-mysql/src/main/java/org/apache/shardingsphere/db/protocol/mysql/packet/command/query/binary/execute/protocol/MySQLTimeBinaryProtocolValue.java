@@ -55,14 +55,14 @@ public final class MySQLTimeBinaryProtocolValue implements MySQLBinaryProtocolVa
         return result;
     }
     
+    @SuppressWarnings("deprecation")
     @Override
     public void write(final MySQLPacketPayload payload, final Object value) {
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTimeInMillis(((Time) value).getTime());
-        int hourOfDay = calendar.get(Calendar.HOUR_OF_DAY);
-        int minutes = calendar.get(Calendar.MINUTE);
-        int seconds = calendar.get(Calendar.SECOND);
-        int nanos = new Timestamp(calendar.getTimeInMillis()).getNanos();
+        Time time = (Time) value;
+        int hourOfDay = time.getHours();
+        int minutes = time.getMinutes();
+        int seconds = time.getSeconds();
+        int nanos = (int) Math.floorMod(time.getTime(), 1000L) * 1000000;
         boolean isTimeAbsent = 0 == hourOfDay && 0 == minutes && 0 == seconds;
         boolean isNanosAbsent = 0 == nanos;
         if (isTimeAbsent && isNanosAbsent) {
@@ -17,12 +17,14 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
 
+import io.netty.buffer.ByteBuf;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -31,6 +33,8 @@ import java.util.Collection;
 
 /**
  * Text result set row packet for MySQL.
+ * 
+ * <p>Integral numbers, timestamps and date times are written to byte buffer as ASCII directly, without creating intermediate strings.</p>
  *
  * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#packet-ProtocolText::ResultsetRow">ResultsetRow</a>
  */
@@ -42,6 +46,12 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
     
     private static final DateTimeFormatter DT_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
+    private static final int DATE_TIME_LENGTH = 19;
+    
+    private static final byte[] TRUE_BYTES = {1};
+    
+    private static final byte[] FALSE_BYTES = {0};
+    
     private final int sequenceId;
     
     private final Collection<Object> data;
@@ -60,20 +70,118 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
             if (null == each) {
                 payload.writeInt1(NULL);
             } else {
-                if (each instanceof byte[]) {
-                    payload.writeBytesLenenc((byte[]) each);
-                } else if ((each instanceof Timestamp) && (0 == ((Timestamp) each).getNanos())) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
-                } else if (each instanceof BigDecimal) {
-                    payload.writeStringLenenc(((BigDecimal) each).toPlainString());
-                } else if (each instanceof Boolean) {
-                    payload.writeBytesLenenc((Boolean) each ? new byte[]{1} : new byte[]{0});
-                } else if (each instanceof LocalDateTime) {
-                    payload.writeStringLenenc(DT_FMT.format((LocalDateTime) each));
-                } else {
-                    payload.writeStringLenenc(each.toString());
-                }
+                writeValue(payload, each);
+            }
+        }
+    }
+    
+    private void writeValue(final MySQLPacketPayload payload, final Object value) {
+        if (value instanceof byte[]) {
+            payload.writeBytesLenenc((byte[]) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            writeIntegral(payload, ((Number) value).longValue());
+        } else if (value instanceof Timestamp) {
+            writeTimestamp(payload, (Timestamp) value);
+        } else if (value instanceof BigDecimal) {
+            writeAscii(payload, ((BigDecimal) value).toPlainString());
+        } else if (value instanceof Boolean) {
+            payload.writeBytesLenenc((Boolean) value ? TRUE_BYTES : FALSE_BYTES);
+        } else if (value instanceof LocalDateTime) {
+            writeLocalDateTime(payload, (LocalDateTime) value);
+        } else {
+            payload.writeStringLenenc(value.toString());
+        }
+    }
+    
+    private void writeIntegral(final MySQLPacketPayload payload, final long value) {
+        if (Long.MIN_VALUE == value) {
+            writeAscii(payload, Long.toString(value));
+            return;
+        }
+        long absValue = Math.abs(value);
+        int digitCount = getDigitCount(absValue);
+        ByteBuf byteBuf = payload.getByteBuf();
+        if (value < 0) {
+            payload.writeIntLenenc(digitCount + 1);
+            byteBuf.writeByte('-');
+        } else {
+            payload.writeIntLenenc(digitCount);
+        }
+        writeDigits(byteBuf, absValue, digitCount);
+    }
+    
+    @SuppressWarnings("deprecation")
+    private void writeTimestamp(final MySQLPacketPayload payload, final Timestamp value) {
+        int year = value.getYear() + 1900;
+        if (year < 0 || year > 9999) {
+            payload.writeStringLenenc(0 == value.getNanos() ? value.toString().split("\\.")[0] : value.toString());
+            return;
+        }
+        int nanos = value.getNanos();
+        int fraction = nanos;
+        int fractionDigitCount = 0;
+        if (0 != nanos) {
+            fractionDigitCount = 9;
+            while (0 == fraction % 10) {
+                fraction /= 10;
+                fractionDigitCount--;
             }
         }
+        writeDateTime(payload, year, value.getMonth() + 1, value.getDate(), value.getHours(), value.getMinutes(), value.getSeconds(), fraction, fractionDigitCount);
+    }
+    
+    private void writeLocalDateTime(final MySQLPacketPayload payload, final LocalDateTime value) {
+        if (value.getYear() < 1 || value.getYear() > 9999) {
+            payload.writeStringLenenc(DT_FMT.format(value));
+            return;
+        }
+        writeDateTime(payload, value.getYear(), value.getMonthValue(), value.getDayOfMonth(), value.getHour(), value.getMinute(), value.getSecond(), 0, 0);
+    }
+    
+    private void writeDateTime(final MySQLPacketPayload payload, final int year, final int month, final int day,
+                               final int hour, final int minute, final int second, final int fraction, final int fractionDigitCount) {
+        payload.writeIntLenenc(DATE_TIME_LENGTH + (0 == fractionDigitCount ? 0 : fractionDigitCount + 1));
+        ByteBuf byteBuf = payload.getByteBuf();
+        writeDigits(byteBuf, year, 4);
+        byteBuf.writeByte('-');
+        writeDigits(byteBuf, month, 2);
+        byteBuf.writeByte('-');
+        writeDigits(byteBuf, day, 2);
+        byteBuf.writeByte(' ');
+        writeDigits(byteBuf, hour, 2);
+        byteBuf.writeByte(':');
+        writeDigits(byteBuf, minute, 2);
+        byteBuf.writeByte(':');
+        writeDigits(byteBuf, second, 2);
+        if (0 != fractionDigitCount) {
+            byteBuf.writeByte('.');
+            writeDigits(byteBuf, fraction, fractionDigitCount);
+        }
+    }
+    
+    private void writeAscii(final MySQLPacketPayload payload, final String value) {
+        payload.writeIntLenenc(value.length());
+        payload.getByteBuf().writeCharSequence(value, StandardCharsets.US_ASCII);
+    }
+    
+    private int getDigitCount(final long value) {
+        int result = 1;
+        long bound = 10;
+        while (result < 19 && value >= bound) {
+            result++;
+            bound *= 10;
+        }
+        return result;
+    }
+    
+    private void writeDigits(final ByteBuf byteBuf, final long value, final int digitCount) {
+        byteBuf.ensureWritable(digitCount);
+        int writerIndex = byteBuf.writerIndex();
+        long remaining = value;
+        for (int i = writerIndex + digitCount - 1; i >= writerIndex; i--) {
+            byteBuf.setByte(i, '0' + (int) (remaining % 10));
+            remaining /= 10;
+        }
+        byteBuf.writerIndex(writerIndex + digitCount);
     }
 }
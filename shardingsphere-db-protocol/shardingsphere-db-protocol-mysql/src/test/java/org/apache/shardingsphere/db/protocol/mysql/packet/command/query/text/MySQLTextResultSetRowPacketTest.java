@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
 
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -24,10 +25,12 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -54,36 +57,74 @@ public final class MySQLTextResultSetRowPacketTest {
     public void assertWrite() {
         long now = System.currentTimeMillis();
         Timestamp timestamp = new Timestamp(now);
-        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(1, Arrays.asList(null, "value", BigDecimal.ONE, new byte[]{}, timestamp));
-        actual.write(payload);
-        verify(payload).writeInt1(0xfb);
-        verify(payload).writeStringLenenc("value");
-        verify(payload).writeStringLenenc("1");
-        if (0 == timestamp.getNanos()) {
-            verify(payload).writeStringLenenc(timestamp.toString().split("\\.")[0]);
-        } else {
-            verify(payload).writeStringLenenc(timestamp.toString());
-        }
+        MySQLPacketPayload actual = createPayload();
+        new MySQLTextResultSetRowPacket(1, Arrays.asList(null, "value", BigDecimal.ONE, new byte[]{}, timestamp)).write(actual);
+        MySQLPacketPayload expected = createPayload();
+        expected.writeInt1(0xfb);
+        expected.writeStringLenenc("value");
+        expected.writeStringLenenc("1");
+        expected.writeBytesLenenc(new byte[]{});
+        expected.writeStringLenenc(0 == timestamp.getNanos() ? timestamp.toString().split("\\.")[0] : timestamp.toString());
+        assertThat(actual.getByteBuf(), is(expected.getByteBuf()));
     }
     
     @Test
     public void assertTimestampWithoutNanos() {
         long now = System.currentTimeMillis() / 1000 * 1000;
         Timestamp timestamp = new Timestamp(now);
-        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(1, Arrays.asList(null, "value", BigDecimal.ONE, new byte[]{}, timestamp));
-        actual.write(payload);
-        verify(payload).writeInt1(0xfb);
-        verify(payload).writeStringLenenc("value");
-        verify(payload).writeStringLenenc("1");
-        verify(payload).writeStringLenenc(timestamp.toString().split("\\.")[0]);
+        MySQLPacketPayload actual = createPayload();
+        new MySQLTextResultSetRowPacket(1, Collections.singletonList(timestamp)).write(actual);
+        MySQLPacketPayload expected = createPayload();
+        expected.writeStringLenenc(timestamp.toString().split("\\.")[0]);
+        assertThat(actual.getByteBuf(), is(expected.getByteBuf()));
+    }
+    
+    @Test
+    public void assertTimestampWithNanos() {
+        Timestamp timestamp = Timestamp.valueOf("2021-08-23 07:30:30.012300");
+        MySQLPacketPayload actual = createPayload();
+        new MySQLTextResultSetRowPacket(1, Collections.singletonList(timestamp)).write(actual);
+        MySQLPacketPayload expected = createPayload();
+        expected.writeStringLenenc("2021-08-23 07:30:30.0123");
+        assertThat(actual.getByteBuf(), is(expected.getByteBuf()));
+    }
+    
+    @Test
+    public void assertIntegralNumbers() {
+        MySQLPacketPayload actual = createPayload();
+        new MySQLTextResultSetRowPacket(1, Arrays.asList(0, -1, (short) 10, (byte) -128, Long.MAX_VALUE, Long.MIN_VALUE)).write(actual);
+        MySQLPacketPayload expected = createPayload();
+        expected.writeStringLenenc("0");
+        expected.writeStringLenenc("-1");
+        expected.writeStringLenenc("10");
+        expected.writeStringLenenc("-128");
+        expected.writeStringLenenc(String.valueOf(Long.MAX_VALUE));
+        expected.writeStringLenenc(String.valueOf(Long.MIN_VALUE));
+        assertThat(actual.getByteBuf(), is(expected.getByteBuf()));
+    }
+    
+    @Test
+    public void assertBoolean() {
+        MySQLPacketPayload actual = createPayload();
+        new MySQLTextResultSetRowPacket(1, Arrays.asList(true, false)).write(actual);
+        MySQLPacketPayload expected = createPayload();
+        expected.writeBytesLenenc(new byte[]{1});
+        expected.writeBytesLenenc(new byte[]{0});
+        assertThat(actual.getByteBuf(), is(expected.getByteBuf()));
     }
     
     @Test
     public void assertLocalDateTime() {
         String localDateTimeStr = "2021-08-23T17:30:30";
         LocalDateTime time = LocalDateTime.parse(localDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"));
-        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(1, Arrays.asList(time));
-        actual.write(payload);
-        verify(payload).writeStringLenenc(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(LocalDateTime.parse(localDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"))));
+        MySQLPacketPayload actual = createPayload();
+        new MySQLTextResultSetRowPacket(1, Collections.singletonList(time)).write(actual);
+        MySQLPacketPayload expected = createPayload();
+        expected.writeStringLenenc(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(LocalDateTime.parse(localDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"))));
+        assertThat(actual.getByteBuf(), is(expected.getByteBuf()));
+    }
+    
+    private MySQLPacketPayload createPayload() {
+        return new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
     }
 }
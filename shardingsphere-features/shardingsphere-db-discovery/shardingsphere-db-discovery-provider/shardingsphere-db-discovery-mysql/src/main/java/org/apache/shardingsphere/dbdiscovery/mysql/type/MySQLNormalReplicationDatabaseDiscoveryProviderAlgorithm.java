@@ -30,6 +30,7 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -79,15 +80,22 @@ public final class MySQLNormalReplicationDatabaseDiscoveryProviderAlgorithm impl
         try (
                 Connection connection = replicaDataSource.getConnection();
                 Statement statement = connection.createStatement()) {
-            long replicationDelayMilliseconds = queryReplicationDelayMilliseconds(statement);
-            boolean isDelay = replicationDelayMilliseconds >= Long.parseLong(getProps().getProperty("delay-milliseconds-threshold"));
-            return new ReplicaDataSourceStatus(!isDelay, replicationDelayMilliseconds);
+            Optional<Long> replicationDelayMilliseconds = queryReplicationDelayMilliseconds(statement);
+            if (!replicationDelayMilliseconds.isPresent()) {
+                return new ReplicaDataSourceStatus(false, 0L);
+            }
+            boolean isDelay = replicationDelayMilliseconds.get() >= Long.parseLong(getProps().getProperty("delay-milliseconds-threshold"));
+            return new ReplicaDataSourceStatus(!isDelay, replicationDelayMilliseconds.get());
         }
     }
     
-    private long queryReplicationDelayMilliseconds(final Statement statement) throws SQLException {
+    private Optional<Long> queryReplicationDelayMilliseconds(final Statement statement) throws SQLException {
         try (ResultSet resultSet = statement.executeQuery(SHOW_SLAVE_STATUS)) {
-            return resultSet.next() ? resultSet.getLong("Seconds_Behind_Master") * 1000L : 0L;
+            if (!resultSet.next()) {
+                return Optional.of(0L);
+            }
+            long result = resultSet.getLong("Seconds_Behind_Master") * 1000L;
+            return resultSet.wasNull() ? Optional.empty() : Optional.of(result);
         }
     }
     
@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.dbdiscovery.mysql.type;
 
+import org.apache.shardingsphere.dbdiscovery.spi.ReplicaDataSourceStatus;
 import org.junit.Test;
 
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -40,6 +44,28 @@ public final class MySQLNormalReplicationDatabaseDiscoveryProviderAlgorithmTest
         assertTrue(new MySQLNormalReplicationDatabaseDiscoveryProviderAlgorithm().isPrimaryInstance(mockDataSource()));
     }
     
+    @Test
+    public void assertLoadReplicaStatus() throws SQLException {
+        DataSource dataSource = mockDataSource();
+        ResultSet resultSet = dataSource.getConnection().createStatement().executeQuery("SHOW SLAVE STATUS");
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(2L);
+        MySQLNormalReplicationDatabaseDiscoveryProviderAlgorithm algorithm = new MySQLNormalReplicationDatabaseDiscoveryProviderAlgorithm();
+        algorithm.getProps().setProperty("delay-milliseconds-threshold", "10000");
+        ReplicaDataSourceStatus actual = algorithm.loadReplicaStatus(dataSource);
+        assertTrue(actual.isOnline());
+        assertThat(actual.getReplicationDelayMilliseconds(), is(2000L));
+    }
+    
+    @Test
+    public void assertLoadReplicaStatusWithReplicationStopped() throws SQLException {
+        DataSource dataSource = mockDataSource();
+        ResultSet resultSet = dataSource.getConnection().createStatement().executeQuery("SHOW SLAVE STATUS");
+        when(resultSet.wasNull()).thenReturn(true);
+        MySQLNormalReplicationDatabaseDiscoveryProviderAlgorithm algorithm = new MySQLNormalReplicationDatabaseDiscoveryProviderAlgorithm();
+        algorithm.getProps().setProperty("delay-milliseconds-threshold", "10000");
+        assertFalse(algorithm.loadReplicaStatus(dataSource).isOnline());
+    }
+    
     private DataSource mockDataSource() throws SQLException {
         DataSource result = mock(DataSource.class, RETURNS_DEEP_STUBS);
         ResultSet resultSet = mock(ResultSet.class);
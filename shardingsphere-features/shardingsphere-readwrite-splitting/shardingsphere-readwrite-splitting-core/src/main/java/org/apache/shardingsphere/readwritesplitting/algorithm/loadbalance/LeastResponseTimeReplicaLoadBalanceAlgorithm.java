@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.datasource.latency.ResponseTimeStatistics;
+import org.apache.shardingsphere.infra.datasource.latency.ResponseTimeStatisticsAware;
+import org.apache.shardingsphere.infra.datasource.latency.ResponseTimeStatisticsRegistry;
+import org.apache.shardingsphere.readwritesplitting.spi.ReplicaLoadBalanceAlgorithm;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Least response time replica load-balance algorithm.
+ * 
+ * <p>Picks two replicas at random and chooses the one with the lower product of EWMA response time and in-flight requests.
+ * Replicas are registered for response time statistics of the database once they are picked.</p>
+ */
+public final class LeastResponseTimeReplicaLoadBalanceAlgorithm implements ReplicaLoadBalanceAlgorithm, ResponseTimeStatisticsAware {
+    
+    private volatile String databaseName;
+    
+    @Override
+    public void setResponseTimeStatisticsScope(final String scope) {
+        databaseName = scope;
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        int size = readDataSourceNames.size();
+        if (1 == size) {
+            return readDataSourceNames.get(0);
+        }
+        int first = ThreadLocalRandom.current().nextInt(size);
+        int second = ThreadLocalRandom.current().nextInt(size - 1);
+        String firstDataSourceName = readDataSourceNames.get(first);
+        String secondDataSourceName = readDataSourceNames.get(second >= first ? second + 1 : second);
+        return getScore(firstDataSourceName) <= getScore(secondDataSourceName) ? firstDataSourceName : secondDataSourceName;
+    }
+    
+    private double getScore(final String dataSourceName) {
+        if (null == databaseName) {
+            return 0D;
+        }
+        ResponseTimeStatisticsRegistry registry = ResponseTimeStatisticsRegistry.getInstance();
+        ResponseTimeStatistics statistics = registry.findStatistics(databaseName, dataSourceName).orElseGet(() -> registry.register(databaseName, dataSourceName));
+        return statistics.getScore();
+    }
+    
+    @Override
+    public String getType() {
+        return "LEAST_RESPONSE_TIME";
+    }
+}
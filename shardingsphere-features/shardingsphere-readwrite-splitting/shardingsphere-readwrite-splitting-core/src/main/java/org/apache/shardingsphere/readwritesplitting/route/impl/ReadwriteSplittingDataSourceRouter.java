@@ -27,6 +27,9 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Data source router for readwrite-splitting.
  */
@@ -45,10 +48,22 @@ public final class ReadwriteSplittingDataSourceRouter {
         if (isPrimaryRoute(sqlStatementContext)) {
             return rule.getReadwriteSplittingType().getWriteDataSource();
         }
-        if (1 == rule.getReadDataSourceNames().size()) {
-            return rule.getReadDataSourceNames().get(0);
+        List<String> readDataSourceNames = rule.getReadDataSourceNames(getMaxReplicationDelayMilliseconds(sqlStatementContext));
+        if (readDataSourceNames.isEmpty()) {
+            return rule.getWriteDataSource();
+        }
+        if (1 == readDataSourceNames.size()) {
+            return readDataSourceNames.get(0);
+        }
+        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), readDataSourceNames);
+    }
+    
+    private long getMaxReplicationDelayMilliseconds(final SQLStatementContext<?> sqlStatementContext) {
+        Optional<Long> result = HintManager.findMaxReplicationDelayMilliseconds();
+        if (!result.isPresent() && sqlStatementContext instanceof CommonSQLStatementContext) {
+            result = ((CommonSQLStatementContext<?>) sqlStatementContext).findHintMaxReplicationDelayMilliseconds();
         }
-        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), rule.getReadDataSourceNames());
+        return result.orElseGet(rule::getMaxReplicationDelayMilliseconds);
     }
     
     private boolean isPrimaryRoute(final SQLStatementContext<?> sqlStatementContext) {
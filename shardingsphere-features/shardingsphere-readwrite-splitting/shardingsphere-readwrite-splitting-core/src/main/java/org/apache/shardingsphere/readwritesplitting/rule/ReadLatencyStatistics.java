@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.rule;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Read latency statistics in a sliding window.
+ */
+public final class ReadLatencyStatistics {
+    
+    private static final int WINDOW_SIZE = 128;
+    
+    private static final int MIN_SAMPLE_SIZE = 16;
+    
+    private final long[] samples = new long[WINDOW_SIZE];
+    
+    private int count;
+    
+    private int nextIndex;
+    
+    /**
+     * Record latency.
+     *
+     * @param latencyMillis latency milliseconds
+     */
+    public synchronized void record(final long latencyMillis) {
+        samples[nextIndex] = latencyMillis;
+        nextIndex = (nextIndex + 1) % WINDOW_SIZE;
+        if (count < WINDOW_SIZE) {
+            count++;
+        }
+    }
+    
+    /**
+     * Find latency percentile.
+     *
+     * @param percentile percentile, between 0 and 100
+     * @return latency milliseconds of percentile, empty if not enough samples
+     */
+    public Optional<Long> findPercentile(final double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            if (count < MIN_SAMPLE_SIZE) {
+                return Optional.empty();
+            }
+            sorted = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return Optional.of(sorted[Math.min(Math.max(index, 0), sorted.length - 1)]);
+    }
+}
@@ -29,12 +29,15 @@ import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingD
 import org.apache.shardingsphere.readwritesplitting.spi.ReadwriteSplittingType;
 import org.apache.shardingsphere.readwritesplitting.spi.ReplicaLoadBalanceAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +46,10 @@ import java.util.stream.Collectors;
 @Getter
 public final class ReadwriteSplittingDataSourceRule {
     
+    private static final String HEDGED_READ_PERCENTILE_KEY = "hedged-read-percentile";
+    
+    private static final String MAX_REPLICATION_DELAY_MILLISECONDS_KEY = "max-replication-delay-milliseconds";
+    
     private final String name;
     
     private final ReadwriteSplittingType readwriteSplittingType;
@@ -52,11 +59,25 @@ public final class ReadwriteSplittingDataSourceRule {
     @Getter(AccessLevel.NONE)
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
+    private final double hedgedReadPercentile;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, ReadLatencyStatistics> readLatencyStatistics = new ConcurrentHashMap<>();
+    
+    private final long maxReplicationDelayMilliseconds;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Long> replicationDelayMilliseconds = new ConcurrentHashMap<>();
+    
     public ReadwriteSplittingDataSourceRule(final ReadwriteSplittingDataSourceRuleConfiguration config, final ReplicaLoadBalanceAlgorithm loadBalancer) {
         Preconditions.checkArgument(!Strings.isNullOrEmpty(config.getName()), "Name is required.");
         name = config.getName();
         readwriteSplittingType = ShardingSphereAlgorithmFactory.createAlgorithm(new ShardingSphereAlgorithmConfiguration(config.getType(), config.getProps()), ReadwriteSplittingType.class);
         this.loadBalancer = loadBalancer;
+        hedgedReadPercentile = Double.parseDouble(config.getProps().getProperty(HEDGED_READ_PERCENTILE_KEY, "0"));
+        Preconditions.checkArgument(hedgedReadPercentile >= 0 && hedgedReadPercentile < 100, "Hedged read percentile must be in [0, 100).");
+        maxReplicationDelayMilliseconds = Long.parseLong(config.getProps().getProperty(MAX_REPLICATION_DELAY_MILLISECONDS_KEY, String.valueOf(Long.MAX_VALUE)));
+        Preconditions.checkArgument(maxReplicationDelayMilliseconds >= 0, "Max replication delay milliseconds can not be negative.");
     }
     
     /**
@@ -71,10 +92,68 @@ public final class ReadwriteSplittingDataSourceRule {
     /**
      * Get read data source names.
      *
-     * @return available read data source names
+     * @return available read data source names within configured max replication delay
      */
     public List<String> getReadDataSourceNames() {
-        return readwriteSplittingType.getReadDataSources().stream().filter(each -> !disabledDataSourceNames.contains(each)).collect(Collectors.toList());
+        return getReadDataSourceNames(maxReplicationDelayMilliseconds);
+    }
+    
+    /**
+     * Get read data source names.
+     *
+     * @param maxReplicationDelayMilliseconds max replication delay milliseconds
+     * @return available read data source names within max replication delay
+     */
+    public List<String> getReadDataSourceNames(final long maxReplicationDelayMilliseconds) {
+        return readwriteSplittingType.getReadDataSources().stream()
+                .filter(each -> !disabledDataSourceNames.contains(each) && replicationDelayMilliseconds.getOrDefault(each, 0L) <= maxReplicationDelayMilliseconds).collect(Collectors.toList());
+    }
+    
+    /**
+     * Judge whether hedged read is enabled.
+     *
+     * @return hedged read is enabled or not
+     */
+    public boolean isHedgedReadEnabled() {
+        return hedgedReadPercentile > 0;
+    }
+    
+    /**
+     * Find hedged data source name.
+     *
+     * @param readDataSourceName read data source name which read routed to
+     * @return another available read data source name selected by load balancer
+     */
+    public Optional<String> findHedgedDataSourceName(final String readDataSourceName) {
+        if (!isHedgedReadEnabled()) {
+            return Optional.empty();
+        }
+        List<String> candidates = new ArrayList<>(getReadDataSourceNames());
+        if (!candidates.remove(readDataSourceName) || candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(1 == candidates.size() ? candidates.get(0) : loadBalancer.getDataSource(name, getWriteDataSource(), candidates));
+    }
+    
+    /**
+     * Find hedged read delay milliseconds.
+     *
+     * @param readDataSourceName read data source name which read routed to
+     * @return latency of configured percentile on read data source, empty if not enough samples
+     */
+    public Optional<Long> findHedgedReadDelayMillis(final String readDataSourceName) {
+        ReadLatencyStatistics statistics = readLatencyStatistics.get(readDataSourceName);
+        return null == statistics ? Optional.empty() : statistics.findPercentile(hedgedReadPercentile);
+    }
+    
+    /**
+     * Record read latency.
+     *
+     * @param readDataSourceName read data source name
+     * @param latencyMillis latency milliseconds
+     */
+    public void recordReadLatency(final String readDataSourceName, final long latencyMillis) {
+        readLatencyStatistics.computeIfAbsent(readDataSourceName, key -> new ReadLatencyStatistics()).record(latencyMillis);
     }
     
     /**
@@ -91,6 +170,16 @@ public final class ReadwriteSplittingDataSourceRule {
         }
     }
     
+    /**
+     * Update replication delay milliseconds.
+     *
+     * @param dataSourceName data source name
+     * @param replicationDelayMilliseconds replication delay milliseconds
+     */
+    public void updateReplicationDelayMilliseconds(final String dataSourceName, final long replicationDelayMilliseconds) {
+        this.replicationDelayMilliseconds.put(dataSourceName, replicationDelayMilliseconds);
+    }
+    
     /**
      * Get data source mapper.
      *
@@ -19,12 +19,15 @@ package org.apache.shardingsphere.readwritesplitting.rule;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import org.apache.shardingsphere.infra.datasource.latency.ResponseTimeStatisticsAware;
 import org.apache.shardingsphere.infra.distsql.constant.ExportableConstants;
 import org.apache.shardingsphere.infra.rule.event.DataSourceStatusChangedEvent;
 import org.apache.shardingsphere.infra.rule.event.impl.DataSourceNameDisabledEvent;
+import org.apache.shardingsphere.infra.rule.event.impl.DataSourceReplicationDelayChangedEvent;
 import org.apache.shardingsphere.infra.rule.identifier.scope.SchemaRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.ExportableRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.HedgedReadRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.StatusContainedRule;
 import org.apache.shardingsphere.readwritesplitting.algorithm.DynamicReadwriteSplittingType;
 import org.apache.shardingsphere.readwritesplitting.algorithm.config.AlgorithmProvidedReadwriteSplittingRuleConfiguration;
@@ -48,7 +51,7 @@ import java.util.function.Supplier;
 /**
  * Readwrite-splitting rule.
  */
-public final class ReadwriteSplittingRule implements SchemaRule, DataSourceContainedRule, StatusContainedRule, ExportableRule {
+public final class ReadwriteSplittingRule implements SchemaRule, DataSourceContainedRule, StatusContainedRule, ExportableRule, HedgedReadRule {
     
     static {
         ShardingSphereServiceLoader.register(ReadwriteSplittingType.class);
@@ -62,7 +65,7 @@ public final class ReadwriteSplittingRule implements SchemaRule, DataSourceConta
     
     private final Map<String, ReadwriteSplittingDataSourceRule> dataSourceRules;
     
-    public ReadwriteSplittingRule(final ReadwriteSplittingRuleConfiguration ruleConfig) {
+    public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig) {
         Preconditions.checkArgument(!ruleConfig.getDataSources().isEmpty(), "Replica query data source rules can not be empty.");
         ruleConfig.getLoadBalancers().forEach((key, value) -> loadBalancers.put(key, ReplicaLoadBalanceAlgorithmFactory.newInstance(value)));
         dataSourceRules = new HashMap<>(ruleConfig.getDataSources().size(), 1);
@@ -71,11 +74,14 @@ public final class ReadwriteSplittingRule implements SchemaRule, DataSourceConta
             ReplicaLoadBalanceAlgorithm loadBalanceAlgorithm = Strings.isNullOrEmpty(each.getLoadBalancerName()) || !loadBalancers.containsKey(each.getLoadBalancerName())
                     ? ReplicaLoadBalanceAlgorithmFactory.newInstance()
                     : loadBalancers.get(each.getLoadBalancerName());
+            if (loadBalanceAlgorithm instanceof ResponseTimeStatisticsAware) {
+                ((ResponseTimeStatisticsAware) loadBalanceAlgorithm).setResponseTimeStatisticsScope(databaseName);
+            }
             dataSourceRules.put(each.getName(), new ReadwriteSplittingDataSourceRule(each, loadBalanceAlgorithm));
         }
     }
     
-    public ReadwriteSplittingRule(final AlgorithmProvidedReadwriteSplittingRuleConfiguration ruleConfig) {
+    public ReadwriteSplittingRule(final String databaseName, final AlgorithmProvidedReadwriteSplittingRuleConfiguration ruleConfig) {
         Preconditions.checkArgument(!ruleConfig.getDataSources().isEmpty(), "Replica query data source rules can not be empty.");
         loadBalancers.putAll(ruleConfig.getLoadBalanceAlgorithms());
         dataSourceRules = new HashMap<>(ruleConfig.getDataSources().size(), 1);
@@ -84,6 +90,9 @@ public final class ReadwriteSplittingRule implements SchemaRule, DataSourceConta
             ReplicaLoadBalanceAlgorithm loadBalanceAlgorithm = Strings.isNullOrEmpty(each.getLoadBalancerName()) || !loadBalancers.containsKey(each.getLoadBalancerName())
                     ? ReplicaLoadBalanceAlgorithmFactory.newInstance()
                     : loadBalancers.get(each.getLoadBalancerName());
+            if (loadBalanceAlgorithm instanceof ResponseTimeStatisticsAware) {
+                ((ResponseTimeStatisticsAware) loadBalanceAlgorithm).setResponseTimeStatisticsScope(databaseName);
+            }
             dataSourceRules.put(each.getName(), new ReadwriteSplittingDataSourceRule(each, loadBalanceAlgorithm));
         }
     }
@@ -123,9 +132,38 @@ public final class ReadwriteSplittingRule implements SchemaRule, DataSourceConta
                 entry.getValue().updateDisabledDataSourceNames(((DataSourceNameDisabledEvent) event).getQualifiedDatabase().getDataSourceName(),
                         ((DataSourceNameDisabledEvent) event).isDisabled());
             }
+        } else if (event instanceof DataSourceReplicationDelayChangedEvent) {
+            for (Entry<String, ReadwriteSplittingDataSourceRule> entry : dataSourceRules.entrySet()) {
+                entry.getValue().updateReplicationDelayMilliseconds(((DataSourceReplicationDelayChangedEvent) event).getQualifiedDatabase().getDataSourceName(),
+                        ((DataSourceReplicationDelayChangedEvent) event).getReplicationDelayMilliseconds());
+            }
         }
     }
     
+    @Override
+    public boolean isHedgedReadEnabled() {
+        return dataSourceRules.values().stream().anyMatch(ReadwriteSplittingDataSourceRule::isHedgedReadEnabled);
+    }
+    
+    @Override
+    public Optional<String> findHedgedDataSourceName(final String dataSourceName) {
+        return findHedgedReadDataSourceRule(dataSourceName).flatMap(optional -> optional.findHedgedDataSourceName(dataSourceName));
+    }
+    
+    @Override
+    public Optional<Long> findHedgedReadDelayMillis(final String dataSourceName) {
+        return findHedgedReadDataSourceRule(dataSourceName).flatMap(optional -> optional.findHedgedReadDelayMillis(dataSourceName));
+    }
+    
+    @Override
+    public void recordReadLatency(final String dataSourceName, final long latencyMillis) {
+        findHedgedReadDataSourceRule(dataSourceName).ifPresent(optional -> optional.recordReadLatency(dataSourceName, latencyMillis));
+    }
+    
+    private Optional<ReadwriteSplittingDataSourceRule> findHedgedReadDataSourceRule(final String readDataSourceName) {
+        return dataSourceRules.values().stream().filter(each -> each.isHedgedReadEnabled() && each.getReadwriteSplittingType().getReadDataSources().contains(readDataSourceName)).findFirst();
+    }
+    
     @Override
     public Map<String, Supplier<Object>> getExportedMethods() {
         Map<String, Supplier<Object>> result = new HashMap<>(4, 1);
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.datasource.latency.ResponseTimeStatisticsRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LeastResponseTimeReplicaLoadBalanceAlgorithmTest {
+    
+    private static final String DATABASE_NAME = "least_response_time_db";
+    
+    private final LeastResponseTimeReplicaLoadBalanceAlgorithm leastResponseTimeReplicaLoadBalanceAlgorithm = new LeastResponseTimeReplicaLoadBalanceAlgorithm();
+    
+    @Before
+    public void setUp() {
+        leastResponseTimeReplicaLoadBalanceAlgorithm.setResponseTimeStatisticsScope(DATABASE_NAME);
+    }
+    
+    @Test
+    public void assertGetDataSourceWithSingleReadDataSource() {
+        assertThat(leastResponseTimeReplicaLoadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Collections.singletonList("test_replica_ds")), is("test_replica_ds"));
+        assertFalse(ResponseTimeStatisticsRegistry.getInstance().findStatistics(DATABASE_NAME, "test_replica_ds").isPresent());
+    }
+    
+    @Test
+    public void assertGetDataSourceWithLessLoadedReadDataSource() {
+        String busyDataSourceName = "least_response_time_busy_replica_ds";
+        String idleDataSourceName = "least_response_time_idle_replica_ds";
+        for (int i = 0; i < 10; i++) {
+            ResponseTimeStatisticsRegistry.getInstance().register(DATABASE_NAME, busyDataSourceName).begin();
+        }
+        for (int i = 0; i < 10; i++) {
+            assertThat(leastResponseTimeReplicaLoadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Arrays.asList(busyDataSourceName, idleDataSourceName)), is(idleDataSourceName));
+        }
+        assertTrue(ResponseTimeStatisticsRegistry.getInstance().findStatistics(DATABASE_NAME, idleDataSourceName).isPresent());
+    }
+    
+    @Test
+    public void assertGetDataSourceIgnoreLoadOfOtherDatabase() {
+        String busyDataSourceName = "least_response_time_other_busy_replica_ds";
+        String idleDataSourceName = "least_response_time_other_idle_replica_ds";
+        for (int i = 0; i < 10; i++) {
+            ResponseTimeStatisticsRegistry.getInstance().register("other_db", idleDataSourceName).begin();
+            ResponseTimeStatisticsRegistry.getInstance().register(DATABASE_NAME, busyDataSourceName).begin();
+        }
+        for (int i = 0; i < 10; i++) {
+            assertThat(leastResponseTimeReplicaLoadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Arrays.asList(busyDataSourceName, idleDataSourceName)), is(idleDataSourceName));
+        }
+    }
+    
+    @Test
+    public void assertGetType() {
+        assertThat(leastResponseTimeReplicaLoadBalanceAlgorithm.getType(), is("LEAST_RESPONSE_TIME"));
+    }
+}
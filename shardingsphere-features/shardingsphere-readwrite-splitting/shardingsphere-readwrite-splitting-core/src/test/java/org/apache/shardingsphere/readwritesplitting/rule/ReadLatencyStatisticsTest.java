@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.rule;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class ReadLatencyStatisticsTest {
+    
+    @Test
+    public void assertFindPercentileWithoutEnoughSamples() {
+        ReadLatencyStatistics statistics = new ReadLatencyStatistics();
+        statistics.record(10L);
+        assertFalse(statistics.findPercentile(95).isPresent());
+    }
+    
+    @Test
+    public void assertFindPercentile() {
+        ReadLatencyStatistics statistics = new ReadLatencyStatistics();
+        for (long i = 100; i > 0; i--) {
+            statistics.record(i);
+        }
+        assertThat(statistics.findPercentile(50), is(Optional.of(50L)));
+        assertThat(statistics.findPercentile(99), is(Optional.of(99L)));
+    }
+    
+    @Test
+    public void assertFindPercentileWithSlidingWindow() {
+        ReadLatencyStatistics statistics = new ReadLatencyStatistics();
+        for (int i = 0; i < 128; i++) {
+            statistics.record(1000L);
+        }
+        for (int i = 0; i < 128; i++) {
+            statistics.record(1L);
+        }
+        assertThat(statistics.findPercentile(99), is(Optional.of(1L)));
+    }
+}
@@ -31,10 +31,13 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ReadwriteSplittingDataSourceRuleTest {
     
@@ -90,6 +93,25 @@ public final class ReadwriteSplittingDataSourceRuleTest {
         assertThat(readwriteSplittingDataSourceRule.getReadDataSourceNames(), is(Arrays.asList("read_ds_0", "read_ds_1")));
     }
     
+    @Test
+    public void assertGetReadDataSourceNamesWithReplicationDelay() {
+        Properties props = getProperties("write_ds", "read_ds_0,read_ds_1");
+        props.setProperty("max-replication-delay-milliseconds", "1000");
+        ReadwriteSplittingDataSourceRule dataSourceRule = new ReadwriteSplittingDataSourceRule(
+                new ReadwriteSplittingDataSourceRuleConfiguration("test_pr", "Static", props, ""), new RandomReplicaLoadBalanceAlgorithm());
+        dataSourceRule.updateReplicationDelayMilliseconds("read_ds_0", 3000L);
+        assertThat(dataSourceRule.getReadDataSourceNames(), is(Collections.singletonList("read_ds_1")));
+        assertThat(dataSourceRule.getReadDataSourceNames(5000L), is(Arrays.asList("read_ds_0", "read_ds_1")));
+        dataSourceRule.updateReplicationDelayMilliseconds("read_ds_0", 0L);
+        assertThat(dataSourceRule.getReadDataSourceNames(), is(Arrays.asList("read_ds_0", "read_ds_1")));
+    }
+    
+    @Test
+    public void assertGetReadDataSourceNamesWithoutMaxReplicationDelay() {
+        readwriteSplittingDataSourceRule.updateReplicationDelayMilliseconds("read_ds_0", 3000L);
+        assertThat(readwriteSplittingDataSourceRule.getReadDataSourceNames(), is(Arrays.asList("read_ds_0", "read_ds_1")));
+    }
+    
     @Test
     public void assertGetDataSourceMapper() {
         Map<String, Collection<String>> actual = readwriteSplittingDataSourceRule.getDataSourceMapper();
@@ -114,6 +136,45 @@ public final class ReadwriteSplittingDataSourceRuleTest {
         assertThat(dataSourcesByRemoveDisabled.get(ExportableConstants.REPLICA_DATA_SOURCE_NAMES), is("read_ds_1"));
     }
     
+    @Test
+    public void assertFindHedgedDataSourceNameWithoutHedgedReadEnabled() {
+        assertFalse(readwriteSplittingDataSourceRule.isHedgedReadEnabled());
+        assertFalse(readwriteSplittingDataSourceRule.findHedgedDataSourceName("read_ds_0").isPresent());
+    }
+    
+    @Test
+    public void assertFindHedgedDataSourceName() {
+        ReadwriteSplittingDataSourceRule dataSourceRule = createHedgedReadDataSourceRule();
+        assertTrue(dataSourceRule.isHedgedReadEnabled());
+        assertThat(dataSourceRule.findHedgedDataSourceName("read_ds_0"), is(Optional.of("read_ds_1")));
+        assertFalse(dataSourceRule.findHedgedDataSourceName("write_ds").isPresent());
+        dataSourceRule.updateDisabledDataSourceNames("read_ds_1", true);
+        assertFalse(dataSourceRule.findHedgedDataSourceName("read_ds_0").isPresent());
+    }
+    
+    @Test
+    public void assertFindHedgedReadDelayMillis() {
+        ReadwriteSplittingDataSourceRule dataSourceRule = createHedgedReadDataSourceRule();
+        assertFalse(dataSourceRule.findHedgedReadDelayMillis("read_ds_0").isPresent());
+        for (long i = 1; i <= 100; i++) {
+            dataSourceRule.recordReadLatency("read_ds_0", i);
+        }
+        assertThat(dataSourceRule.findHedgedReadDelayMillis("read_ds_0"), is(Optional.of(95L)));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewReadwriteSplittingDataSourceRuleWithInvalidHedgedReadPercentile() {
+        Properties props = getProperties("write_ds", "read_ds_0,read_ds_1");
+        props.setProperty("hedged-read-percentile", "100");
+        new ReadwriteSplittingDataSourceRule(new ReadwriteSplittingDataSourceRuleConfiguration("test_pr", "Static", props, ""), new RoundRobinReplicaLoadBalanceAlgorithm());
+    }
+    
+    private ReadwriteSplittingDataSourceRule createHedgedReadDataSourceRule() {
+        Properties props = getProperties("write_ds", "read_ds_0,read_ds_1");
+        props.setProperty("hedged-read-percentile", "95");
+        return new ReadwriteSplittingDataSourceRule(new ReadwriteSplittingDataSourceRuleConfiguration("test_pr", "Static", props, ""), new RoundRobinReplicaLoadBalanceAlgorithm());
+    }
+    
     private Properties getProperties(final String writeDataSource, final String readDataSources) {
         Properties result = new Properties();
         result.setProperty("write-data-source-name", writeDataSource);
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>
+ * Recognize common shapes of inline sharding expression, such as {@code t_order_${order_id % 4}}, {@code t_order_${order_id.hashCode() % 4}},
+ * {@code t_order_${Math.abs(order_id.hashCode()) % 4}} and {@code t_order_${order_id}}, and evaluate them without groovy.
+ * The evaluation returns empty if values are not supported, and caller should fall back to groovy to keep the original semantics.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("^\\s*(\\w+)\\s*$");
+    
+    private static final Pattern MOD_PATTERN = Pattern.compile("^\\s*(\\w+)\\s*%\\s*(\\d+)\\s*$");
+    
+    private static final Pattern HASH_CODE_MOD_PATTERN = Pattern.compile("^\\s*(\\w+)\\.hashCode\\(\\)\\s*%\\s*(\\d+)\\s*$");
+    
+    private static final Pattern ABS_HASH_CODE_MOD_PATTERN = Pattern.compile("^\\s*Math\\.abs\\(\\s*(\\w+)\\.hashCode\\(\\)\\s*\\)\\s*%\\s*(\\d+)\\s*$");
+    
+    private final Collection<ExpressionSegment> segments;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $} place holder
+     * @return compiled inline expression, empty if expression is not recognized
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<ExpressionSegment> result = new ArrayList<>();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            int start = inlineExpression.indexOf("${", index);
+            String literal = -1 == start ? inlineExpression.substring(index) : inlineExpression.substring(index, start);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            if (!literal.isEmpty()) {
+                result.add(new LiteralSegment(literal));
+            }
+            if (-1 == start) {
+                break;
+            }
+            int end = inlineExpression.indexOf('}', start);
+            if (-1 == end) {
+                return Optional.empty();
+            }
+            Optional<ExpressionSegment> segment = compileSegment(inlineExpression.substring(start + 2, end));
+            if (!segment.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(segment.get());
+            index = end + 1;
+        }
+        return Optional.of(new CompiledInlineExpression(result));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return -1 == literal.indexOf('$') && -1 == literal.indexOf('\\') && -1 == literal.indexOf('"') && -1 == literal.indexOf('{') && -1 == literal.indexOf('}');
+    }
+    
+    private static Optional<ExpressionSegment> compileSegment(final String expression) {
+        Matcher matcher = VARIABLE_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return Optional.of(new VariableSegment(matcher.group(1)));
+        }
+        matcher = MOD_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return Optional.of(new ModSegment(matcher.group(1), parseDivisor(expression, matcher.group(2))));
+        }
+        matcher = HASH_CODE_MOD_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return Optional.of(new HashCodeModSegment(matcher.group(1), parseDivisor(expression, matcher.group(2)), false));
+        }
+        matcher = ABS_HASH_CODE_MOD_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return Optional.of(new HashCodeModSegment(matcher.group(1), parseDivisor(expression, matcher.group(2)), true));
+        }
+        return Optional.empty();
+    }
+    
+    private static long parseDivisor(final String expression, final String divisor) {
+        BigInteger result = new BigInteger(divisor);
+        Preconditions.checkArgument(result.signum() > 0 && result.bitLength() < Long.SIZE, "Divisor of inline expression `%s` must be a positive long value.", expression);
+        return result.longValue();
+    }
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param variables variables
+     * @return evaluated result, empty if any value is not supported by compiled expression
+     */
+    public Optional<String> evaluate(final Map<String, ?> variables) {
+        StringBuilder result = new StringBuilder();
+        for (ExpressionSegment each : segments) {
+            if (!each.append(result, variables)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private static boolean isIntegralValue(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private interface ExpressionSegment {
+        
+        boolean append(StringBuilder builder, Map<String, ?> variables);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralSegment implements ExpressionSegment {
+        
+        private final String literal;
+        
+        @Override
+        public boolean append(final StringBuilder builder, final Map<String, ?> variables) {
+            builder.append(literal);
+            return true;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class VariableSegment implements ExpressionSegment {
+        
+        private final String variableName;
+        
+        @Override
+        public boolean append(final StringBuilder builder, final Map<String, ?> variables) {
+            Object value = variables.get(variableName);
+            if (value instanceof String || isIntegralValue(value)) {
+                builder.append(value);
+                return true;
+            }
+            return false;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ModSegment implements ExpressionSegment {
+        
+        private final String variableName;
+        
+        private final long divisor;
+        
+        @Override
+        public boolean append(final StringBuilder builder, final Map<String, ?> variables) {
+            Object value = variables.get(variableName);
+            if (!isIntegralValue(value) || 0 == divisor) {
+                return false;
+            }
+            builder.append(((Number) value).longValue() % divisor);
+            return true;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class HashCodeModSegment implements ExpressionSegment {
+        
+        private final String variableName;
+        
+        private final long divisor;
+        
+        private final boolean absolute;
+        
+        @Override
+        public boolean append(final StringBuilder builder, final Map<String, ?> variables) {
+            Object value = variables.get(variableName);
+            if (!(value instanceof String || isIntegralValue(value)) || 0 == divisor) {
+                return false;
+            }
+            int hashCode = absolute ? Math.abs(value.hashCode()) : value.hashCode();
+            builder.append(hashCode % divisor);
+            return true;
+        }
+    }
+}
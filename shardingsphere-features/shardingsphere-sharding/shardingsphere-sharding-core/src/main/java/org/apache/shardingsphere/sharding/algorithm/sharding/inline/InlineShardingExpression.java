@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.expr.InlineExpressionParser;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Inline sharding expression.
+ * 
+ * <p>Evaluate by compiled inline expression if possible, otherwise fall back to groovy closure which is cached per thread.</p>
+ */
+public final class InlineShardingExpression {
+    
+    private final String inlineExpression;
+    
+    private final CompiledInlineExpression compiledExpression;
+    
+    private final ThreadLocal<Closure<?>> closure = ThreadLocal.withInitial(this::createClosure);
+    
+    public InlineShardingExpression(final String inlineExpression) {
+        this.inlineExpression = inlineExpression;
+        compiledExpression = CompiledInlineExpression.compile(inlineExpression).orElse(null);
+    }
+    
+    /**
+     * Evaluate inline sharding expression.
+     *
+     * @param variables variables
+     * @return evaluated result
+     */
+    public String evaluate(final Map<String, ?> variables) {
+        if (null != compiledExpression) {
+            Optional<String> result = compiledExpression.evaluate(variables);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        Closure<?> closure = this.closure.get();
+        ((Expando) closure.getDelegate()).getProperties().clear();
+        for (Entry<String, ?> entry : variables.entrySet()) {
+            closure.setProperty(entry.getKey(), entry.getValue());
+        }
+        return closure.call().toString();
+    }
+    
+    private Closure<?> createClosure() {
+        Closure<?> result = new InlineExpressionParser(inlineExpression).evaluateClosure().rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        return result;
+    }
+}
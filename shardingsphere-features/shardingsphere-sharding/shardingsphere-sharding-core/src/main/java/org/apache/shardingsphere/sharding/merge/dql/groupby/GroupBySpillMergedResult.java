@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.collect.Iterators;
+import com.google.common.hash.Hashing;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.GroupByMemoryBudget;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFile;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillQueryResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Merged result for group by which spills to temp files when memory budget is exceeded.
+ * 
+ * <p>Once memory budget is exceeded, rows of groups which are not in memory are partitioned by hash of group by value and spilled to temp files.
+ * Groups in memory and groups of each partition are aggregated and sorted into runs one by one, then the sorted runs are merged while iterating.
+ * At most 64 runs are opened at the same time, more runs are merged into bigger runs beforehand.
+ * Reserved memory and temp files are released once the result is exhausted or closed.</p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int MAX_SPILL_DEPTH = 3;
+    
+    private static final int MAX_MERGE_RUNS = 64;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final GroupByMemoryBudget memoryBudget;
+    
+    private final boolean approximateCountDistinct;
+    
+    private final QueryResultMetaData metaData;
+    
+    private final int columnCount;
+    
+    private final Comparator<MemoryQueryResultRow> rowComparator;
+    
+    private final Collection<SpillFile> spillFiles = new LinkedList<>();
+    
+    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    private MemoryQueryResultRow currentResultSetRow;
+    
+    private boolean wasNull;
+    
+    private boolean closed;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final GroupByMemoryBudget memoryBudget) throws SQLException {
+        this(queryResults, selectStatementContext, schema, memoryBudget, false);
+    }
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final GroupByMemoryBudget memoryBudget, final boolean approximateCountDistinct) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.memoryBudget = memoryBudget;
+        this.approximateCountDistinct = approximateCountDistinct;
+        metaData = queryResults.get(0).getMetaData();
+        columnCount = metaData.getColumnCount();
+        rowComparator = new GroupByRowComparator(selectStatementContext, new GroupByHashAggregator(selectStatementContext).getValueCaseSensitive(queryResults.get(0), schema));
+        boolean merged = false;
+        try {
+            memoryResultSetRows = merge(queryResults);
+            merged = true;
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        } finally {
+            if (!merged) {
+                close();
+            }
+        }
+    }
+    
+    private Iterator<MemoryQueryResultRow> merge(final List<QueryResult> queryResults) throws SQLException, IOException {
+        GroupByHashAggregator aggregator = new GroupByHashAggregator(selectStatementContext, approximateCountDistinct);
+        SpillFile[] partitions = aggregate(queryResults, aggregator, 0);
+        if (null == partitions) {
+            if (aggregator.isEmpty()) {
+                return aggregator.getEmptyResultRows().iterator();
+            }
+            List<MemoryQueryResultRow> result = aggregator.getRows();
+            result.sort(rowComparator);
+            return result.iterator();
+        }
+        LinkedList<SpillFile> sortedRuns = new LinkedList<>();
+        writeSortedRun(aggregator, sortedRuns);
+        aggregatePartitions(partitions, 1, sortedRuns);
+        while (sortedRuns.size() > MAX_MERGE_RUNS) {
+            Collection<SpillFile> mergingRuns = new LinkedList<>();
+            for (int i = 0; i < MAX_MERGE_RUNS; i++) {
+                mergingRuns.add(sortedRuns.poll());
+            }
+            SpillFile mergedRun = createSpillFile();
+            Iterator<MemoryQueryResultRow> rows = mergeSortedRuns(mergingRuns);
+            while (rows.hasNext()) {
+                mergedRun.write(toArray(rows.next()));
+            }
+            sortedRuns.add(mergedRun);
+        }
+        return mergeSortedRuns(sortedRuns);
+    }
+    
+    private Iterator<MemoryQueryResultRow> mergeSortedRuns(final Collection<SpillFile> sortedRuns) throws IOException {
+        Collection<Iterator<MemoryQueryResultRow>> result = new LinkedList<>();
+        for (SpillFile each : sortedRuns) {
+            result.add(Iterators.transform(each.read(), MemoryQueryResultRow::new));
+        }
+        return Iterators.mergeSorted(result, rowComparator);
+    }
+    
+    private SpillFile[] aggregate(final Collection<QueryResult> queryResults, final GroupByHashAggregator aggregator, final int depth) throws SQLException, IOException {
+        SpillFile[] result = null;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                if (aggregator.contains(groupByValue) || null == result && reserve(groupByValue, depth)) {
+                    aggregator.aggregate(each, groupByValue);
+                    continue;
+                }
+                if (null == result) {
+                    result = new SpillFile[PARTITION_COUNT];
+                }
+                int partitionIndex = Math.floorMod(Hashing.murmur3_32(depth).hashInt(groupByValue.hashCode()).asInt(), PARTITION_COUNT);
+                if (null == result[partitionIndex]) {
+                    result[partitionIndex] = createSpillFile();
+                }
+                result[partitionIndex].write(loadRow(each));
+            }
+        }
+        return result;
+    }
+    
+    private boolean reserve(final GroupByValue groupByValue, final int depth) {
+        int aggregationCount = selectStatementContext.getProjectionsContext().getAggregationProjections().size();
+        return memoryBudget.reserve(GroupByMemoryBudget.estimateGroupBytes(groupByValue.getGroupValues(), columnCount, aggregationCount)) || depth >= MAX_SPILL_DEPTH;
+    }
+    
+    private Object[] loadRow(final QueryResult queryResult) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private void aggregatePartitions(final SpillFile[] partitions, final int depth, final Collection<SpillFile> sortedRuns) throws SQLException, IOException {
+        for (SpillFile each : partitions) {
+            if (null == each) {
+                continue;
+            }
+            GroupByHashAggregator aggregator = new GroupByHashAggregator(selectStatementContext, approximateCountDistinct);
+            SpillFile[] subPartitions = aggregate(Collections.singletonList(new SpillQueryResult(metaData, each)), aggregator, depth);
+            writeSortedRun(aggregator, sortedRuns);
+            if (null != subPartitions) {
+                aggregatePartitions(subPartitions, depth + 1, sortedRuns);
+            }
+        }
+    }
+    
+    private void writeSortedRun(final GroupByHashAggregator aggregator, final Collection<SpillFile> sortedRuns) throws IOException {
+        if (aggregator.isEmpty()) {
+            return;
+        }
+        List<MemoryQueryResultRow> rows = aggregator.getRows();
+        rows.sort(rowComparator);
+        SpillFile sortedRun = createSpillFile();
+        for (MemoryQueryResultRow each : rows) {
+            sortedRun.write(toArray(each));
+        }
+        sortedRuns.add(sortedRun);
+        memoryBudget.releaseAll();
+    }
+    
+    private Object[] toArray(final MemoryQueryResultRow row) {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = row.getCell(i + 1);
+        }
+        return result;
+    }
+    
+    private SpillFile createSpillFile() throws IOException {
+        SpillFile result = new SpillFile();
+        spillFiles.add(result);
+        return result;
+    }
+    
+    @Override
+    public boolean next() {
+        if (!closed && memoryResultSetRows.hasNext()) {
+            currentResultSetRow = memoryResultSetRows.next();
+            return true;
+        }
+        close();
+        return false;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName()));
+        }
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        memoryBudget.releaseAll();
+        spillFiles.forEach(SpillFile::close);
+        spillFiles.clear();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * HyperLogLog sketch for approximate distinct count.
+ * 
+ * <p>Hashes are kept exactly before sparse threshold is reached, so that small distinct counts are exact.
+ * After that {@code 2^12} registers are used and cardinality is estimated with the improved estimator of Otmar Ertl,
+ * standard error of the estimate is about 1.6%.</p>
+ */
+public final class HyperLogLog {
+    
+    private static final int PRECISION = 12;
+    
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    
+    private static final int SPARSE_THRESHOLD = 64;
+    
+    private static final int MAX_RANK = Long.SIZE - PRECISION;
+    
+    private static final double ALPHA_INFINITY = 1 / (2 * Math.log(2));
+    
+    private Set<Long> sparseHashes = new HashSet<>();
+    
+    private byte[] registers;
+    
+    /**
+     * Offer value.
+     * 
+     * @param value value
+     */
+    public void offer(final Object value) {
+        offerHash(Hashing.murmur3_128().hashString(String.valueOf(value), StandardCharsets.UTF_8).asLong());
+    }
+    
+    private void offerHash(final long hash) {
+        if (null != sparseHashes) {
+            sparseHashes.add(hash);
+            if (sparseHashes.size() > SPARSE_THRESHOLD) {
+                registers = new byte[REGISTER_COUNT];
+                sparseHashes.forEach(this::updateRegister);
+                sparseHashes = null;
+            }
+            return;
+        }
+        updateRegister(hash);
+    }
+    
+    private void updateRegister(final long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros(hash << PRECISION | 1L << (PRECISION - 1)) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    /**
+     * Merge other sketch into this sketch.
+     * 
+     * @param other other sketch
+     */
+    public void merge(final HyperLogLog other) {
+        if (null != other.sparseHashes) {
+            other.sparseHashes.forEach(this::offerHash);
+            return;
+        }
+        if (null != sparseHashes) {
+            registers = other.registers.clone();
+            sparseHashes.forEach(this::updateRegister);
+            sparseHashes = null;
+            return;
+        }
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+        }
+    }
+    
+    /**
+     * Estimate distinct count.
+     * 
+     * @return estimated distinct count
+     */
+    public long cardinality() {
+        if (null != sparseHashes) {
+            return sparseHashes.size();
+        }
+        int[] rankCounts = new int[MAX_RANK + 2];
+        for (byte each : registers) {
+            rankCounts[each]++;
+        }
+        double result = REGISTER_COUNT * tau(1 - (double) rankCounts[MAX_RANK + 1] / REGISTER_COUNT);
+        for (int i = MAX_RANK; i >= 1; i--) {
+            result = 0.5 * (result + rankCounts[i]);
+        }
+        result += REGISTER_COUNT * sigma((double) rankCounts[0] / REGISTER_COUNT);
+        return Math.round(ALPHA_INFINITY * REGISTER_COUNT * REGISTER_COUNT / result);
+    }
+    
+    private static double sigma(final double x) {
+        if (1 == x) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double power = x;
+        double weight = 1;
+        double result = x;
+        double previous;
+        do {
+            power *= power;
+            previous = result;
+            result += power * weight;
+            weight += weight;
+        } while (previous != result);
+        return result;
+    }
+    
+    private static double tau(final double x) {
+        if (0 == x || 1 == x) {
+            return 0;
+        }
+        double root = x;
+        double weight = 1;
+        double result = 1 - x;
+        double previous;
+        do {
+            root = Math.sqrt(root);
+            previous = result;
+            weight *= 0.5;
+            result -= Math.pow(1 - root, 2) * weight;
+        } while (previous != result);
+        return result / 3;
+    }
+}
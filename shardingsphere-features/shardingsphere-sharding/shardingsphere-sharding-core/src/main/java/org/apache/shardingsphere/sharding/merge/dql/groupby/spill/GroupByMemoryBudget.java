@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memory budget of group by merge.
+ * 
+ * <p>Bytes are reserved against both the budget of current query and the budget shared by all queries of current process.
+ * A budget less than or equal to 0 means no limitation.</p>
+ */
+@RequiredArgsConstructor
+public final class GroupByMemoryBudget {
+    
+    private static final AtomicLong GLOBAL_RESERVED_BYTES = new AtomicLong();
+    
+    private static final long GROUP_OVERHEAD_BYTES = 128L;
+    
+    private static final long CELL_OVERHEAD_BYTES = 16L;
+    
+    private static final long AGGREGATION_UNIT_BYTES = 64L;
+    
+    private final long maxBytes;
+    
+    private final long globalMaxBytes;
+    
+    private long reservedBytes;
+    
+    /**
+     * Reserve bytes.
+     * 
+     * @param bytes bytes to be reserved
+     * @return reserved or not
+     */
+    public boolean reserve(final long bytes) {
+        if (maxBytes > 0 && reservedBytes + bytes > maxBytes) {
+            return false;
+        }
+        long globalReservedBytes = GLOBAL_RESERVED_BYTES.addAndGet(bytes);
+        if (globalMaxBytes > 0 && globalReservedBytes > globalMaxBytes) {
+            GLOBAL_RESERVED_BYTES.addAndGet(-bytes);
+            return false;
+        }
+        reservedBytes += bytes;
+        return true;
+    }
+    
+    /**
+     * Release all reserved bytes.
+     */
+    public void releaseAll() {
+        GLOBAL_RESERVED_BYTES.addAndGet(-reservedBytes);
+        reservedBytes = 0L;
+    }
+    
+    /**
+     * Get reserved bytes of all queries.
+     * 
+     * @return reserved bytes of all queries
+     */
+    public static long getGlobalReservedBytes() {
+        return GLOBAL_RESERVED_BYTES.get();
+    }
+    
+    /**
+     * Estimate bytes occupied by a new group.
+     * 
+     * @param groupValues group values
+     * @param columnCount column count of row
+     * @param aggregationCount aggregation count
+     * @return estimated bytes
+     */
+    public static long estimateGroupBytes(final Collection<?> groupValues, final int columnCount, final int aggregationCount) {
+        long result = GROUP_OVERHEAD_BYTES + columnCount * CELL_OVERHEAD_BYTES + aggregationCount * AGGREGATION_UNIT_BYTES;
+        for (Object each : groupValues) {
+            // group values are held by both group key and row
+            result += 2 * estimateValueBytes(each);
+        }
+        return result;
+    }
+    
+    private static long estimateValueBytes(final Object value) {
+        if (value instanceof String) {
+            return CELL_OVERHEAD_BYTES + 24L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return CELL_OVERHEAD_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return CELL_OVERHEAD_BYTES + 48L;
+        }
+        return CELL_OVERHEAD_BYTES + 8L;
+    }
+}
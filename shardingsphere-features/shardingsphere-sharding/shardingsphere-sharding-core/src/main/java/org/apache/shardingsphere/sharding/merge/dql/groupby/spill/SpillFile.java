@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Temp file which rows are spilled to.
+ * 
+ * <p>Rows are written once and read back once, the file is deleted as soon as it is opened for reading.
+ * Rows which are not read yet are discarded once the file is closed.</p>
+ */
+public final class SpillFile implements Closeable {
+    
+    private static final String FILE_PREFIX = "shardingsphere-spill-";
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    private final Path path;
+    
+    private ObjectOutputStream output;
+    
+    private ObjectInputStream input;
+    
+    @Getter
+    private int rowCount;
+    
+    public SpillFile() throws IOException {
+        path = Files.createTempFile(FILE_PREFIX, null);
+        try {
+            output = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        } catch (final IOException ex) {
+            Files.deleteIfExists(path);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Write row.
+     * 
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        output.writeObject(row);
+        if (0 == ++rowCount % RESET_INTERVAL) {
+            output.reset();
+        }
+    }
+    
+    /**
+     * Read written rows.
+     * 
+     * @return iterator of rows
+     * @throws IOException IO exception
+     */
+    public Iterator<Object[]> read() throws IOException {
+        output.close();
+        output = null;
+        input = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        deleteFile();
+        return new RowIterator();
+    }
+    
+    /**
+     * Close and delete file.
+     */
+    @Override
+    public void close() {
+        try {
+            if (null != output) {
+                output.close();
+            }
+            if (null != input) {
+                input.close();
+            }
+        } catch (final IOException ignored) {
+        }
+        output = null;
+        input = null;
+        deleteFile();
+    }
+    
+    private void deleteFile() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException ignored) {
+            // file opened can not be deleted on some file systems
+            path.toFile().deleteOnExit();
+        }
+    }
+    
+    private final class RowIterator implements Iterator<Object[]> {
+        
+        private int readCount;
+        
+        @Override
+        public boolean hasNext() {
+            return null != input && readCount < rowCount;
+        }
+        
+        @SneakyThrows({IOException.class, ClassNotFoundException.class})
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] result = (Object[]) input.readObject();
+            if (++readCount == rowCount) {
+                input.close();
+                input = null;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import com.google.common.base.Preconditions;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>Loser tree replays only the path from the last winner to the root, which costs log2(k) comparisons for k query results.
+ * The winner polled from the tree is not replayed until next access, so that the usual poll and offer back is replayed only once.</p>
+ */
+public final class OrderByValueLoserTree extends AbstractQueue<OrderByValue> {
+    
+    private final OrderByValue[] leaves;
+    
+    private final int[] tree;
+    
+    private int size;
+    
+    private int pendingLeaf = -1;
+    
+    public OrderByValueLoserTree(final Collection<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[0]);
+        tree = new int[Math.max(leaves.length, 1)];
+        size = leaves.length;
+        if (0 != size) {
+            tree[0] = build(1);
+        }
+    }
+    
+    private int build(final int node) {
+        if (node >= leaves.length) {
+            return node - leaves.length;
+        }
+        int left = build(node * 2);
+        int right = build(node * 2 + 1);
+        if (beats(left, right)) {
+            tree[node] = right;
+            return left;
+        }
+        tree[node] = left;
+        return right;
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int node = (leaf + leaves.length) / 2; node > 0; node /= 2) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean beats(final int leaf, final int otherLeaf) {
+        if (null == leaves[leaf]) {
+            return false;
+        }
+        if (null == leaves[otherLeaf]) {
+            return true;
+        }
+        int result = leaves[leaf].compareTo(leaves[otherLeaf]);
+        return result < 0 || 0 == result && leaf < otherLeaf;
+    }
+    
+    private void replayPendingLeaf() {
+        if (pendingLeaf >= 0) {
+            replay(pendingLeaf);
+            pendingLeaf = -1;
+        }
+    }
+    
+    @Override
+    public boolean offer(final OrderByValue orderByValue) {
+        Preconditions.checkNotNull(orderByValue);
+        if (pendingLeaf >= 0) {
+            leaves[pendingLeaf] = orderByValue;
+            size++;
+            replay(pendingLeaf);
+            pendingLeaf = -1;
+            return true;
+        }
+        for (int i = 0; i < leaves.length; i++) {
+            if (null == leaves[i]) {
+                leaves[i] = orderByValue;
+                size++;
+                tree[0] = build(1);
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public OrderByValue poll() {
+        replayPendingLeaf();
+        if (0 == size) {
+            return null;
+        }
+        pendingLeaf = tree[0];
+        OrderByValue result = leaves[pendingLeaf];
+        leaves[pendingLeaf] = null;
+        size--;
+        return result;
+    }
+    
+    @Override
+    public OrderByValue peek() {
+        replayPendingLeaf();
+        return 0 == size ? null : leaves[tree[0]];
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public Iterator<OrderByValue> iterator() {
+        return Arrays.stream(leaves).filter(Objects::nonNull).iterator();
+    }
+}
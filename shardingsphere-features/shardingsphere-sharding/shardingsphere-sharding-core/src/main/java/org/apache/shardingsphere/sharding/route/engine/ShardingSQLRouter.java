@@ -34,7 +34,9 @@ import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,10 +52,12 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
         ShardingConditions shardingConditions = createShardingConditions(logicSQL, metaData, rule);
         Optional<ShardingStatementValidator> validator = ShardingStatementValidatorFactory.newInstance(sqlStatement, shardingConditions);
         validator.ifPresent(v -> v.preValidate(rule, logicSQL.getSqlStatementContext(), logicSQL.getParameters(), metaData));
+        Collection<Integer> parameterMarkerIndexes = getParameterMarkerIndexes(shardingConditions);
         if (sqlStatement instanceof DMLStatement && shardingConditions.isNeedMerge()) {
             shardingConditions.merge();
         }
         RouteContext result = ShardingRouteEngineFactory.newInstance(rule, metaData, logicSQL.getSqlStatementContext(), shardingConditions, props).route(rule);
+        result.getParameterMarkerIndexes().addAll(parameterMarkerIndexes);
         validator.ifPresent(v -> v.postValidate(rule, logicSQL.getSqlStatementContext(), logicSQL.getParameters(), metaData, props, result));
         return result;
     }
@@ -70,6 +74,14 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
         return new ShardingConditions(shardingConditions, logicSQL.getSqlStatementContext(), rule);
     }
     
+    private Collection<Integer> getParameterMarkerIndexes(final ShardingConditions shardingConditions) {
+        Collection<Integer> result = new LinkedHashSet<>();
+        for (ShardingCondition each : shardingConditions.getConditions()) {
+            result.addAll(each.getParameterMarkerIndexes());
+        }
+        return result;
+    }
+    
     @Override
     public void decorateRouteContext(final RouteContext routeContext, final LogicSQL logicSQL, final ShardingSphereMetaData metaData,
                                      final ShardingRule rule, final ConfigurationProperties props) {
@@ -22,6 +22,8 @@ import lombok.Setter;
 import lombok.ToString;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -34,6 +36,8 @@ public class ShardingCondition {
     
     private final List<ShardingConditionValue> values = new LinkedList<>();
     
+    private final Collection<Integer> parameterMarkerIndexes = new LinkedHashSet<>();
+    
     @Setter
     private int startIndex;
 }
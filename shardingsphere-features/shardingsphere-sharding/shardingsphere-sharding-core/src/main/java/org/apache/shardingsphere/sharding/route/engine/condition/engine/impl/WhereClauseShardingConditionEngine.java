@@ -118,9 +118,10 @@ public final class WhereClauseShardingConditionEngine implements ShardingConditi
             try {
                 ShardingConditionValue shardingConditionValue = mergeShardingConditionValues(entry.getKey(), entry.getValue());
                 if (shardingConditionValue instanceof AlwaysFalseShardingConditionValue) {
-                    return new AlwaysFalseShardingCondition();
+                    return createAlwaysFalseShardingCondition(shardingConditionValues);
                 }
                 result.getValues().add(shardingConditionValue);
+                result.getParameterMarkerIndexes().addAll(shardingConditionValue.getParameterMarkerIndexes());
             } catch (final ClassCastException ex) {
                 throw new ShardingSphereException("Found different types for sharding value `%s`.", entry.getKey());
             }
@@ -128,10 +129,27 @@ public final class WhereClauseShardingConditionEngine implements ShardingConditi
         return result;
     }
     
+    private ShardingCondition createAlwaysFalseShardingCondition(final Map<Column, Collection<ShardingConditionValue>> shardingConditionValues) {
+        ShardingCondition result = new AlwaysFalseShardingCondition();
+        for (Collection<ShardingConditionValue> each : shardingConditionValues.values()) {
+            result.getParameterMarkerIndexes().addAll(getParameterMarkerIndexes(each));
+        }
+        return result;
+    }
+    
+    private List<Integer> getParameterMarkerIndexes(final Collection<ShardingConditionValue> shardingConditionValues) {
+        List<Integer> result = new ArrayList<>();
+        for (ShardingConditionValue each : shardingConditionValues) {
+            result.addAll(each.getParameterMarkerIndexes());
+        }
+        return result;
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     private ShardingConditionValue mergeShardingConditionValues(final Column column, final Collection<ShardingConditionValue> shardingConditionValues) {
         Collection<Comparable<?>> listValue = null;
         Range<Comparable<?>> rangeValue = null;
+        List<Integer> parameterMarkerIndexes = getParameterMarkerIndexes(shardingConditionValues);
         for (ShardingConditionValue each : shardingConditionValues) {
             if (each instanceof ListShardingConditionValue) {
                 listValue = mergeListShardingValues(((ListShardingConditionValue) each).getValues(), listValue);
@@ -147,13 +165,13 @@ public final class WhereClauseShardingConditionEngine implements ShardingConditi
             }
         }
         if (null == listValue) {
-            return new RangeShardingConditionValue<>(column.getName(), column.getTableName(), rangeValue);
+            return new RangeShardingConditionValue<>(column.getName(), column.getTableName(), rangeValue, parameterMarkerIndexes);
         }
         if (null == rangeValue) {
-            return new ListShardingConditionValue<>(column.getName(), column.getTableName(), listValue);
+            return new ListShardingConditionValue<>(column.getName(), column.getTableName(), listValue, parameterMarkerIndexes);
         }
         listValue = mergeListAndRangeShardingValues(listValue, rangeValue);
-        return listValue.isEmpty() ? new AlwaysFalseShardingConditionValue() : new ListShardingConditionValue<>(column.getName(), column.getTableName(), listValue);
+        return listValue.isEmpty() ? new AlwaysFalseShardingConditionValue() : new ListShardingConditionValue<>(column.getName(), column.getTableName(), listValue, parameterMarkerIndexes);
     }
     
     private Collection<Comparable<?>> mergeListShardingValues(final Collection<Comparable<?>> value1, final Collection<Comparable<?>> value2) {
@@ -32,8 +32,11 @@ public final class ConditionValue {
     
     private final Comparable<?> value;
     
+    private final Integer parameterMarkerIndex;
+    
     public ConditionValue(final ExpressionSegment expressionSegment, final List<Object> parameters) {
         value = getValue(expressionSegment, parameters);
+        parameterMarkerIndex = expressionSegment instanceof ParameterMarkerExpressionSegment ? ((ParameterMarkerExpressionSegment) expressionSegment).getParameterMarkerIndex() : null;
     }
     
     private Comparable<?> getValue(final ExpressionSegment expressionSegment, final List<Object> parameters) {
@@ -70,4 +73,13 @@ public final class ConditionValue {
     public Optional<Comparable<?>> getValue() {
         return Optional.ofNullable(value);
     }
+    
+    /**
+     * Get parameter marker index.
+     * 
+     * @return parameter marker index
+     */
+    public Optional<Integer> getParameterMarkerIndex() {
+        return Optional.ofNullable(parameterMarkerIndex);
+    }
 }
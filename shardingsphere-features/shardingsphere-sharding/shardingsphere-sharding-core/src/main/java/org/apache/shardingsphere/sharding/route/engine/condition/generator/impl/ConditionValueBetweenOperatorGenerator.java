@@ -28,6 +28,7 @@ import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingC
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BetweenExpression;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SafeNumberOperationUtil;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -39,10 +40,16 @@ public final class ConditionValueBetweenOperatorGenerator implements ConditionVa
     
     @Override
     public Optional<ShardingConditionValue> generate(final BetweenExpression predicate, final Column column, final List<Object> parameters) {
-        Optional<Comparable<?>> betweenConditionValue = new ConditionValue(predicate.getBetweenExpr(), parameters).getValue();
-        Optional<Comparable<?>> andConditionValue = new ConditionValue(predicate.getAndExpr(), parameters).getValue();
+        ConditionValue betweenValue = new ConditionValue(predicate.getBetweenExpr(), parameters);
+        ConditionValue andValue = new ConditionValue(predicate.getAndExpr(), parameters);
+        Optional<Comparable<?>> betweenConditionValue = betweenValue.getValue();
+        Optional<Comparable<?>> andConditionValue = andValue.getValue();
+        List<Integer> parameterMarkerIndexes = new ArrayList<>(2);
+        betweenValue.getParameterMarkerIndex().ifPresent(parameterMarkerIndexes::add);
+        andValue.getParameterMarkerIndex().ifPresent(parameterMarkerIndexes::add);
         if (betweenConditionValue.isPresent() && andConditionValue.isPresent()) {
-            return Optional.of(new RangeShardingConditionValue<>(column.getName(), column.getTableName(), SafeNumberOperationUtil.safeClosed(betweenConditionValue.get(), andConditionValue.get())));
+            return Optional.of(new RangeShardingConditionValue<>(column.getName(), column.getTableName(),
+                    SafeNumberOperationUtil.safeClosed(betweenConditionValue.get(), andConditionValue.get()), parameterMarkerIndexes));
         }
         Date datetime = DatetimeServiceFactory.newInstance().getDatetime();
         if (!betweenConditionValue.isPresent() && ExpressionConditionUtils.isNowExpression(predicate.getBetweenExpr())) {
@@ -52,7 +59,7 @@ public final class ConditionValueBetweenOperatorGenerator implements ConditionVa
             andConditionValue = Optional.of(datetime);
         }
         return betweenConditionValue.isPresent() && andConditionValue.isPresent()
-                ? Optional.of(new RangeShardingConditionValue<>(column.getName(), column.getTableName(), Range.closed(betweenConditionValue.get(), andConditionValue.get())))
+                ? Optional.of(new RangeShardingConditionValue<>(column.getName(), column.getTableName(), Range.closed(betweenConditionValue.get(), andConditionValue.get()), parameterMarkerIndexes))
                 : Optional.empty();
     }
 }
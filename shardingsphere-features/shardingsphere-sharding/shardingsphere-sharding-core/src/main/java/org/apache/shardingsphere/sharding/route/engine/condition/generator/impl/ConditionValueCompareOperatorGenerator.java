@@ -33,6 +33,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOp
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -60,30 +61,31 @@ public final class ConditionValueCompareOperatorGenerator implements ConditionVa
             return Optional.empty();
         }
         ExpressionSegment valueExpression = predicate.getLeft() instanceof ColumnSegment ? predicate.getRight() : predicate.getLeft();
-        Optional<Comparable<?>> conditionValue = new ConditionValue(valueExpression, parameters).getValue();
-        if (conditionValue.isPresent()) {
-            return generate(conditionValue.get(), column, operator);
+        ConditionValue conditionValue = new ConditionValue(valueExpression, parameters);
+        Optional<Comparable<?>> value = conditionValue.getValue();
+        if (value.isPresent()) {
+            return generate(value.get(), column, operator, conditionValue.getParameterMarkerIndex().map(Collections::singletonList).orElse(Collections.emptyList()));
         }
         if (ExpressionConditionUtils.isNowExpression(valueExpression)) {
-            return generate(DatetimeServiceFactory.newInstance().getDatetime(), column, operator);
+            return generate(DatetimeServiceFactory.newInstance().getDatetime(), column, operator, Collections.emptyList());
         }
         return Optional.empty();
     }
     
-    private Optional<ShardingConditionValue> generate(final Comparable<?> comparable, final Column column, final String operator) {
+    private Optional<ShardingConditionValue> generate(final Comparable<?> comparable, final Column column, final String operator, final List<Integer> parameterMarkerIndexes) {
         String columnName = column.getName();
         String tableName = column.getTableName();
         switch (operator) {
             case EQUAL:
-                return Optional.of(new ListShardingConditionValue<>(columnName, tableName, Lists.newArrayList(comparable)));
+                return Optional.of(new ListShardingConditionValue<>(columnName, tableName, Lists.newArrayList(comparable), parameterMarkerIndexes));
             case GREATER_THAN:
-                return Optional.of(new RangeShardingConditionValue<>(columnName, tableName, Range.greaterThan(comparable)));
+                return Optional.of(new RangeShardingConditionValue<>(columnName, tableName, Range.greaterThan(comparable), parameterMarkerIndexes));
             case LESS_THAN:
-                return Optional.of(new RangeShardingConditionValue<>(columnName, tableName, Range.lessThan(comparable)));
+                return Optional.of(new RangeShardingConditionValue<>(columnName, tableName, Range.lessThan(comparable), parameterMarkerIndexes));
             case AT_MOST:
-                return Optional.of(new RangeShardingConditionValue<>(columnName, tableName, Range.atMost(comparable)));
+                return Optional.of(new RangeShardingConditionValue<>(columnName, tableName, Range.atMost(comparable), parameterMarkerIndexes));
             case AT_LEAST:
-                return Optional.of(new RangeShardingConditionValue<>(columnName, tableName, Range.atLeast(comparable)));
+                return Optional.of(new RangeShardingConditionValue<>(columnName, tableName, Range.atLeast(comparable), parameterMarkerIndexes));
             default:
                 return Optional.empty();
         }
@@ -23,6 +23,8 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Sharding condition value for list values.
@@ -37,6 +39,12 @@ public final class ListShardingConditionValue<T extends Comparable<?>> implement
     
     private final Collection<T> values;
     
+    private final List<Integer> parameterMarkerIndexes;
+    
+    public ListShardingConditionValue(final String columnName, final String tableName, final Collection<T> values) {
+        this(columnName, tableName, values, Collections.emptyList());
+    }
+    
     @Override
     public String toString() {
         return tableName + "." + columnName + (1 == values.size() ? " = " + new ArrayList<>(values).get(0) : " in (" + Joiner.on(",").join(values) + ")");
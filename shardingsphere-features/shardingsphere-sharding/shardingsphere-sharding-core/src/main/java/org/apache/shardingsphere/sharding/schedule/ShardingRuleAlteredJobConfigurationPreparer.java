@@ -212,6 +212,8 @@ public final class ShardingRuleAlteredJobConfigurationPreparer implements RuleAl
         PipelineDataSourceConfiguration dataSourceConfig = PipelineDataSourceConfigurationFactory.newInstance(pipelineConfig.getTarget().getType(), pipelineConfig.getTarget().getParameter());
         int batchSize = onRuleAlteredActionConfig.getOutput().getBatchSize();
         int retryTimes = handleConfig.getRetryTimes();
-        return new ImporterConfiguration(dataSourceConfig, shardingColumnsMap, batchSize, retryTimes);
+        ImporterConfiguration result = new ImporterConfiguration(dataSourceConfig, shardingColumnsMap, batchSize, retryTimes);
+        result.setBulkLoad(Boolean.TRUE.equals(onRuleAlteredActionConfig.getOutput().getBulkLoad()));
+        return result;
     }
 }
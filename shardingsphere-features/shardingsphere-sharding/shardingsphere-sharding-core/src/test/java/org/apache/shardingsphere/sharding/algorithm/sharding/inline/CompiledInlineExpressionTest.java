@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    @Test
+    public void assertEvaluateModExpression() {
+        Optional<CompiledInlineExpression> actual = CompiledInlineExpression.compile("t_order_${order_id % 4}");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate(Collections.singletonMap("order_id", 10L)), is(Optional.of("t_order_2")));
+        assertThat(actual.get().evaluate(Collections.singletonMap("order_id", -7)), is(Optional.of("t_order_-3")));
+    }
+    
+    @Test
+    public void assertEvaluateHashCodeModExpression() {
+        Optional<CompiledInlineExpression> actual = CompiledInlineExpression.compile("t_order_${order_no.hashCode() % 4}");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate(Collections.singletonMap("order_no", "a")), is(Optional.of("t_order_" + "a".hashCode() % 4)));
+    }
+    
+    @Test
+    public void assertEvaluateAbsHashCodeModExpression() {
+        Optional<CompiledInlineExpression> actual = CompiledInlineExpression.compile("t_order_${Math.abs(order_no.hashCode()) % 8}");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate(Collections.singletonMap("order_no", "order_10")), is(Optional.of("t_order_" + Math.abs("order_10".hashCode()) % 8)));
+    }
+    
+    @Test
+    public void assertEvaluateMultipleVariables() {
+        Optional<CompiledInlineExpression> actual = CompiledInlineExpression.compile("t_order_${type % 2}_${order_id}");
+        assertTrue(actual.isPresent());
+        Map<String, Comparable<?>> variables = new HashMap<>(2, 1);
+        variables.put("type", 3);
+        variables.put("order_id", "x");
+        assertThat(actual.get().evaluate(variables), is(Optional.of("t_order_1_x")));
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        Optional<CompiledInlineExpression> actual = CompiledInlineExpression.compile("t_order_${order_id % 4}");
+        assertTrue(actual.isPresent());
+        assertFalse(actual.get().evaluate(Collections.singletonMap("order_id", new BigDecimal("10"))).isPresent());
+        assertFalse(actual.get().evaluate(Collections.singletonMap("user_id", 10)).isPresent());
+    }
+    
+    @Test
+    public void assertCompileUnrecognizedExpression() {
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id.substring(0, 1)}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 4 == 0 ? 'a' : 'b'}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_\\${order_id}").isPresent());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertCompileWithDivisorOutOfRange() {
+        CompiledInlineExpression.compile("t_order_${order_id % 99999999999999999999}");
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertCompileWithZeroDivisor() {
+        CompiledInlineExpression.compile("t_order_${order_id.hashCode() % 0}");
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class InlineShardingExpressionTest {
+    
+    @Test
+    public void assertEvaluateWithCompiledExpression() {
+        assertThat(new InlineShardingExpression("t_order_${order_id % 4}").evaluate(Collections.singletonMap("order_id", 5)), is("t_order_1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithFallbackForUnsupportedValue() {
+        assertThat(new InlineShardingExpression("t_order_${order_id % 4}").evaluate(Collections.singletonMap("order_id", new BigDecimal("5"))), is("t_order_1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithFallbackForUnrecognizedExpression() {
+        InlineShardingExpression expression = new InlineShardingExpression("t_order_${order_id.substring(0, 1)}");
+        assertThat(expression.evaluate(Collections.singletonMap("order_id", "a1")), is("t_order_a"));
+        assertThat(expression.evaluate(Collections.singletonMap("order_id", "b1")), is("t_order_b"));
+    }
+}
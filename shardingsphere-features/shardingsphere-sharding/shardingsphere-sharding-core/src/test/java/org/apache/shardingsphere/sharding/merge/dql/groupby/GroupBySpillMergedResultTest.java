@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.GroupByMemoryBudget;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillMergedResultTest {
+    
+    private static final int GROUP_COUNT = 300;
+    
+    @Test
+    public void assertNextWithinMemoryBudget() throws SQLException {
+        assertNext(createProperties(ConfigurationPropertyKey.SQL_GROUP_BY_MEMORY_BUDGET_BYTES, Long.MAX_VALUE));
+    }
+    
+    @Test
+    public void assertNextExceedMemoryBudget() throws SQLException {
+        assertNext(createProperties(ConfigurationPropertyKey.SQL_GROUP_BY_MEMORY_BUDGET_BYTES, 4096L));
+    }
+    
+    @Test
+    public void assertNextExceedGlobalMemoryBudget() throws SQLException {
+        assertNext(createProperties(ConfigurationPropertyKey.SQL_GROUP_BY_GLOBAL_MEMORY_BUDGET_BYTES, 1L));
+    }
+    
+    private void assertNext(final ConfigurationProperties props) throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), props);
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(), createQueryResult(), createQueryResult()), createSelectStatementContext(), null);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        for (int id = GROUP_COUNT; id > 0; id--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(3)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(id));
+            assertThat(actual.getValue(3, Object.class), is(id));
+        }
+        assertFalse(actual.next());
+        assertThat(GroupByMemoryBudget.getGlobalReservedBytes(), is(0L));
+    }
+    
+    @Test
+    public void assertCloseWithinMemoryBudget() throws SQLException {
+        assertClose(createProperties(ConfigurationPropertyKey.SQL_GROUP_BY_MEMORY_BUDGET_BYTES, Long.MAX_VALUE));
+    }
+    
+    @Test
+    public void assertCloseExceedMemoryBudget() throws SQLException {
+        assertClose(createProperties(ConfigurationPropertyKey.SQL_GROUP_BY_MEMORY_BUDGET_BYTES, 4096L));
+    }
+    
+    private void assertClose(final ConfigurationProperties props) throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), props);
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(), createQueryResult(), createQueryResult()), createSelectStatementContext(), null);
+        assertTrue(actual.next());
+        actual.close();
+        assertThat(GroupByMemoryBudget.getGlobalReservedBytes(), is(0L));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertReserveMemoryBudgetUntilExhausted() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(
+                DatabaseTypeRegistry.getActualDatabaseType("MySQL"), createProperties(ConfigurationPropertyKey.SQL_GROUP_BY_MEMORY_BUDGET_BYTES, Long.MAX_VALUE));
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(), createQueryResult(), createQueryResult()), createSelectStatementContext(), null);
+        assertTrue(GroupByMemoryBudget.getGlobalReservedBytes() > 0L);
+        while (actual.next()) {
+            assertTrue(GroupByMemoryBudget.getGlobalReservedBytes() > 0L);
+        }
+        assertThat(GroupByMemoryBudget.getGlobalReservedBytes(), is(0L));
+    }
+    
+    private ConfigurationProperties createProperties(final ConfigurationPropertyKey key, final long value) {
+        Properties props = new Properties();
+        props.setProperty(key.getKey(), String.valueOf(value));
+        return new ConfigurationProperties(props);
+    }
+    
+    private QueryResult createQueryResult() {
+        List<RawQueryResultColumnMetaData> columns = Arrays.asList(createColumnMetaData("COUNT(*)"), createColumnMetaData("AVG(num)"),
+                createColumnMetaData("id"), createColumnMetaData("AVG_DERIVED_COUNT_0"), createColumnMetaData("AVG_DERIVED_SUM_0"));
+        List<MemoryQueryResultDataRow> rows = new ArrayList<>(GROUP_COUNT);
+        for (int id = 1; id <= GROUP_COUNT; id++) {
+            rows.add(new MemoryQueryResultDataRow(Arrays.asList(1, id, id, 1, id)));
+        }
+        Collections.shuffle(rows);
+        return new RawMemoryQueryResult(new RawQueryResultMetaData(columns), rows);
+    }
+    
+    private RawQueryResultColumnMetaData createColumnMetaData(final String label) {
+        return new RawQueryResultColumnMetaData("", label, label, Types.INTEGER, "INT", 11, 0);
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))));
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getDefaultSchema()).thenReturn(mock(ShardingSphereSchema.class));
+        return new SelectStatementContext(Collections.singletonMap(DefaultSchema.LOGIC_NAME, metaData), Collections.emptyList(), selectStatement, DefaultSchema.LOGIC_NAME);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HyperLogLogAggregationUnitTest {
+    
+    @Test
+    public void assertExactResultForSmallCardinality() {
+        HyperLogLogAggregationUnit hyperLogLogAggregationUnit = new HyperLogLogAggregationUnit();
+        hyperLogLogAggregationUnit.merge(null);
+        hyperLogLogAggregationUnit.merge(Collections.singletonList(null));
+        hyperLogLogAggregationUnit.merge(Collections.singletonList(10));
+        hyperLogLogAggregationUnit.merge(Collections.singletonList(5));
+        hyperLogLogAggregationUnit.merge(Collections.singletonList(10));
+        assertThat(hyperLogLogAggregationUnit.getResult(), is((Comparable) 2L));
+    }
+    
+    @Test
+    public void assertApproximateResultForLargeCardinality() {
+        HyperLogLogAggregationUnit hyperLogLogAggregationUnit = new HyperLogLogAggregationUnit();
+        for (int i = 0; i < 100000; i++) {
+            hyperLogLogAggregationUnit.merge(Collections.singletonList(i % 50000));
+        }
+        long actual = (Long) hyperLogLogAggregationUnit.getResult();
+        assertTrue(Math.abs(actual - 50000) < 50000 * 0.05);
+    }
+}
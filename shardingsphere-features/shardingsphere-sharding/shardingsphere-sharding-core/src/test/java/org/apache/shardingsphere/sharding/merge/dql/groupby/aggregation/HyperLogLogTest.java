@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HyperLogLogTest {
+    
+    @Test
+    public void assertMergeSparseSketches() {
+        HyperLogLog actual = createHyperLogLog(0, 20);
+        actual.merge(createHyperLogLog(10, 30));
+        assertThat(actual.cardinality(), is(30L));
+    }
+    
+    @Test
+    public void assertMergeDenseSketches() {
+        HyperLogLog actual = createHyperLogLog(0, 60000);
+        actual.merge(createHyperLogLog(40000, 100000));
+        assertTrue(Math.abs(actual.cardinality() - 100000) < 100000 * 0.05);
+    }
+    
+    @Test
+    public void assertMergeDenseSketchIntoSparseSketch() {
+        HyperLogLog actual = createHyperLogLog(0, 10);
+        actual.merge(createHyperLogLog(0, 10000));
+        assertTrue(Math.abs(actual.cardinality() - 10000) < 10000 * 0.05);
+    }
+    
+    private HyperLogLog createHyperLogLog(final int startInclusive, final int endExclusive) {
+        HyperLogLog result = new HyperLogLog();
+        for (int i = startInclusive; i < endExclusive; i++) {
+            result.offer(i);
+        }
+        return result;
+    }
+}
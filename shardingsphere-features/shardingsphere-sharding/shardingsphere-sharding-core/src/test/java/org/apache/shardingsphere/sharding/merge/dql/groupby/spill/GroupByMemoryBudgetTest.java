@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class GroupByMemoryBudgetTest {
+    
+    @Test
+    public void assertReserveWithinBudget() {
+        GroupByMemoryBudget memoryBudget = new GroupByMemoryBudget(100L, 0L);
+        assertTrue(memoryBudget.reserve(60L));
+        assertFalse(memoryBudget.reserve(60L));
+        memoryBudget.releaseAll();
+        assertTrue(memoryBudget.reserve(60L));
+        memoryBudget.releaseAll();
+    }
+    
+    @Test
+    public void assertReserveWithinGlobalBudget() {
+        GroupByMemoryBudget memoryBudget1 = new GroupByMemoryBudget(0L, 100L);
+        GroupByMemoryBudget memoryBudget2 = new GroupByMemoryBudget(0L, 100L);
+        assertTrue(memoryBudget1.reserve(60L));
+        assertFalse(memoryBudget2.reserve(60L));
+        memoryBudget1.releaseAll();
+        assertTrue(memoryBudget2.reserve(60L));
+        memoryBudget2.releaseAll();
+        assertThat(GroupByMemoryBudget.getGlobalReservedBytes(), is(0L));
+    }
+    
+    @Test
+    public void assertEstimateGroupBytes() {
+        assertThat(GroupByMemoryBudget.estimateGroupBytes(Collections.singletonList("foo"), 2, 1), is(128L + 2 * 16L + 64L + 2 * (16L + 24L + 2 * 3L)));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillFileTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        SpillFile spillFile = new SpillFile();
+        for (int i = 0; i < 2000; i++) {
+            spillFile.write(new Object[]{i, "foo_" + i, null});
+        }
+        assertThat(spillFile.getRowCount(), is(2000));
+        Iterator<Object[]> actual = spillFile.read();
+        for (int i = 0; i < 2000; i++) {
+            assertTrue(actual.hasNext());
+            assertThat(actual.next(), is(new Object[]{i, "foo_" + i, null}));
+        }
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    public void assertCloseBeforeReadAll() throws IOException {
+        SpillFile spillFile = new SpillFile();
+        for (int i = 0; i < 10; i++) {
+            spillFile.write(new Object[]{i});
+        }
+        Iterator<Object[]> actual = spillFile.read();
+        assertThat(actual.next(), is(new Object[]{0}));
+        spillFile.close();
+        assertFalse(actual.hasNext());
+    }
+}
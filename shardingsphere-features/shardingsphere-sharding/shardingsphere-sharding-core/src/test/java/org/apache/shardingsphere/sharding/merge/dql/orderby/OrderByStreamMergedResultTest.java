@@ -41,6 +41,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -136,6 +137,35 @@ public final class OrderByStreamMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextForManyResultSets() throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(20);
+        for (int i = 0; i < 20; i++) {
+            QueryResult queryResult = mock(QueryResult.class);
+            QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+            when(queryResult.getMetaData()).thenReturn(metaData);
+            when(metaData.getColumnName(1)).thenReturn("col1");
+            when(metaData.getColumnName(2)).thenReturn("col2");
+            queryResults.add(queryResult);
+        }
+        for (int i = 1; i < 20; i++) {
+            when(queryResults.get(i).next()).thenReturn(true, true, false);
+            String first = String.format("%02d", i);
+            String second = String.format("%02d", i + 20);
+            when(queryResults.get(i).getValue(1, Object.class)).thenReturn(first, first, second, second);
+        }
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"));
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, buildSchema());
+        for (int i = 1; i < 40; i++) {
+            if (20 == i) {
+                continue;
+            }
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class).toString(), is(String.format("%02d", i)));
+        }
+        assertFalse(actual.next());
+    }
+    
     @Test
     public void assertNextForCaseSensitive() throws SQLException {
         List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class));
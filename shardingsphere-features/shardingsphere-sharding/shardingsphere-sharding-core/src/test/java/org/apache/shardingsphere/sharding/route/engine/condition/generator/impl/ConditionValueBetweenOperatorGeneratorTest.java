@@ -138,6 +138,7 @@ public final class ConditionValueBetweenOperatorGeneratorTest {
         assertThat(conditionValue.getTableName(), is("tbl"));
         assertThat(conditionValue.getColumnName(), is("id"));
         assertThat(conditionValue.getValueRange(), is(Range.closed(1, 2)));
+        assertThat(conditionValue.getParameterMarkerIndexes(), is(Arrays.asList(0, 1)));
     }
     
     @Test
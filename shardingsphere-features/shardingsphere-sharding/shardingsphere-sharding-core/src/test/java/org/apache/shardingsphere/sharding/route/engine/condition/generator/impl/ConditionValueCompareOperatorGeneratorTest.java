@@ -30,6 +30,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.P
 import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Optional;
@@ -127,6 +128,21 @@ public final class ConditionValueCompareOperatorGeneratorTest {
         assertThat(conditionValue.getTableName(), is("tbl"));
         assertThat(conditionValue.getColumnName(), is("id"));
         assertThat(conditionValue.getValues(), is(Collections.singletonList(1)));
+        assertThat(conditionValue.getParameterMarkerIndexes(), is(Collections.singletonList(0)));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertGenerateRangeConditionValueWithParameter() {
+        ColumnSegment left = new ColumnSegment(0, 0, new IdentifierValue("id"));
+        ParameterMarkerExpressionSegment right = new ParameterMarkerExpressionSegment(0, 0, 1);
+        BinaryOperationExpression predicate = new BinaryOperationExpression(0, 0, left, right, ">", "id > ?");
+        Optional<ShardingConditionValue> actual = generator.generate(predicate, column, Arrays.asList(0, 1));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(RangeShardingConditionValue.class));
+        RangeShardingConditionValue<Integer> conditionValue = (RangeShardingConditionValue<Integer>) actual.get();
+        assertThat(conditionValue.getValueRange(), is(Range.greaterThan(1)));
+        assertThat(conditionValue.getParameterMarkerIndexes(), is(Collections.singletonList(1)));
     }
     
     @Test
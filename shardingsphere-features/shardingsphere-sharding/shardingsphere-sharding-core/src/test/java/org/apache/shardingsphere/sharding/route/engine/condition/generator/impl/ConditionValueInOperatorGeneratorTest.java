@@ -69,6 +69,7 @@ public final class ConditionValueInOperatorGeneratorTest {
         assertThat(conditionValue.getTableName(), is("tbl"));
         assertThat(conditionValue.getColumnName(), is("id"));
         assertThat(conditionValue.getValues(), is(Collections.singletonList(1)));
+        assertThat(conditionValue.getParameterMarkerIndexes(), is(Collections.singletonList(0)));
     }
     
     @Test
@@ -95,4 +95,13 @@ public class CommonSQLStatementContext<T extends SQLStatement> implements SQLSta
     public boolean isHintWriteRouteOnly() {
         return sqlHintExtractor.isHintWriteRouteOnly();
     }
+    
+    /**
+     * Find hint max replication delay milliseconds of read data source.
+     *
+     * @return max replication delay milliseconds
+     */
+    public Optional<Long> findHintMaxReplicationDelayMilliseconds() {
+        return sqlHintExtractor.findHintMaxReplicationDelayMilliseconds();
+    }
 }
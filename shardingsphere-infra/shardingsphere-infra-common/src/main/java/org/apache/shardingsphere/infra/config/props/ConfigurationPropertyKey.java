@@ -47,11 +47,51 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute SQL and proxy commands on virtual threads, only available for JVM which supports virtual thread.
+     */
+    KERNEL_VIRTUAL_THREAD_ENABLED("kernel-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Whether cache route result of repeated logic SQL by sharding values and rewrite result of it by parameters.
+     */
+    KERNEL_EXECUTION_PLAN_CACHE_ENABLED("kernel-execution-plan-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max size of execution plan cache.
+     */
+    KERNEL_EXECUTION_PLAN_CACHE_SIZE("kernel-execution-plan-cache-size", String.valueOf(4096), int.class, true),
+    
+    /**
+     * Timeout milliseconds of each execution group of query, statements of unfinished execution groups are cancelled once exceeded. Less than or equal to 0 means no timeout.
+     */
+    KERNEL_EXECUTION_GROUP_TIMEOUT_MILLISECONDS("kernel-execution-group-timeout-milliseconds", String.valueOf(0L), long.class, false),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Whether plan connection size and connection mode by available connections of data source pool instead of max connections size per query.
+     */
+    ADAPTIVE_CONNECTION_MODE_ENABLED("adaptive-connection-mode-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max bytes of group by merge for each query before spilling rows to temp files, less than or equal to 0 means no limitation.
+     */
+    SQL_GROUP_BY_MEMORY_BUDGET_BYTES("sql-group-by-memory-budget-bytes", String.valueOf(0L), long.class, false),
+    
+    /**
+     * Max bytes of group by merge for all queries before spilling rows to temp files, less than or equal to 0 means no limitation.
+     */
+    SQL_GROUP_BY_GLOBAL_MEMORY_BUDGET_BYTES("sql-group-by-global-memory-budget-bytes", String.valueOf(0L), long.class, false),
+    
+    /**
+     * Whether approximate count distinct with HyperLogLog is enabled.
+     */
+    SQL_APPROXIMATE_COUNT_DISTINCT_ENABLED("sql-approximate-count-distinct-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Whether validate table meta data consistency when application startup or updated.
      */
@@ -67,11 +107,26 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Flush threshold of written bytes for ShardingSphere-Proxy, flush by records count if it is not greater than 0.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy-frontend-flush-bytes-threshold", String.valueOf(0L), long.class, false),
+    
     /**
      * Whether enable hint for ShardingSphere-Proxy.
      */
     PROXY_HINT_ENABLED("proxy-hint-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether parameterize literals of DML sent by text protocol for ShardingSphere-Proxy, so that SQL which differs only in literals shares cached SQL statement.
+     */
+    PROXY_SQL_PARAMETERIZE_ENABLED("proxy-sql-parameterize-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Whether pass text values of rows from database through to client for text protocol queries which are routed to single data node and not decorated.
+     */
+    PROXY_TEXT_ROW_PASSTHROUGH_ENABLED("proxy-text-row-passthrough-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Whether enable show process list.
      */
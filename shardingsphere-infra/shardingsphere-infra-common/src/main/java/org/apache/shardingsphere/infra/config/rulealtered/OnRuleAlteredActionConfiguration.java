@@ -62,5 +62,11 @@ public final class OnRuleAlteredActionConfiguration {
         private final Integer batchSize;
         
         private final ShardingSphereAlgorithmConfiguration rateLimiter;
+        
+        private final Boolean bulkLoad;
+        
+        public OutputConfiguration(final Integer workerThread, final Integer batchSize, final ShardingSphereAlgorithmConfiguration rateLimiter) {
+            this(workerThread, batchSize, rateLimiter, null);
+        }
     }
 }
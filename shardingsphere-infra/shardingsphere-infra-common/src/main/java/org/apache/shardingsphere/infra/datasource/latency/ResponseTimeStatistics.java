@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.latency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Response time statistics.
+ * 
+ * <p>Tracks an exponentially weighted moving average of response times and the count of in-flight requests of one target without locking.
+ * Failed requests are sampled with at least a penalty time, so that a failing target is not preferred for failing fast.
+ * The average decays while the target is not sampled, so that a target which was slow once gets probed again later,
+ * but never below a fraction of the sampled average, so that an idle target does not look faster than a measured one.</p>
+ */
+public final class ResponseTimeStatistics {
+    
+    private static final int WEIGHT_SHIFT = 3;
+    
+    private static final long DECAY_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private static final double MIN_DECAY_RATIO = 0.25D;
+    
+    private static final long FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    
+    private final AtomicLong averageNanos = new AtomicLong();
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private volatile long lastRecordNanos = System.nanoTime();
+    
+    /**
+     * Begin request.
+     * 
+     * @return start time in nanoseconds
+     */
+    public long begin() {
+        inFlightCount.incrementAndGet();
+        return System.nanoTime();
+    }
+    
+    /**
+     * End request.
+     * 
+     * @param startNanos start time in nanoseconds returned by {@link #begin()}
+     * @param succeeded whether request succeeded, failed requests are sampled with at least the failure penalty time
+     */
+    public void end(final long startNanos, final boolean succeeded) {
+        inFlightCount.decrementAndGet();
+        long now = System.nanoTime();
+        record(succeeded ? now - startNanos : Math.max(now - startNanos, FAILURE_PENALTY_NANOS));
+        lastRecordNanos = now;
+    }
+    
+    private void record(final long elapsedNanos) {
+        long current;
+        long next;
+        do {
+            current = averageNanos.get();
+            next = 0L == current ? elapsedNanos : current + ((elapsedNanos - current) >> WEIGHT_SHIFT);
+        } while (!averageNanos.compareAndSet(current, next));
+    }
+    
+    /**
+     * Get average response time in nanoseconds.
+     * 
+     * @return average response time in nanoseconds, decayed by the time elapsed since last sample down to a quarter at most
+     */
+    public long getAverageNanos() {
+        long idleNanos = System.nanoTime() - lastRecordNanos;
+        return idleNanos <= 0L ? averageNanos.get() : (long) (averageNanos.get() * Math.max(Math.exp(-(double) idleNanos / DECAY_NANOS), MIN_DECAY_RATIO));
+    }
+    
+    /**
+     * Get in-flight request count.
+     * 
+     * @return in-flight request count
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get load score, the lower the better.
+     * 
+     * @return load score
+     */
+    public double getScore() {
+        return (getAverageNanos() + 1D) * (Math.max(getInFlightCount(), 0) + 1);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.latency;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Response time statistics registry.
+ * 
+ * <p>Statistics are registered by the algorithms which use them and are kept apart by scope, such as database name,
+ * so that targets of same name in different scopes are not mixed and targets no algorithm uses are not timed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ResponseTimeStatisticsRegistry {
+    
+    private static final ResponseTimeStatisticsRegistry INSTANCE = new ResponseTimeStatisticsRegistry();
+    
+    private final Map<String, Map<String, ResponseTimeStatistics>> statistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Get response time statistics registry.
+     *
+     * @return instance of response time statistics registry
+     */
+    public static ResponseTimeStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register response time statistics.
+     * 
+     * @param scope scope of statistics, such as database name
+     * @param name data source name or instance id
+     * @return registered response time statistics
+     */
+    public ResponseTimeStatistics register(final String scope, final String name) {
+        return statistics.computeIfAbsent(scope, key -> new ConcurrentHashMap<>()).computeIfAbsent(name, key -> new ResponseTimeStatistics());
+    }
+    
+    /**
+     * Find registered response time statistics.
+     * 
+     * @param scope scope of statistics, such as database name
+     * @param name data source name or instance id
+     * @return found response time statistics
+     */
+    public Optional<ResponseTimeStatistics> findStatistics(final String scope, final String name) {
+        if (null == scope) {
+            return Optional.empty();
+        }
+        Map<String, ResponseTimeStatistics> scopedStatistics = statistics.get(scope);
+        return null == scopedStatistics ? Optional.empty() : Optional.ofNullable(scopedStatistics.get(name));
+    }
+}
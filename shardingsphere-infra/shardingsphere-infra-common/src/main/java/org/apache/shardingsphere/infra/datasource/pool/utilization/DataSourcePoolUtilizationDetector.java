@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.utilization;
+
+import org.apache.shardingsphere.spi.type.required.RequiredSPI;
+import org.apache.shardingsphere.spi.type.typed.StatelessTypedSPI;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+/**
+ * Data source pool utilization detector.
+ */
+public interface DataSourcePoolUtilizationDetector extends StatelessTypedSPI, RequiredSPI {
+    
+    /**
+     * Find available connection size.
+     * 
+     * @param dataSource data source pool to be detected
+     * @return available connection size, empty if the pool does not expose its utilization
+     */
+    Optional<Integer> findAvailableConnectionSize(DataSource dataSource);
+}
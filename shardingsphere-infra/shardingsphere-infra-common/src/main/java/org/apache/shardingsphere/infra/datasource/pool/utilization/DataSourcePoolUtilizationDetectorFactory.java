@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.utilization;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.spi.type.required.RequiredSPIRegistry;
+import org.apache.shardingsphere.spi.type.typed.TypedSPIRegistry;
+
+/**
+ * Data source pool utilization detector factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourcePoolUtilizationDetectorFactory {
+    
+    static {
+        ShardingSphereServiceLoader.register(DataSourcePoolUtilizationDetector.class);
+    }
+    
+    /**
+     * Create new instance of data source pool utilization detector.
+     * 
+     * @param dataSourceClassName data source class name
+     * @return new instance of data source pool utilization detector
+     */
+    public static DataSourcePoolUtilizationDetector newInstance(final String dataSourceClassName) {
+        return TypedSPIRegistry.findRegisteredService(DataSourcePoolUtilizationDetector.class, dataSourceClassName)
+                .orElse(RequiredSPIRegistry.getRegisteredService(DataSourcePoolUtilizationDetector.class));
+    }
+}
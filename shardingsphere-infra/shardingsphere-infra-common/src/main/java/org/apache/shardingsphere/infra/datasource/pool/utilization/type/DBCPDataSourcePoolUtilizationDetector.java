@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.utilization.type;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.datasource.pool.utilization.DataSourcePoolUtilizationDetector;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+/**
+ * DBCP data source pool utilization detector.
+ */
+public final class DBCPDataSourcePoolUtilizationDetector implements DataSourcePoolUtilizationDetector {
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Override
+    public Optional<Integer> findAvailableConnectionSize(final DataSource dataSource) {
+        int maxTotal = DataSourcePoolUtilizationReflection.invokeGetter(dataSource, "getMaxTotal");
+        if (maxTotal < 0) {
+            return Optional.empty();
+        }
+        int numActive = DataSourcePoolUtilizationReflection.invokeGetter(dataSource, "getNumActive");
+        return Optional.of(Math.max(maxTotal - numActive, 0));
+    }
+    
+    @Override
+    public String getType() {
+        return "org.apache.commons.dbcp2.BasicDataSource";
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.utilization.type;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data source pool utilization reflection.
+ * 
+ * <p>Getter methods are looked up once per class, since utilization is detected on every query preparation.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class DataSourcePoolUtilizationReflection {
+    
+    private static final Map<Class<?>, Map<String, Method>> CACHED_METHODS = new ConcurrentHashMap<>();
+    
+    /**
+     * Invoke getter method.
+     * 
+     * @param target target to be invoked
+     * @param methodName getter method name
+     * @param <T> type of return value
+     * @return return value of getter method
+     * @throws ReflectiveOperationException reflective operation exception
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T invokeGetter(final Object target, final String methodName) throws ReflectiveOperationException {
+        return (T) getMethod(target.getClass(), methodName).invoke(target);
+    }
+    
+    private static Method getMethod(final Class<?> targetClass, final String methodName) throws NoSuchMethodException {
+        Map<String, Method> methods = CACHED_METHODS.get(targetClass);
+        if (null == methods) {
+            methods = CACHED_METHODS.computeIfAbsent(targetClass, key -> new ConcurrentHashMap<>());
+        }
+        Method result = methods.get(methodName);
+        if (null == result) {
+            result = targetClass.getMethod(methodName);
+            methods.put(methodName, result);
+        }
+        return result;
+    }
+}
@@ -44,6 +44,8 @@ public final class HintManager implements AutoCloseable {
     
     private boolean writeRouteOnly;
     
+    private Long maxReplicationDelayMilliseconds;
+    
     @Setter
     private String dataSourceName;
     
@@ -166,6 +168,24 @@ public final class HintManager implements AutoCloseable {
         return null != HINT_MANAGER_HOLDER.get() && HINT_MANAGER_HOLDER.get().writeRouteOnly;
     }
     
+    /**
+     * Set max replication delay milliseconds of read data source.
+     *
+     * @param maxReplicationDelayMilliseconds max replication delay milliseconds
+     */
+    public void setMaxReplicationDelayMilliseconds(final long maxReplicationDelayMilliseconds) {
+        this.maxReplicationDelayMilliseconds = maxReplicationDelayMilliseconds;
+    }
+    
+    /**
+     * Find max replication delay milliseconds of read data source.
+     *
+     * @return max replication delay milliseconds
+     */
+    public static Optional<Long> findMaxReplicationDelayMilliseconds() {
+        return Optional.ofNullable(HINT_MANAGER_HOLDER.get()).map(hintManager -> hintManager.maxReplicationDelayMilliseconds);
+    }
+    
     /**
      * Clear thread local for hint manager.
      */
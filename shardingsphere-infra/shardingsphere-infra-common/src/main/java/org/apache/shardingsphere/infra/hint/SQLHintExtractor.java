@@ -67,6 +67,16 @@ public final class SQLHintExtractor {
         return sqlHintProperties.getValue(SQLHintPropertiesKey.WRITE_ROUTE_ONLY_KEY);
     }
     
+    /**
+     * Find hint max replication delay milliseconds.
+     *
+     * @return max replication delay milliseconds
+     */
+    public Optional<Long> findHintMaxReplicationDelayMilliseconds() {
+        long result = sqlHintProperties.getValue(SQLHintPropertiesKey.MAX_REPLICATION_DELAY_MILLISECONDS_KEY);
+        return result < 0L ? Optional.empty() : Optional.of(result);
+    }
+    
     /**
      * Judge whether hint skip encrypt rewrite or not.
      *
@@ -38,6 +38,11 @@ public enum SQLHintPropertiesKey implements TypedPropertyKey {
      */
     WRITE_ROUTE_ONLY_KEY("writeRouteOnly", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Max replication delay milliseconds of read data source, negative means not hinted.
+     */
+    MAX_REPLICATION_DELAY_MILLISECONDS_KEY("maxReplicationDelayMilliseconds", "-1", long.class),
+    
     /**
      * Whether to use traffic or not.
      */
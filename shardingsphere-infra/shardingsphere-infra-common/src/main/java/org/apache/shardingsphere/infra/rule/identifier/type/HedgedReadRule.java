@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rule.identifier.type;
+
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+import java.util.Optional;
+
+/**
+ * Hedged read rule.
+ */
+public interface HedgedReadRule extends ShardingSphereRule {
+    
+    /**
+     * Judge whether hedged read is enabled on any data source.
+     *
+     * @return hedged read is enabled or not
+     */
+    boolean isHedgedReadEnabled();
+    
+    /**
+     * Find hedged data source name.
+     *
+     * @param dataSourceName data source name which read routed to
+     * @return hedged data source name, empty if read on data source can not be hedged
+     */
+    Optional<String> findHedgedDataSourceName(String dataSourceName);
+    
+    /**
+     * Find hedged read delay milliseconds.
+     *
+     * @param dataSourceName data source name which read routed to
+     * @return delay milliseconds before issuing hedged read, empty if not enough latency samples yet
+     */
+    Optional<Long> findHedgedReadDelayMillis(String dataSourceName);
+    
+    /**
+     * Record read latency.
+     *
+     * @param dataSourceName data source name
+     * @param latencyMillis latency milliseconds
+     */
+    void recordReadLatency(String dataSourceName, long latencyMillis);
+}
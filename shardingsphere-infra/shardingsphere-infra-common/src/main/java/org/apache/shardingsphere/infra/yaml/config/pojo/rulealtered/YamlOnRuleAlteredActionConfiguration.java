@@ -73,6 +73,8 @@ public final class YamlOnRuleAlteredActionConfiguration implements YamlConfigura
         
         private YamlShardingSphereAlgorithmConfiguration rateLimiter;
         
+        private Boolean bulkLoad;
+        
         /**
          * Build with default value.
          *
@@ -98,6 +98,7 @@ public final class OnRuleAlteredActionConfigurationYamlSwapper implements YamlCo
             result.setWorkerThread(data.getWorkerThread());
             result.setBatchSize(data.getBatchSize());
             result.setRateLimiter(ALGORITHM_CONFIG_YAML_SWAPPER.swapToYamlConfiguration(data.getRateLimiter()));
+            result.setBulkLoad(data.getBulkLoad());
             return result;
         }
         
@@ -106,7 +107,7 @@ public final class OnRuleAlteredActionConfigurationYamlSwapper implements YamlCo
             if (null == yamlConfig) {
                 return null;
             }
-            return new OutputConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), ALGORITHM_CONFIG_YAML_SWAPPER.swapToObject(yamlConfig.getRateLimiter()));
+            return new OutputConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), ALGORITHM_CONFIG_YAML_SWAPPER.swapToObject(yamlConfig.getRateLimiter()), yamlConfig.getBulkLoad());
         }
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.latency;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ResponseTimeStatisticsTest {
+    
+    @Test
+    public void assertBeginAndEnd() {
+        ResponseTimeStatistics statistics = new ResponseTimeStatistics();
+        long startNanos = statistics.begin();
+        assertThat(statistics.getInFlightCount(), is(1));
+        statistics.end(startNanos - 1000000L, true);
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertTrue(statistics.getAverageNanos() > 0L);
+    }
+    
+    @Test
+    public void assertEndWithFailure() {
+        ResponseTimeStatistics statistics = new ResponseTimeStatistics();
+        statistics.end(statistics.begin() - 1000000L, false);
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertTrue(statistics.getAverageNanos() >= TimeUnit.MILLISECONDS.toNanos(500L));
+    }
+    
+    @Test
+    public void assertFailureScoresWorseThanSuccess() {
+        ResponseTimeStatistics succeeded = new ResponseTimeStatistics();
+        succeeded.end(succeeded.begin() - 1000000L, true);
+        ResponseTimeStatistics failed = new ResponseTimeStatistics();
+        failed.end(failed.begin(), false);
+        assertTrue(succeeded.getScore() < failed.getScore());
+    }
+    
+    @Test
+    public void assertGetScore() {
+        ResponseTimeStatistics idle = new ResponseTimeStatistics();
+        ResponseTimeStatistics busy = new ResponseTimeStatistics();
+        busy.begin();
+        busy.begin();
+        assertTrue(idle.getScore() < busy.getScore());
+    }
+    
+    @Test
+    public void assertRegisterToRegistry() {
+        ResponseTimeStatistics statistics = ResponseTimeStatisticsRegistry.getInstance().register("registry_test_db", "registry_test_ds");
+        assertTrue(statistics == ResponseTimeStatisticsRegistry.getInstance().register("registry_test_db", "registry_test_ds"));
+        assertTrue(statistics == ResponseTimeStatisticsRegistry.getInstance().findStatistics("registry_test_db", "registry_test_ds").orElse(null));
+    }
+    
+    @Test
+    public void assertFindStatisticsFromRegistryWithOtherScope() {
+        ResponseTimeStatisticsRegistry.getInstance().register("registry_test_db", "registry_scoped_ds");
+        assertFalse(ResponseTimeStatisticsRegistry.getInstance().findStatistics("registry_other_db", "registry_scoped_ds").isPresent());
+        assertFalse(ResponseTimeStatisticsRegistry.getInstance().findStatistics(null, "registry_scoped_ds").isPresent());
+    }
+    
+    @Test
+    public void assertFindStatisticsFromRegistryWithoutRegistered() {
+        assertFalse(ResponseTimeStatisticsRegistry.getInstance().findStatistics("registry_test_db", "registry_unregistered_ds").isPresent());
+    }
+}
@@ -21,6 +21,7 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -177,6 +178,15 @@ public final class HintManagerTest {
         }
     }
     
+    @Test
+    public void assertSetMaxReplicationDelayMilliseconds() {
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setMaxReplicationDelayMilliseconds(500L);
+            assertThat(HintManager.findMaxReplicationDelayMilliseconds(), is(Optional.of(500L)));
+        }
+        assertFalse(HintManager.findMaxReplicationDelayMilliseconds().isPresent());
+    }
+    
     @Test
     public void assertClearShardingValues() {
         try (HintManager hintManager = HintManager.getInstance()) {
@@ -49,6 +49,21 @@ public final class SQLHintExtractorTest {
         assertTrue(new SQLHintExtractor(statement).isHintWriteRouteOnly());
     }
     
+    @Test
+    public void assertFindHintMaxReplicationDelayMilliseconds() {
+        AbstractSQLStatement statement = mock(AbstractSQLStatement.class);
+        when(statement.getCommentSegments()).thenReturn(Collections.singletonList(new CommentSegment("/* ShardingSphere hint: maxReplicationDelayMilliseconds=500 */", 0, 0)));
+        Optional<Long> maxReplicationDelayMilliseconds = new SQLHintExtractor(statement).findHintMaxReplicationDelayMilliseconds();
+        assertTrue(maxReplicationDelayMilliseconds.isPresent());
+        assertThat(maxReplicationDelayMilliseconds.get(), is(500L));
+    }
+    
+    @Test
+    public void assertFindHintMaxReplicationDelayMillisecondsNotExist() {
+        AbstractSQLStatement statement = mock(AbstractSQLStatement.class);
+        assertFalse(new SQLHintExtractor(statement).findHintMaxReplicationDelayMilliseconds().isPresent());
+    }
+    
     @Test
     public void assertFindHintDataSourceNameNotExist() {
         AbstractSQLStatement statement = mock(AbstractSQLStatement.class);
@@ -50,6 +50,7 @@ public final class OnRuleAlteredActionConfigurationYamlSwapperTest {
         yamlOutputConfig.setWorkerThread(40);
         yamlOutputConfig.setBatchSize(1000);
         yamlOutputConfig.setRateLimiter(new YamlShardingSphereAlgorithmConfiguration("OUTPUT", rateLimiterProps));
+        yamlOutputConfig.setBulkLoad(true);
         yamlConfig.setOutput(yamlOutputConfig);
         Properties streamChannelProps = new Properties();
         streamChannelProps.setProperty("block-queue-size", "10000");
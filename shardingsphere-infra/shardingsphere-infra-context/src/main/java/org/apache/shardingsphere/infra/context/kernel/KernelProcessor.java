@@ -18,17 +18,28 @@
 package org.apache.shardingsphere.infra.context.kernel;
 
 import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlan;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCache;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCacheKey;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
+import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Kernel processor.
  */
@@ -43,13 +54,59 @@ public final class KernelProcessor {
      * @return execution context
      */
     public ExecutionContext generateExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
-        RouteContext routeContext = route(logicSQL, metaData, props);
-        SQLRewriteResult rewriteResult = rewrite(logicSQL, metaData, props, routeContext);
-        ExecutionContext result = createExecutionContext(logicSQL, metaData, routeContext, rewriteResult);
+        ExecutionContext result = isExecutionPlanCacheEnabled(logicSQL, props) ? generateExecutionContextWithCache(logicSQL, metaData, props) : generateExecutionContext0(logicSQL, metaData, props);
         logSQL(logicSQL, props, result);
         return result;
     }
     
+    private boolean isExecutionPlanCacheEnabled(final LogicSQL logicSQL, final ConfigurationProperties props) {
+        return props.<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTION_PLAN_CACHE_ENABLED) && logicSQL.getSqlStatementContext() instanceof SelectStatementContext
+                && !HintManager.isInstantiated();
+    }
+    
+    private ExecutionContext generateExecutionContext0(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        RouteContext routeContext = route(logicSQL, metaData, props);
+        SQLRewriteResult rewriteResult = rewrite(logicSQL, metaData, props, routeContext);
+        return createExecutionContext(logicSQL, metaData, routeContext, rewriteResult);
+    }
+    
+    private ExecutionContext generateExecutionContextWithCache(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        ExecutionPlanCache executionPlanCache = ExecutionPlanCache.getInstance(metaData, props);
+        Optional<ExecutionPlan> cachedExecutionPlan = executionPlanCache.findRouteParameterMarkerIndexes(logicSQL.getSql(), logicSQL.getParameters().size())
+                .flatMap(routeParameterMarkerIndexes -> executionPlanCache.find(createExecutionPlanCacheKey(logicSQL, routeParameterMarkerIndexes)));
+        if (cachedExecutionPlan.isPresent()) {
+            return createExecutionContext(logicSQL, metaData, props, cachedExecutionPlan.get());
+        }
+        RouteContext routeContext = route(logicSQL, metaData, props);
+        SQLRewriteResult rewriteResult = rewrite(logicSQL, metaData, props, routeContext);
+        if (isCacheable(routeContext)) {
+            boolean needAggregateRewrite = ((SelectStatementContext) logicSQL.getSqlStatementContext()).isNeedAggregateRewrite();
+            executionPlanCache.put(createExecutionPlanCacheKey(logicSQL, routeContext.getParameterMarkerIndexes()),
+                    new ExecutionPlan(routeContext, rewriteResult, new ArrayList<>(logicSQL.getParameters()), needAggregateRewrite));
+        }
+        return createExecutionContext(logicSQL, metaData, routeContext, rewriteResult);
+    }
+    
+    private ExecutionPlanCacheKey createExecutionPlanCacheKey(final LogicSQL logicSQL, final Collection<Integer> routeParameterMarkerIndexes) {
+        List<Object> routeParameters = new ArrayList<>(routeParameterMarkerIndexes.size());
+        for (int each : routeParameterMarkerIndexes) {
+            routeParameters.add(logicSQL.getParameters().get(each));
+        }
+        return new ExecutionPlanCacheKey(logicSQL.getSql(), routeParameters);
+    }
+    
+    private boolean isCacheable(final RouteContext routeContext) {
+        if (routeContext.isFederated()) {
+            return false;
+        }
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            if (!each.getDataSourceMapper().getLogicName().equals(each.getDataSourceMapper().getActualName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     private RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
         return new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props).route(logicSQL, metaData);
     }
@@ -63,6 +120,14 @@ public final class KernelProcessor {
         return new ExecutionContext(logicSQL, ExecutionContextBuilder.build(metaData, rewriteResult, logicSQL.getSqlStatementContext()), routeContext);
     }
     
+    private ExecutionContext createExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props, final ExecutionPlan executionPlan) {
+        if (!executionPlan.getParameters().equals(logicSQL.getParameters())) {
+            return createExecutionContext(logicSQL, metaData, executionPlan.getRouteContext(), rewrite(logicSQL, metaData, props, executionPlan.getRouteContext()));
+        }
+        ((SelectStatementContext) logicSQL.getSqlStatementContext()).setNeedAggregateRewrite(executionPlan.isNeedAggregateRewrite());
+        return createExecutionContext(logicSQL, metaData, executionPlan.getRouteContext(), executionPlan.getRewriteResult());
+    }
+    
     private void logSQL(final LogicSQL logicSQL, final ConfigurationProperties props, final ExecutionContext executionContext) {
         if (props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
             SQLLogger.logSQL(logicSQL, props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
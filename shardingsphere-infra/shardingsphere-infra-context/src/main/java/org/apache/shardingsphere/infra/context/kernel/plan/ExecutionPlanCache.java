@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Execution plan cache.
+ * 
+ * <p>Each ShardingSphere meta data instance has its own cache, which is released together with meta data and should be invalidated when meta data or rules changed in place.</p>
+ */
+public final class ExecutionPlanCache {
+    
+    private static final Cache<ShardingSphereMetaData, ExecutionPlanCache> INSTANCES = CacheBuilder.newBuilder().weakKeys().build();
+    
+    private final Cache<RouteParameterMarkerIndexesKey, Collection<Integer>> routeParameterMarkerIndexes;
+    
+    private final Cache<ExecutionPlanCacheKey, ExecutionPlan> cache;
+    
+    private ExecutionPlanCache(final int maximumSize) {
+        routeParameterMarkerIndexes = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+    
+    /**
+     * Get execution plan cache of meta data.
+     *
+     * @param metaData ShardingSphere meta data
+     * @param props configuration properties which cache is created with
+     * @return execution plan cache of meta data
+     */
+    @SneakyThrows(ExecutionException.class)
+    public static ExecutionPlanCache getInstance(final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        return INSTANCES.get(metaData, () -> new ExecutionPlanCache(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTION_PLAN_CACHE_SIZE)));
+    }
+    
+    /**
+     * Invalidate execution plan cache of meta data.
+     *
+     * @param metaData ShardingSphere meta data
+     */
+    public static void invalidate(final ShardingSphereMetaData metaData) {
+        INSTANCES.invalidate(metaData);
+    }
+    
+    /**
+     * Find indexes of parameter markers which route result of logic SQL depends on.
+     *
+     * @param sql logic SQL
+     * @param parameterCount count of parameters bound to logic SQL
+     * @return found route parameter marker indexes
+     */
+    public Optional<Collection<Integer>> findRouteParameterMarkerIndexes(final String sql, final int parameterCount) {
+        return Optional.ofNullable(routeParameterMarkerIndexes.getIfPresent(new RouteParameterMarkerIndexesKey(sql, parameterCount)));
+    }
+    
+    /**
+     * Find execution plan.
+     *
+     * @param key execution plan cache key
+     * @return found execution plan
+     */
+    public Optional<ExecutionPlan> find(final ExecutionPlanCacheKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+    
+    /**
+     * Put execution plan.
+     *
+     * @param key execution plan cache key
+     * @param executionPlan execution plan
+     */
+    public void put(final ExecutionPlanCacheKey key, final ExecutionPlan executionPlan) {
+        routeParameterMarkerIndexes.put(new RouteParameterMarkerIndexesKey(key.getSql(), executionPlan.getParameters().size()), executionPlan.getRouteContext().getParameterMarkerIndexes());
+        cache.put(key, executionPlan);
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class RouteParameterMarkerIndexesKey {
+        
+        private final String sql;
+        
+        private final int parameterCount;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Execution plan cache key.
+ * 
+ * <p>Route parameters are the values of parameter markers which route result depends on, such as sharding condition values.</p>
+ */
+@Getter
+@EqualsAndHashCode
+public final class ExecutionPlanCacheKey {
+    
+    private final String sql;
+    
+    private final List<Object> routeParameters;
+    
+    public ExecutionPlanCacheKey(final String sql, final List<Object> routeParameters) {
+        this.sql = sql;
+        this.routeParameters = new ArrayList<>(routeParameters);
+    }
+}
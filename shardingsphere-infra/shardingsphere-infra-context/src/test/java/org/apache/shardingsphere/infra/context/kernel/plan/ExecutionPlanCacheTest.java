@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class ExecutionPlanCacheTest {
+    
+    private final ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    @After
+    public void tearDown() {
+        ExecutionPlanCache.invalidate(metaData);
+    }
+    
+    @Test
+    public void assertFindWithSameKey() {
+        ExecutionPlan executionPlan = createExecutionPlan();
+        ExecutionPlanCache.getInstance(metaData, props).put(createKey(1), executionPlan);
+        Optional<ExecutionPlan> actual = ExecutionPlanCache.getInstance(metaData, props).find(createKey(1));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(executionPlan));
+    }
+    
+    @Test
+    public void assertFindRouteParameterMarkerIndexes() {
+        ExecutionPlan executionPlan = createExecutionPlan();
+        executionPlan.getRouteContext().getParameterMarkerIndexes().add(0);
+        ExecutionPlanCache.getInstance(metaData, props).put(createKey(1), executionPlan);
+        Optional<Collection<Integer>> actual = ExecutionPlanCache.getInstance(metaData, props).findRouteParameterMarkerIndexes("SELECT * FROM t_order WHERE order_id = ?", 1);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(Collections.singleton(0)));
+    }
+    
+    @Test
+    public void assertFindRouteParameterMarkerIndexesWithDifferentParameterCount() {
+        ExecutionPlan executionPlan = createExecutionPlan();
+        executionPlan.getRouteContext().getParameterMarkerIndexes().add(0);
+        ExecutionPlanCache.getInstance(metaData, props).put(createKey(1), executionPlan);
+        assertFalse(ExecutionPlanCache.getInstance(metaData, props).findRouteParameterMarkerIndexes("SELECT * FROM t_order WHERE order_id = ?", 0).isPresent());
+    }
+    
+    @Test
+    public void assertFindWithDifferentRouteParameters() {
+        ExecutionPlanCache.getInstance(metaData, props).put(createKey(1), createExecutionPlan());
+        assertFalse(ExecutionPlanCache.getInstance(metaData, props).find(createKey(2)).isPresent());
+    }
+    
+    @Test
+    public void assertFindWithDifferentMetaData() {
+        ShardingSphereMetaData otherMetaData = mock(ShardingSphereMetaData.class);
+        ExecutionPlanCache.getInstance(metaData, props).put(createKey(1), createExecutionPlan());
+        assertThat(ExecutionPlanCache.getInstance(otherMetaData, props), not(ExecutionPlanCache.getInstance(metaData, props)));
+        assertFalse(ExecutionPlanCache.getInstance(otherMetaData, props).find(createKey(1)).isPresent());
+    }
+    
+    @Test
+    public void assertInvalidate() {
+        ShardingSphereMetaData otherMetaData = mock(ShardingSphereMetaData.class);
+        ExecutionPlanCache.getInstance(metaData, props).put(createKey(1), createExecutionPlan());
+        ExecutionPlanCache.getInstance(otherMetaData, props).put(createKey(1), createExecutionPlan());
+        ExecutionPlanCache.invalidate(metaData);
+        assertFalse(ExecutionPlanCache.getInstance(metaData, props).find(createKey(1)).isPresent());
+        assertTrue(ExecutionPlanCache.getInstance(otherMetaData, props).find(createKey(1)).isPresent());
+    }
+    
+    private ExecutionPlan createExecutionPlan() {
+        return new ExecutionPlan(new RouteContext(), mock(SQLRewriteResult.class), Collections.singletonList(1), false);
+    }
+    
+    private ExecutionPlanCacheKey createKey(final int parameter) {
+        return new ExecutionPlanCacheKey("SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(parameter));
+    }
+}
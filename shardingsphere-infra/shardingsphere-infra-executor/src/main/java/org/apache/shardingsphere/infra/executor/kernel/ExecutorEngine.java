@@ -17,7 +17,11 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -25,15 +29,23 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupConte
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Executor engine.
@@ -45,8 +57,15 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
+    @Getter(AccessLevel.NONE)
+    private ScheduledExecutorService timeoutScheduler;
+    
     private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+        this(executorSize, false);
+    }
+    
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -59,6 +78,17 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with executor size and thread type.
+     *
+     * @param executorSize executor size, which is ignored if virtual thread is enabled
+     * @param virtualThreadEnabled whether execute on virtual threads if supported by JVM
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSize(final int executorSize, final boolean virtualThreadEnabled) {
+        return new ExecutorEngine(executorSize, virtualThreadEnabled);
+    }
+    
     /**
      * Create executor engine with CPU and resources.
      * 
@@ -148,6 +178,98 @@ public final class ExecutorEngine implements AutoCloseable {
         return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
     }
     
+    private <I, O> CompletableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback,
+                                                                 final boolean isTrunkThread, final Map<String, Object> dataMap, final long timeoutMillis) {
+        CompletableFuture<Collection<O>> result = new CompletableFuture<>();
+        ListenableFuture<Collection<O>> future = executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), isTrunkThread, dataMap));
+        Futures.addCallback(future, new FutureCallback<Collection<O>>() {
+            
+            @Override
+            public void onSuccess(final Collection<O> executeResult) {
+                result.complete(executeResult);
+            }
+            
+            @Override
+            public void onFailure(final Throwable cause) {
+                result.completeExceptionally(cause);
+            }
+        }, MoreExecutors.directExecutor());
+        if (timeoutMillis > 0) {
+            ScheduledFuture<?> timeoutFuture = getTimeoutScheduler().schedule(
+                    () -> result.completeExceptionally(new TimeoutException(String.format("Execution group is not finished in %d milliseconds.", timeoutMillis))),
+                    timeoutMillis, TimeUnit.MILLISECONDS);
+            result.whenComplete((unused, ex) -> timeoutFuture.cancel(false));
+        }
+        result.whenComplete((unused, ex) -> {
+            if (null != ex && !future.isDone()) {
+                callback.cancel(executionGroup.getInputs());
+                future.cancel(true);
+            }
+        });
+        return result;
+    }
+    
+    private synchronized ScheduledExecutorService getTimeoutScheduler() {
+        if (null == timeoutScheduler) {
+            timeoutScheduler = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Timeout-%d"));
+        }
+        return timeoutScheduler;
+    }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * <p>
+     * All execution groups are executed by executor threads, the first execution group is executed as trunk.
+     * If any execution group fails or exceeds timeout, or returned future is cancelled, unfinished execution groups are cancelled by executor callback and then interrupted.
+     * </p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param timeoutMillis timeout milliseconds of each execution group, not greater than 0 means no timeout
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result, results are in the order of execution groups
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final ExecutionGroupContext<I> executionGroupContext,
+                                                          final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final long timeoutMillis) {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        Map<String, Object> dataMap = ExecutorDataMap.getValue();
+        List<CompletableFuture<Collection<O>>> groupFutures = new ArrayList<>(executionGroupContext.getInputGroups().size());
+        for (ExecutionGroup<I> each : executionGroupContext.getInputGroups()) {
+            boolean isTrunkThread = groupFutures.isEmpty();
+            groupFutures.add(asyncExecute(each, isTrunkThread && null != firstCallback ? firstCallback : callback, isTrunkThread, dataMap, timeoutMillis));
+        }
+        return combineGroupFutures(groupFutures);
+    }
+    
+    private <O> CompletableFuture<List<O>> combineGroupFutures(final List<CompletableFuture<Collection<O>>> groupFutures) {
+        CompletableFuture<List<O>> result = new CompletableFuture<>();
+        for (CompletableFuture<Collection<O>> each : groupFutures) {
+            each.whenComplete((unused, ex) -> {
+                if (null != ex) {
+                    result.completeExceptionally(ex);
+                }
+            });
+        }
+        CompletableFuture.allOf(groupFutures.toArray(new CompletableFuture[0])).thenRun(() -> {
+            List<O> groupResults = new LinkedList<>();
+            for (CompletableFuture<Collection<O>> each : groupFutures) {
+                groupResults.addAll(each.join());
+            }
+            result.complete(groupResults);
+        });
+        result.whenComplete((unused, ex) -> {
+            if (null != ex) {
+                groupFutures.forEach(each -> each.cancel(true));
+            }
+        });
+        return result;
+    }
+    
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
         List<O> result = new LinkedList<>(firstResults);
         for (ListenableFuture<Collection<O>> each : restFutures) {
@@ -168,7 +290,10 @@ public final class ExecutorEngine implements AutoCloseable {
     }
     
     @Override
-    public void close() {
+    public synchronized void close() {
+        if (null != timeoutScheduler) {
+            timeoutScheduler.shutdownNow();
+        }
         executorServiceManager.close();
     }
 }
@@ -39,4 +39,12 @@ public interface ExecutorCallback<I, O> {
      * @throws SQLException throw when execute failure
      */
     Collection<O> execute(Collection<I> inputs, boolean isTrunkThread, Map<String, Object> dataMap) throws SQLException;
+    
+    /**
+     * Cancel execution of input values which is not finished yet.
+     * 
+     * @param inputs input values
+     */
+    default void cancel(final Collection<I> inputs) {
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -30,6 +31,7 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -42,8 +44,25 @@ public final class ExecutorServiceManager {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final boolean virtualThreadEnabled) {
+        this(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        executorService = MoreExecutors.listeningDecorator(isVirtualThreadAvailable(virtualThreadEnabled)
+                ? VirtualThreadUtil.newThreadPerTaskExecutor(ExecutorThreadFactoryBuilder.buildVirtual(nameFormat))
+                : getExecutorService(executorSize, nameFormat));
+    }
+    
+    private static boolean isVirtualThreadAvailable(final boolean virtualThreadEnabled) {
+        if (virtualThreadEnabled && !VirtualThreadUtil.isSupported()) {
+            log.warn("Virtual thread is not supported by current JVM, fall back to platform thread.");
+        }
+        return virtualThreadEnabled && VirtualThreadUtil.isSupported();
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread utility class.
+ *
+ * <p>Virtual threads are accessed by reflection, because they are only available since JDK 21.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadUtil {
+    
+    private static final Method OF_VIRTUAL_METHOD = findMethod("java.lang.Thread", "ofVirtual");
+    
+    private static final Method FACTORY_METHOD = findMethod("java.lang.Thread$Builder", "factory");
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD = findMethod("java.util.concurrent.Executors", "newThreadPerTaskExecutor", ThreadFactory.class);
+    
+    private static final boolean SUPPORTED = checkSupported();
+    
+    private static Method findMethod(final String className, final String methodName, final Class<?>... parameterTypes) {
+        try {
+            return Class.forName(className).getMethod(methodName, parameterTypes);
+        } catch (final ReflectiveOperationException ignore) {
+            return null;
+        }
+    }
+    
+    private static boolean checkSupported() {
+        if (null == OF_VIRTUAL_METHOD || null == FACTORY_METHOD || null == NEW_THREAD_PER_TASK_EXECUTOR_METHOD) {
+            return false;
+        }
+        try {
+            // virtual threads are preview feature before JDK 21, creating builder fails if preview is not enabled
+            FACTORY_METHOD.invoke(OF_VIRTUAL_METHOD.invoke(null));
+            return true;
+        } catch (final ReflectiveOperationException ignore) {
+            return false;
+        }
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JVM.
+     *
+     * @return is supported or not
+     */
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+    
+    /**
+     * Create virtual thread factory.
+     *
+     * @return virtual thread factory
+     * @throws IllegalStateException if virtual thread is not supported
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static ThreadFactory newThreadFactory() {
+        Preconditions.checkState(SUPPORTED, "Virtual thread is not supported by current JVM.");
+        return (ThreadFactory) FACTORY_METHOD.invoke(OF_VIRTUAL_METHOD.invoke(null));
+    }
+    
+    /**
+     * Create executor service which starts a new thread for each task.
+     *
+     * @param threadFactory thread factory
+     * @return executor service
+     * @throws IllegalStateException if virtual thread is not supported
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static ExecutorService newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        Preconditions.checkState(SUPPORTED, "Virtual thread is not supported by current JVM.");
+        return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, threadFactory);
+    }
+}
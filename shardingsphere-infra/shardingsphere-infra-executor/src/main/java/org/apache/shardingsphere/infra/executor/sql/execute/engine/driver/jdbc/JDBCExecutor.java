@@ -18,18 +18,26 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 /**
  * JDBC executor.
  */
 @RequiredArgsConstructor
+@Slf4j
 public final class JDBCExecutor {
     
     private final ExecutorEngine executorEngine;
@@ -61,6 +69,7 @@ public final class JDBCExecutor {
      */
     public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
+        setDatabaseName(executionGroupContext, firstCallback, callback);
         try {
             return executorEngine.execute(executionGroupContext, firstCallback, callback, serial);
         } catch (final SQLException ex) {
@@ -68,4 +77,86 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute with timeout of each execution group.
+     * 
+     * <p>Execution groups are executed asynchronously if timeout is greater than 0 and execution is not serial,
+     * statements of unfinished execution groups are cancelled once any execution group fails or exceeds timeout.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param timeoutMillis timeout milliseconds of each execution group, not greater than 0 means no timeout
+     * @param <T> class type of return value
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                               final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback, final long timeoutMillis) throws SQLException {
+        if (serial || timeoutMillis <= 0) {
+            return execute(executionGroupContext, firstCallback, callback);
+        }
+        CompletableFuture<List<T>> future = executeAsync(executionGroupContext, firstCallback, callback, timeoutMillis);
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            throw toSQLException(ex.getCause());
+        }
+    }
+    
+    private SQLException toSQLException(final Throwable cause) {
+        if (cause instanceof SQLException) {
+            return (SQLException) cause;
+        }
+        if (cause instanceof TimeoutException) {
+            return new SQLTimeoutException(cause.getMessage(), cause);
+        }
+        return new SQLException(cause);
+    }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param timeoutMillis timeout milliseconds of each execution group, not greater than 0 means no timeout
+     * @param <T> class type of return value
+     * @return future of execute result, cancelling it cancels unfinished execution groups
+     */
+    public <T> CompletableFuture<List<T>> executeAsync(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                       final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback, final long timeoutMillis) {
+        setDatabaseName(executionGroupContext, firstCallback, callback);
+        boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
+        CompletableFuture<List<T>> executeFuture = executorEngine.executeAsync(executionGroupContext, firstCallback, callback, timeoutMillis);
+        CompletableFuture<List<T>> result = executeFuture.handle((executeResult, ex) -> {
+            if (null == ex) {
+                return executeResult;
+            }
+            if (isExceptionThrown) {
+                throw ex instanceof CompletionException ? (CompletionException) ex : new CompletionException(ex);
+            }
+            log.error("exception occur: ", ex instanceof CompletionException && null != ex.getCause() ? ex.getCause() : ex);
+            return Collections.emptyList();
+        });
+        result.whenComplete((unused, ex) -> {
+            if (result.isCancelled()) {
+                executeFuture.cancel(true);
+            }
+        });
+        return result;
+    }
+    
+    private <T> void setDatabaseName(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) {
+        for (JDBCExecutorCallback<T> each : Arrays.asList(firstCallback, callback)) {
+            if (null != each) {
+                each.setDatabaseName(executionGroupContext.getSchemaName());
+            }
+        }
+    }
 }
@@ -18,8 +18,11 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.datasource.latency.ResponseTimeStatistics;
+import org.apache.shardingsphere.infra.datasource.latency.ResponseTimeStatisticsRegistry;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
@@ -56,6 +59,9 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
     
     private final boolean isExceptionThrown;
     
+    @Setter
+    private volatile String databaseName;
+    
     @Override
     public final Collection<T> execute(final Collection<JDBCExecutionUnit> executionUnits, final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
         // TODO It is better to judge whether need sane result before execute, can avoid exception thrown
@@ -81,7 +87,7 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), dataSourceMetaData, isTrunkThread, dataMap);
-            T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode());
+            T result = executeSQLWithResponseTime(jdbcExecutionUnit);
             sqlExecutionHook.finishSuccess();
             finishReport(dataMap, jdbcExecutionUnit);
             return result;
@@ -99,6 +105,33 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         }
     }
     
+    private T executeSQLWithResponseTime(final JDBCExecutionUnit jdbcExecutionUnit) throws SQLException {
+        String sql = jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql();
+        Optional<ResponseTimeStatistics> responseTimeStatistics = ResponseTimeStatisticsRegistry.getInstance().findStatistics(databaseName, jdbcExecutionUnit.getExecutionUnit().getDataSourceName());
+        if (!responseTimeStatistics.isPresent()) {
+            return executeSQL(sql, jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode());
+        }
+        long startNanos = responseTimeStatistics.get().begin();
+        boolean succeeded = false;
+        try {
+            T result = executeSQL(sql, jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode());
+            succeeded = true;
+            return result;
+        } finally {
+            responseTimeStatistics.get().end(startNanos, succeeded);
+        }
+    }
+    
+    @Override
+    public final void cancel(final Collection<JDBCExecutionUnit> executionUnits) {
+        for (JDBCExecutionUnit each : executionUnits) {
+            try {
+                each.getStorageResource().cancel();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
     private DataSourceMetaData getDataSourceMetaData(final DatabaseMetaData metaData) throws SQLException {
         String url = metaData.getURL();
         if (CACHED_DATASOURCE_METADATA.containsKey(url)) {
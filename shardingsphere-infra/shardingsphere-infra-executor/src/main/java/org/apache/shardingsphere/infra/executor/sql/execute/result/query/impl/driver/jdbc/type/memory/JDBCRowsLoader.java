@@ -19,17 +19,13 @@ package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.d
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumns;
 
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * JDBC rows loader.
@@ -44,18 +40,18 @@ public final class JDBCRowsLoader {
      * 
      * @param columnCount column count
      * @param resultSet result set of JDBC
-     * @return Query result data rows
+     * @return Query result columns
      * @throws SQLException SQL exception
      */
-    public static Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
-        Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
+    public static MemoryQueryResultColumns load(final int columnCount, final ResultSet resultSet) throws SQLException {
+        MemoryQueryResultColumns result = new MemoryQueryResultColumns(columnCount);
+        Object[] rowData = new Object[columnCount];
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnCount);
             for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
                 Object rowValue = loadRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
+                rowData[columnIndex - 1] = resultSet.wasNull() ? null : rowValue;
             }
-            result.add(new MemoryQueryResultDataRow(rowData));
+            result.addRow(rowData);
         }
         return result;
     }
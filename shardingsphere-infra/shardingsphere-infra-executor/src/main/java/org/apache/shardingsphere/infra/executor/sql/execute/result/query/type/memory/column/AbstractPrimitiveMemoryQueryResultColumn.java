@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.BitSet;
+
+/**
+ * Abstract column of memory query result which stores values in primitive array and nulls in bitmap.
+ */
+public abstract class AbstractPrimitiveMemoryQueryResultColumn implements MemoryQueryResultColumn {
+    
+    protected static final int INITIAL_CAPACITY = 16;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private int size;
+    
+    @Override
+    public final boolean add(final Object value) {
+        if (null != value && !isSupported(value)) {
+            return false;
+        }
+        if (size == getCapacity()) {
+            grow(size + (size >> 1));
+        }
+        if (null == value) {
+            nulls.set(size);
+        } else {
+            set(size, value);
+        }
+        size++;
+        return true;
+    }
+    
+    @Override
+    public final Object get(final int rowIndex) {
+        return nulls.get(rowIndex) ? null : getNotNull(rowIndex);
+    }
+    
+    protected abstract boolean isSupported(Object value);
+    
+    protected abstract int getCapacity();
+    
+    protected abstract void grow(int capacity);
+    
+    protected abstract void set(int rowIndex, Object value);
+    
+    protected abstract Object getNotNull(int rowIndex);
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+
+import java.sql.Timestamp;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Columns of memory query result.
+ * 
+ * <p>Values are stored column by column, int, long, double and timestamp values are stored in primitive arrays with null bitmaps,
+ * string values are dictionary encoded. Column falls back to store values as objects if value type is changed.</p>
+ */
+public final class MemoryQueryResultColumns implements Iterable<MemoryQueryResultDataRow> {
+    
+    private final MemoryQueryResultColumn[] columns;
+    
+    @Getter
+    private int rowCount;
+    
+    public MemoryQueryResultColumns(final int columnCount) {
+        columns = new MemoryQueryResultColumn[columnCount];
+    }
+    
+    /**
+     * Add row.
+     * 
+     * @param row row values
+     */
+    public void addRow(final Object[] row) {
+        for (int i = 0; i < columns.length; i++) {
+            addValue(i, row[i]);
+        }
+        rowCount++;
+    }
+    
+    private void addValue(final int columnOffset, final Object value) {
+        if (null == columns[columnOffset]) {
+            if (null == value) {
+                return;
+            }
+            columns[columnOffset] = createColumn(value);
+            for (int i = 0; i < rowCount; i++) {
+                columns[columnOffset].add(null);
+            }
+        }
+        if (!columns[columnOffset].add(value)) {
+            MemoryQueryResultColumn column = new ObjectMemoryQueryResultColumn();
+            for (int i = 0; i < rowCount; i++) {
+                column.add(columns[columnOffset].get(i));
+            }
+            column.add(value);
+            columns[columnOffset] = column;
+        }
+    }
+    
+    private MemoryQueryResultColumn createColumn(final Object value) {
+        if (Integer.class == value.getClass()) {
+            return new IntMemoryQueryResultColumn();
+        }
+        if (Long.class == value.getClass()) {
+            return new LongMemoryQueryResultColumn();
+        }
+        if (Double.class == value.getClass()) {
+            return new DoubleMemoryQueryResultColumn();
+        }
+        if (Timestamp.class == value.getClass()) {
+            return new TimestampMemoryQueryResultColumn();
+        }
+        if (String.class == value.getClass()) {
+            return new StringMemoryQueryResultColumn();
+        }
+        return new ObjectMemoryQueryResultColumn();
+    }
+    
+    /**
+     * Get value.
+     * 
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @return value
+     */
+    public Object getValue(final int rowIndex, final int columnIndex) {
+        MemoryQueryResultColumn column = columns[columnIndex - 1];
+        return null == column ? null : column.get(rowIndex);
+    }
+    
+    @Override
+    public Iterator<MemoryQueryResultDataRow> iterator() {
+        return new RowIterator();
+    }
+    
+    private final class RowIterator implements Iterator<MemoryQueryResultDataRow> {
+        
+        private int rowIndex;
+        
+        @Override
+        public boolean hasNext() {
+            return rowIndex < rowCount;
+        }
+        
+        @Override
+        public MemoryQueryResultDataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return new MemoryQueryResultDataRow(new RowValues(rowIndex++));
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class RowValues extends AbstractList<Object> {
+        
+        private final int rowIndex;
+        
+        @Override
+        public Object get(final int index) {
+            return getValue(rowIndex, index + 1);
+        }
+        
+        @Override
+        public int size() {
+            return columns.length;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column of memory query result for dictionary encoded string values.
+ */
+public final class StringMemoryQueryResultColumn implements MemoryQueryResultColumn {
+    
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    
+    private static final int NULL_CODE = -1;
+    
+    private static final int UNSUPPORTED_CODE = -2;
+    
+    private final List<String> dictionary = new ArrayList<>();
+    
+    private final Map<String, Integer> dictionaryCodes = new HashMap<>();
+    
+    private int[] codes = new int[AbstractPrimitiveMemoryQueryResultColumn.INITIAL_CAPACITY];
+    
+    private int size;
+    
+    @Override
+    public boolean add(final Object value) {
+        int code = null == value ? NULL_CODE : getCode(value);
+        if (UNSUPPORTED_CODE == code) {
+            return false;
+        }
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, size + (size >> 1));
+        }
+        codes[size++] = code;
+        return true;
+    }
+    
+    private int getCode(final Object value) {
+        if (String.class != value.getClass()) {
+            return UNSUPPORTED_CODE;
+        }
+        Integer result = dictionaryCodes.get(value);
+        if (null != result) {
+            return result;
+        }
+        if (MAX_DICTIONARY_SIZE == dictionary.size()) {
+            return UNSUPPORTED_CODE;
+        }
+        dictionaryCodes.put((String) value, dictionary.size());
+        dictionary.add((String) value);
+        return dictionary.size() - 1;
+    }
+    
+    @Override
+    public Object get(final int rowIndex) {
+        int code = codes[rowIndex];
+        return NULL_CODE == code ? null : dictionary.get(code);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+/**
+ * Column of memory query result for timestamp values.
+ */
+public final class TimestampMemoryQueryResultColumn extends AbstractPrimitiveMemoryQueryResultColumn {
+    
+    private long[] times = new long[INITIAL_CAPACITY];
+    
+    private int[] nanos = new int[INITIAL_CAPACITY];
+    
+    @Override
+    protected boolean isSupported(final Object value) {
+        return Timestamp.class == value.getClass();
+    }
+    
+    @Override
+    protected int getCapacity() {
+        return times.length;
+    }
+    
+    @Override
+    protected void grow(final int capacity) {
+        times = Arrays.copyOf(times, capacity);
+        nanos = Arrays.copyOf(nanos, capacity);
+    }
+    
+    @Override
+    protected void set(final int rowIndex, final Object value) {
+        times[rowIndex] = ((Timestamp) value).getTime();
+        nanos[rowIndex] = ((Timestamp) value).getNanos();
+    }
+    
+    @Override
+    protected Object getNotNull(final int rowIndex) {
+        Timestamp result = new Timestamp(times[rowIndex]);
+        result.setNanos(nanos[rowIndex]);
+        return result;
+    }
+}
@@ -63,15 +63,27 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
         for (Entry<String, List<SQLUnit>> entry : aggregateSQLUnitGroups(executionUnits).entrySet()) {
             String dataSourceName = entry.getKey();
             List<SQLUnit> sqlUnits = entry.getValue();
-            List<List<SQLUnit>> sqlUnitGroups = group(sqlUnits);
-            ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+            int maxConnectionsSize = getMaxConnectionsSize(dataSourceName, maxConnectionsSizePerQuery);
+            List<List<SQLUnit>> sqlUnitGroups = group(sqlUnits, maxConnectionsSize);
+            ConnectionMode connectionMode = maxConnectionsSize < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
             result.addAll(group(dataSourceName, sqlUnitGroups, connectionMode));
         }
         return decorate(routeContext, result);
     }
     
-    private List<List<SQLUnit>> group(final List<SQLUnit> sqlUnits) {
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+    /**
+     * Get max connections size which can be used by current query for data source.
+     *
+     * @param dataSourceName data source name
+     * @param maxConnectionsSizePerQuery max connections size per query
+     * @return max connections size
+     */
+    protected int getMaxConnectionsSize(final String dataSourceName, final int maxConnectionsSizePerQuery) {
+        return maxConnectionsSizePerQuery;
+    }
+    
+    private List<List<SQLUnit>> group(final List<SQLUnit> sqlUnits, final int maxConnectionsSize) {
+        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSize ? sqlUnits.size() / maxConnectionsSize : sqlUnits.size() / maxConnectionsSize + 1, 1);
         return Lists.partition(sqlUnits, desiredPartitionSize);
     }
     
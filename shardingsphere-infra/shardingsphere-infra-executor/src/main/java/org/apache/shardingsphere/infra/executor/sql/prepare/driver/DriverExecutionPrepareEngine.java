@@ -32,6 +32,7 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -82,6 +83,16 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         return result;
     }
     
+    /**
+     * Half of available connections are left for concurrent queries, so busy pools get fewer connections and idle pools get more parallelism.
+     * Connection managers holding a transaction report no available connection size, so the transaction keeps the configured limit.
+     */
+    @Override
+    protected int getMaxConnectionsSize(final String dataSourceName, final int maxConnectionsSizePerQuery) {
+        Optional<Integer> availableConnectionSize = connectionManager.findAvailableConnectionSize(dataSourceName);
+        return availableConnectionSize.map(optional -> Math.max(optional / 2, 1)).orElse(maxConnectionsSizePerQuery);
+    }
+    
     @Override
     protected List<ExecutionGroup<T>> group(final String dataSourceName, final List<List<SQLUnit>> sqlUnitGroups, final ConnectionMode connectionMode) throws SQLException {
         List<ExecutionGroup<T>> result = new LinkedList<>();
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Executor connection manager.
@@ -39,4 +40,12 @@ public interface ExecutorConnectionManager<C> {
      * @throws SQLException SQL exception
      */
     List<C> getConnections(String dataSourceName, int connectionSize, ConnectionMode connectionMode) throws SQLException;
+    
+    /**
+     * Find available connection size for planning connection mode adaptively.
+     *
+     * @param dataSourceName data source name
+     * @return available connection size, empty if adaptive planning is disabled, transaction is held or pool utilization is unknown
+     */
+    Optional<Integer> findAvailableConnectionSize(String dataSourceName);
 }
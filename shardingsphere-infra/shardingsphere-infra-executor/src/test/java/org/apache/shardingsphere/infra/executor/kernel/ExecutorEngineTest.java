@@ -17,22 +17,36 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 public final class ExecutorEngineTest {
@@ -103,4 +117,90 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertTrue(actual.isEmpty());
     }
+    
+    @Test
+    public void assertExecuteAsync() throws InterruptedException, ExecutionException {
+        List<String> actual = executorEngine.executeAsync(executionGroupContext, firstCallback, callback, 0L).get();
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithTimeout() throws InterruptedException {
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        try {
+            executorEngine.executeAsync(executionGroupContext, firstCallback, (inputs, isTrunkThread, dataMap) -> {
+                try {
+                    blockingLatch.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return Collections.emptyList();
+            }, 100L).get();
+            fail("Expected timeout exception.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(TimeoutException.class));
+        } finally {
+            blockingLatch.countDown();
+        }
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithTimeoutCancelUnfinishedExecutionGroup() throws InterruptedException {
+        CountDownLatch cancelledLatch = new CountDownLatch(1);
+        Collection<Object> cancelledInputs = new ConcurrentLinkedQueue<>();
+        ExecutorCallback<Object, String> blockingCallback = new ExecutorCallback<Object, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread, final Map<String, Object> dataMap) {
+                try {
+                    cancelledLatch.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return Collections.emptyList();
+            }
+            
+            @Override
+            public void cancel(final Collection<Object> inputs) {
+                cancelledInputs.addAll(inputs);
+                cancelledLatch.countDown();
+            }
+        };
+        try {
+            executorEngine.executeAsync(executionGroupContext, firstCallback, blockingCallback, 100L).get();
+            fail("Expected timeout exception.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(TimeoutException.class));
+        }
+        assertTrue(cancelledLatch.await(5L, TimeUnit.SECONDS));
+        assertThat(cancelledInputs.size(), is(2));
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithoutTimeoutNotCreateTimeoutScheduler() throws InterruptedException, ExecutionException {
+        executorEngine.executeAsync(executionGroupContext, firstCallback, callback, 0L).get();
+        assertNull(getTimeoutScheduler());
+    }
+    
+    @Test
+    public void assertCloseWithTimeoutScheduler() throws InterruptedException, ExecutionException {
+        executorEngine.executeAsync(executionGroupContext, firstCallback, callback, 10000L).get();
+        ScheduledExecutorService timeoutScheduler = getTimeoutScheduler();
+        assertNotNull(timeoutScheduler);
+        executorEngine.close();
+        assertTrue(timeoutScheduler.isShutdown());
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithEmptyExecutionGroup() throws InterruptedException, ExecutionException {
+        assertTrue(executorEngine.executeAsync(new ExecutionGroupContext<>(new LinkedList<>()), null, callback, 0L).get().isEmpty());
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private ScheduledExecutorService getTimeoutScheduler() {
+        Field field = ExecutorEngine.class.getDeclaredField("timeoutScheduler");
+        field.setAccessible(true);
+        return (ScheduledExecutorService) field.get(executorEngine);
+    }
 }
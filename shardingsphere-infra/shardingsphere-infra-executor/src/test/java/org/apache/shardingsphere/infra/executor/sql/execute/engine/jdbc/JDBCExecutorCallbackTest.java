@@ -19,6 +19,8 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.jdbc;
 
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.datasource.latency.ResponseTimeStatistics;
+import org.apache.shardingsphere.infra.datasource.latency.ResponseTimeStatisticsRegistry;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
@@ -26,6 +28,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -44,6 +47,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -72,10 +76,42 @@ public final class JDBCExecutorCallbackTest {
                 new JDBCExecutionUnit(new ExecutionUnit("ds", new SQLUnit("SELECT now()", Collections.emptyList())), ConnectionMode.CONNECTION_STRICTLY, preparedStatement));
     }
     
-    @SuppressWarnings("unchecked")
+    @After
+    public void tearDown() throws NoSuchFieldException, IllegalAccessException {
+        getCachedDataSourceMetaData().clear();
+    }
+    
     @Test
     public void assertExecute() throws SQLException, NoSuchFieldException, IllegalAccessException {
-        JDBCExecutorCallback<?> jdbcExecutorCallback = new JDBCExecutorCallback<Integer>(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), mock(SelectStatement.class), true) {
+        JDBCExecutorCallback<?> jdbcExecutorCallback = createJDBCExecutorCallback();
+        Map<String, DataSourceMetaData> cachedDataSourceMetaData = getCachedDataSourceMetaData();
+        assertTrue(cachedDataSourceMetaData.isEmpty());
+        jdbcExecutorCallback.execute(units, true, Collections.emptyMap());
+        assertThat(cachedDataSourceMetaData.size(), is(1));
+        jdbcExecutorCallback.execute(units, true, Collections.emptyMap());
+        assertThat(cachedDataSourceMetaData.size(), is(1));
+    }
+    
+    @Test
+    public void assertExecuteWithRegisteredResponseTimeStatistics() throws SQLException {
+        ResponseTimeStatistics statistics = ResponseTimeStatisticsRegistry.getInstance().register("callback_registered_db", "ds");
+        JDBCExecutorCallback<?> jdbcExecutorCallback = createJDBCExecutorCallback();
+        jdbcExecutorCallback.setDatabaseName("callback_registered_db");
+        jdbcExecutorCallback.execute(units, true, Collections.emptyMap());
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertTrue(statistics.getAverageNanos() > 0L);
+    }
+    
+    @Test
+    public void assertExecuteWithoutRegisteredResponseTimeStatistics() throws SQLException {
+        JDBCExecutorCallback<?> jdbcExecutorCallback = createJDBCExecutorCallback();
+        jdbcExecutorCallback.setDatabaseName("callback_unregistered_db");
+        jdbcExecutorCallback.execute(units, true, Collections.emptyMap());
+        assertFalse(ResponseTimeStatisticsRegistry.getInstance().findStatistics("callback_unregistered_db", "ds").isPresent());
+    }
+    
+    private JDBCExecutorCallback<Integer> createJDBCExecutorCallback() {
+        return new JDBCExecutorCallback<Integer>(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), mock(SelectStatement.class), true) {
             
             @Override
             protected Integer executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
@@ -87,13 +123,12 @@ public final class JDBCExecutorCallbackTest {
                 return Optional.empty();
             }
         };
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, DataSourceMetaData> getCachedDataSourceMetaData() throws NoSuchFieldException, IllegalAccessException {
         Field field = JDBCExecutorCallback.class.getDeclaredField("CACHED_DATASOURCE_METADATA");
         field.setAccessible(true);
-        Map<String, DataSourceMetaData> cachedDataSourceMetaData = (Map<String, DataSourceMetaData>) field.get(jdbcExecutorCallback);
-        assertTrue(cachedDataSourceMetaData.isEmpty());
-        jdbcExecutorCallback.execute(units, true, Collections.emptyMap());
-        assertThat(cachedDataSourceMetaData.size(), is(1));
-        jdbcExecutorCallback.execute(units, true, Collections.emptyMap());
-        assertThat(cachedDataSourceMetaData.size(), is(1));
+        return (Map<String, DataSourceMetaData>) field.get(null);
     }
 }
@@ -17,24 +17,45 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.jdbc;
 
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class JDBCExecutorTest {
@@ -52,6 +73,18 @@ public final class JDBCExecutorTest {
         assertThat(actual2, is(Collections.singletonList("test")));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteWithDatabaseNameOfCallbacks() throws SQLException {
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.emptyList());
+        context.setSchemaName("foo_db");
+        JDBCExecutorCallback<Object> firstCallback = mock(JDBCExecutorCallback.class);
+        JDBCExecutorCallback<Object> callback = mock(JDBCExecutorCallback.class);
+        new JDBCExecutor(mock(ExecutorEngine.class), false).execute(context, firstCallback, callback);
+        verify(firstCallback).setDatabaseName("foo_db");
+        verify(callback).setDatabaseName("foo_db");
+    }
+    
     @Test
     public void assertExecuteSQLException() {
         try {
@@ -73,4 +106,102 @@ public final class JDBCExecutorTest {
         List<?> actual = jdbcExecutor.execute(new ExecutionGroupContext<>(Collections.emptyList()), null);
         assertThat(actual, is(Collections.emptyList()));
     }
+    
+    @Test
+    public void assertExecuteWithTimeout() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        when(executorEngine.executeAsync(any(), any(), any(), eq(100L))).thenReturn(CompletableFuture.completedFuture(Collections.singletonList("test")));
+        SQLExecutorExceptionHandler.setExceptionThrown(true);
+        List<?> actual = new JDBCExecutor(executorEngine, false).execute(new ExecutionGroupContext<>(Collections.emptyList()), null, null, 100L);
+        assertThat(actual, is(Collections.singletonList("test")));
+        verify(executorEngine, never()).execute(any(), any(), any(), anyBoolean());
+    }
+    
+    @Test
+    public void assertExecuteWithoutTimeout() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        when(executorEngine.execute(any(), any(), any(), anyBoolean())).thenReturn(Collections.singletonList("test"));
+        List<?> actual = new JDBCExecutor(executorEngine, false).execute(new ExecutionGroupContext<>(Collections.emptyList()), null, null, 0L);
+        assertThat(actual, is(Collections.singletonList("test")));
+        verify(executorEngine, never()).executeAsync(any(), any(), any(), anyLong());
+    }
+    
+    @Test
+    public void assertSerialExecuteWithTimeout() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        when(executorEngine.execute(any(), any(), any(), anyBoolean())).thenReturn(Collections.singletonList("test"));
+        List<?> actual = new JDBCExecutor(executorEngine, true).execute(new ExecutionGroupContext<>(Collections.emptyList()), null, null, 100L);
+        assertThat(actual, is(Collections.singletonList("test")));
+        verify(executorEngine, never()).executeAsync(any(), any(), any(), anyLong());
+    }
+    
+    @Test(expected = SQLTimeoutException.class)
+    public void assertExecuteWithTimeoutExceeded() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        CompletableFuture<List<Object>> future = new CompletableFuture<>();
+        future.completeExceptionally(new TimeoutException("Execution group is not finished in 100 milliseconds."));
+        when(executorEngine.executeAsync(any(), any(), any(), eq(100L))).thenReturn(future);
+        SQLExecutorExceptionHandler.setExceptionThrown(true);
+        new JDBCExecutor(executorEngine, false).execute(new ExecutionGroupContext<>(Collections.emptyList()), null, null, 100L);
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithCause() throws InterruptedException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        CompletableFuture<List<Object>> future = new CompletableFuture<>();
+        future.completeExceptionally(new SQLException("TestSQLException"));
+        when(executorEngine.executeAsync(any(), any(), any(), anyLong())).thenReturn(future);
+        SQLExecutorExceptionHandler.setExceptionThrown(true);
+        try {
+            new JDBCExecutor(executorEngine, false).executeAsync(new ExecutionGroupContext<>(Collections.emptyList()), null, null, 100L).get();
+            fail("Expected SQL exception.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause().getMessage(), is("TestSQLException"));
+        }
+    }
+    
+    @Test
+    public void assertExecuteAsyncNotThrownException() throws InterruptedException, ExecutionException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        CompletableFuture<List<Object>> future = new CompletableFuture<>();
+        future.completeExceptionally(new SQLException("TestSQLException"));
+        when(executorEngine.executeAsync(any(), any(), any(), anyLong())).thenReturn(future);
+        SQLExecutorExceptionHandler.setExceptionThrown(false);
+        assertThat(new JDBCExecutor(executorEngine, false).executeAsync(new ExecutionGroupContext<>(Collections.emptyList()), null, null, 100L).get(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    public void assertCancelExecuteAsync() {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        CompletableFuture<List<Object>> future = new CompletableFuture<>();
+        when(executorEngine.executeAsync(any(), any(), any(), anyLong())).thenReturn(future);
+        new JDBCExecutor(executorEngine, false).executeAsync(new ExecutionGroupContext<>(Collections.emptyList()), null, null, 100L).cancel(true);
+        assertTrue(future.isCancelled());
+    }
+    
+    @Test
+    public void assertCancelStatementsOfExecutionUnits() throws SQLException {
+        JDBCExecutorCallback<Integer> callback = new JDBCExecutorCallback<Integer>(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), mock(SelectStatement.class), true) {
+            
+            @Override
+            protected Integer executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) {
+                return 0;
+            }
+            
+            @Override
+            protected Optional<Integer> getSaneResult(final SQLStatement sqlStatement) {
+                return Optional.empty();
+            }
+        };
+        Statement unsupportedStatement = mock(Statement.class);
+        doThrow(new SQLException("Cancel is not supported.")).when(unsupportedStatement).cancel();
+        Statement statement = mock(Statement.class);
+        callback.cancel(Arrays.asList(createExecutionUnit("ds_0", unsupportedStatement), createExecutionUnit("ds_1", statement)));
+        verify(unsupportedStatement).cancel();
+        verify(statement).cancel();
+    }
+    
+    private JDBCExecutionUnit createExecutionUnit(final String dataSourceName, final Statement statement) {
+        return new JDBCExecutionUnit(new ExecutionUnit(dataSourceName, new SQLUnit("SELECT 1", Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, statement);
+    }
 }
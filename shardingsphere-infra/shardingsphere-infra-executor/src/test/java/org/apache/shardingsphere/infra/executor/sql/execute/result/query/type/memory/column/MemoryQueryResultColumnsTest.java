@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MemoryQueryResultColumnsTest {
+    
+    @Test
+    public void assertIterateRows() {
+        MemoryQueryResultColumns columns = new MemoryQueryResultColumns(6);
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        for (int i = 0; i < 100; i++) {
+            columns.addRow(new Object[]{i, (long) i, (double) i, timestamp, "foo_" + i % 3, new BigDecimal(i)});
+        }
+        columns.addRow(new Object[]{null, null, null, null, null, null});
+        assertThat(columns.getRowCount(), is(101));
+        Iterator<MemoryQueryResultDataRow> actual = columns.iterator();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(actual.hasNext());
+            assertThat(actual.next().getValue(), is(Arrays.<Object>asList(i, (long) i, (double) i, timestamp, "foo_" + i % 3, new BigDecimal(i))));
+        }
+        assertThat(actual.next().getValue(), is(Arrays.asList(null, null, null, null, null, null)));
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    public void assertGetValueWithLeadingNulls() {
+        MemoryQueryResultColumns columns = new MemoryQueryResultColumns(1);
+        columns.addRow(new Object[]{null});
+        columns.addRow(new Object[]{1});
+        assertNull(columns.getValue(0, 1));
+        assertThat(columns.getValue(1, 1), is(1));
+    }
+    
+    @Test
+    public void assertGetValueWithChangedType() {
+        MemoryQueryResultColumns columns = new MemoryQueryResultColumns(1);
+        columns.addRow(new Object[]{1});
+        columns.addRow(new Object[]{null});
+        columns.addRow(new Object[]{2L});
+        assertThat(columns.getValue(0, 1), is(1));
+        assertNull(columns.getValue(1, 1));
+        assertThat(columns.getValue(2, 1), is(2L));
+    }
+    
+    @Test
+    public void assertGetValueWithFullDictionary() {
+        MemoryQueryResultColumns columns = new MemoryQueryResultColumns(1);
+        for (int i = 0; i < 70000; i++) {
+            columns.addRow(new Object[]{String.valueOf(i)});
+        }
+        assertThat(columns.getValue(0, 1), is("0"));
+        assertThat(columns.getValue(69999, 1), is("69999"));
+    }
+}
@@ -77,6 +77,7 @@ public final class FilterableRowEnumerator implements Enumerator<Object[]> {
     @Override
     public void close() {
         try {
+            queryResult.close();
             for (Statement each : statements) {
                 each.close();
             }
@@ -17,11 +17,12 @@
 
 package org.apache.shardingsphere.infra.parser.cache;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.core.database.cache.SQLCacheBuilder;
+import org.apache.shardingsphere.sql.parser.core.database.cache.SQLParserCacheRegistry;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 /**
@@ -41,7 +42,8 @@ public final class SQLStatementCacheBuilder {
      */
     public static LoadingCache<String, SQLStatement> build(final String databaseType,
                                                            final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        return CacheBuilder.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
-                .concurrencyLevel(sqlStatementCacheOption.getConcurrencyLevel()).build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, isParseComment));
+        LoadingCache<String, SQLStatement> result = SQLCacheBuilder.newBuilder(sqlStatementCacheOption).build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, isParseComment));
+        SQLParserCacheRegistry.register(SQLParserCacheRegistry.SQL_STATEMENT_CACHE, result);
+        return result;
     }
 }
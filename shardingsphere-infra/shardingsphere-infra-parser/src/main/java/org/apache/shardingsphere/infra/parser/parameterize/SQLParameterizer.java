@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.parameterize;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL parameterizer.
+ * 
+ * <p>Replace literals of DML with parameter markers, so that SQL which differs only in literals shares the same shape.
+ * Only literals placed where a parameter marker is always legal are replaced, which are right operands of comparison, operands of
+ * {@code LIKE}, {@code BETWEEN ... AND ...}, {@code LIMIT} and {@code OFFSET}, and elements of {@code IN} lists and {@code VALUES} tuples.
+ * SQL with comments, parameter markers, multiple statements or escaped characters in string literals is not parameterized.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParameterizer {
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> PARAMETERIZABLE_PREVIOUS_TOKENS = new HashSet<>(Arrays.asList("=", "<", ">", "<=", ">=", "<>", "!=", "<=>", "LIKE", "BETWEEN", "LIMIT", "OFFSET"));
+    
+    private static final String OPERATOR_CHARS = "=<>!~@&|^+-*/%:";
+    
+    private static final String LITERAL = "<LITERAL>";
+    
+    private static final String BETWEEN_AND = "<BETWEEN_AND>";
+    
+    /**
+     * Parameterize SQL.
+     *
+     * @param sql SQL to be parameterized
+     * @param isStringLiteralParameterized whether to parameterize string literals
+     * @return parameterized SQL, empty if SQL can not be parameterized
+     */
+    public static Optional<ParameterizedSQL> parameterize(final String sql, final boolean isStringLiteralParameterized) {
+        return new Parameterizer(sql, isStringLiteralParameterized).parameterize();
+    }
+    
+    private static final class Parameterizer {
+        
+        private final String sql;
+        
+        private final boolean isStringLiteralParameterized;
+        
+        private final StringBuilder result;
+        
+        private final List<Object> parameters = new ArrayList<>();
+        
+        private final Deque<Boolean> listParentheses = new LinkedList<>();
+        
+        private String previousToken = "";
+        
+        private String lastKeyword = "";
+        
+        private boolean firstKeywordChecked;
+        
+        private boolean valuesClause;
+        
+        private boolean betweenPending;
+        
+        private boolean firstTokenInParentheses;
+        
+        private Parameterizer(final String sql, final boolean isStringLiteralParameterized) {
+            this.sql = sql;
+            this.isStringLiteralParameterized = isStringLiteralParameterized;
+            result = new StringBuilder(sql.length());
+        }
+        
+        private Optional<ParameterizedSQL> parameterize() {
+            int index = 0;
+            while (index < sql.length()) {
+                index = next(index);
+                if (index < 0) {
+                    return Optional.empty();
+                }
+            }
+            return firstKeywordChecked && listParentheses.isEmpty() ? Optional.of(new ParameterizedSQL(result.toString(), parameters)) : Optional.empty();
+        }
+        
+        private int next(final int index) {
+            char current = sql.charAt(index);
+            if (Character.isWhitespace(current)) {
+                result.append(current);
+                return index + 1;
+            }
+            if (!firstKeywordChecked && !Character.isLetter(current)) {
+                return -1;
+            }
+            int nextIndex;
+            if ('\'' == current) {
+                nextIndex = nextStringLiteral(index);
+            } else if ('"' == current || '`' == current) {
+                nextIndex = nextQuotedIdentifier(index, current);
+            } else if (Character.isDigit(current)) {
+                nextIndex = nextNumberLiteral(index);
+            } else if (isIdentifierStart(index)) {
+                nextIndex = nextWord(index);
+            } else if ('(' == current) {
+                listParentheses.push("IN".equals(previousToken)
+                        || valuesClause && listParentheses.isEmpty() && ("VALUES".equals(previousToken) || "VALUE".equals(previousToken) || ",".equals(previousToken)));
+                result.append(current);
+                previousToken = "(";
+                firstTokenInParentheses = true;
+                return index + 1;
+            } else if (')' == current) {
+                if (listParentheses.isEmpty()) {
+                    return -1;
+                }
+                listParentheses.pop();
+                result.append(current);
+                previousToken = ")";
+                nextIndex = index + 1;
+            } else if (isComment(index) || '?' == current || ';' == current || '#' == current || '$' == current) {
+                return -1;
+            } else if (OPERATOR_CHARS.indexOf(current) >= 0) {
+                nextIndex = nextOperator(index);
+            } else {
+                result.append(current);
+                previousToken = String.valueOf(current);
+                nextIndex = index + 1;
+            }
+            firstTokenInParentheses = false;
+            return nextIndex;
+        }
+        
+        private int nextStringLiteral(final int index) {
+            int end = index + 1;
+            while (true) {
+                if (end >= sql.length() || '\\' == sql.charAt(end)) {
+                    return -1;
+                }
+                if ('\'' == sql.charAt(end)) {
+                    if (end + 1 < sql.length() && '\'' == sql.charAt(end + 1)) {
+                        end += 2;
+                        continue;
+                    }
+                    break;
+                }
+                end++;
+            }
+            if (isStringLiteralParameterized && isParameterizable()) {
+                appendParameter(sql.substring(index + 1, end).replace("''", "'"));
+            } else {
+                result.append(sql, index, end + 1);
+                previousToken = LITERAL;
+            }
+            return end + 1;
+        }
+        
+        private int nextQuotedIdentifier(final int index, final char quote) {
+            int end = sql.indexOf(quote, index + 1);
+            if (end < 0) {
+                return -1;
+            }
+            result.append(sql, index, end + 1);
+            previousToken = String.valueOf(quote);
+            return end + 1;
+        }
+        
+        private int nextNumberLiteral(final int index) {
+            int end = skipDigits(index);
+            if (end < sql.length() && '.' == sql.charAt(end)) {
+                end = skipDigits(end + 1);
+            }
+            if (end < sql.length() && (isIdentifierPart(sql.charAt(end)) || '.' == sql.charAt(end))) {
+                return -1;
+            }
+            if (isParameterizable()) {
+                appendParameter(new NumberLiteralValue(sql.substring(index, end)).getValue());
+            } else {
+                result.append(sql, index, end);
+                previousToken = LITERAL;
+            }
+            return end;
+        }
+        
+        private int skipDigits(final int index) {
+            int result = index;
+            while (result < sql.length() && Character.isDigit(sql.charAt(result))) {
+                result++;
+            }
+            return result;
+        }
+        
+        private int nextWord(final int index) {
+            int end = index + 1;
+            while (end < sql.length() && isIdentifierPart(sql.charAt(end))) {
+                end++;
+            }
+            String word = sql.substring(index, end);
+            result.append(word);
+            String keyword = word.toUpperCase();
+            if (!firstKeywordChecked) {
+                if (!DML_KEYWORDS.contains(keyword)) {
+                    return -1;
+                }
+                firstKeywordChecked = true;
+            }
+            if (firstTokenInParentheses && ("SELECT".equals(keyword) || "WITH".equals(keyword)) && Boolean.TRUE.equals(listParentheses.peek())) {
+                listParentheses.pop();
+                listParentheses.push(false);
+            }
+            if (("VALUES".equals(keyword) || "VALUE".equals(keyword)) && listParentheses.isEmpty()) {
+                valuesClause = true;
+            }
+            if ("AND".equals(keyword) && betweenPending) {
+                keyword = BETWEEN_AND;
+            }
+            betweenPending = "BETWEEN".equals(keyword);
+            previousToken = keyword;
+            lastKeyword = keyword;
+            return end;
+        }
+        
+        private int nextOperator(final int index) {
+            int end = index + 1;
+            while (end < sql.length() && OPERATOR_CHARS.indexOf(sql.charAt(end)) >= 0) {
+                end++;
+            }
+            if (sql.substring(index, end).contains("--") || sql.substring(index, end).contains("/*")) {
+                return -1;
+            }
+            result.append(sql, index, end);
+            previousToken = sql.substring(index, end);
+            return end;
+        }
+        
+        private void appendParameter(final Object parameter) {
+            result.append('?');
+            parameters.add(parameter);
+            previousToken = LITERAL;
+        }
+        
+        private boolean isParameterizable() {
+            if (PARAMETERIZABLE_PREVIOUS_TOKENS.contains(previousToken) || BETWEEN_AND.equals(previousToken)) {
+                return true;
+            }
+            if (",".equals(previousToken) && "LIMIT".equals(lastKeyword) && listParentheses.isEmpty()) {
+                return true;
+            }
+            return ("(".equals(previousToken) || ",".equals(previousToken)) && Boolean.TRUE.equals(listParentheses.peek());
+        }
+        
+        private boolean isComment(final int index) {
+            return sql.startsWith("--", index) || sql.startsWith("/*", index);
+        }
+        
+        private boolean isIdentifierStart(final int index) {
+            char current = sql.charAt(index);
+            if ('@' == current) {
+                return index + 1 < sql.length() && (Character.isLetter(sql.charAt(index + 1)) || '@' == sql.charAt(index + 1));
+            }
+            return Character.isLetter(current) || '_' == current;
+        }
+        
+        private boolean isIdentifierPart(final char ch) {
+            return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch || '@' == ch;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.parameterize;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLParameterizerTest {
+    
+    @Test
+    public void assertParameterizeComparison() {
+        Optional<ParameterizedSQL> actual = SQLParameterizer.parameterize("SELECT * FROM t_order WHERE order_id = 1 AND user_id >= 10000000000 AND status <> 'a''b' AND price < 1.5", true);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id = ? AND user_id >= ? AND status <> ? AND price < ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 10000000000L, "a'b", new BigDecimal("1.5"))));
+    }
+    
+    @Test
+    public void assertParameterizeInBetweenLikeAndLimit() {
+        Optional<ParameterizedSQL> actual = SQLParameterizer.parameterize("select * from t_order where order_id in (1, 2) and user_id between 3 and 4 and status like 'a%' limit 5, 6", true);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("select * from t_order where order_id in (?, ?) and user_id between ? and ? and status like ? limit ?, ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, 3, 4, "a%", 5, 6)));
+    }
+    
+    @Test
+    public void assertParameterizeInsertValues() {
+        Optional<ParameterizedSQL> actual = SQLParameterizer.parameterize("INSERT INTO t_order (order_id, status) VALUES (1, 'init'), (2, CONCAT('in', 'it'))", true);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, CONCAT('in', 'it'))"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, "init", 2)));
+    }
+    
+    @Test
+    public void assertParameterizeWithoutStringLiteral() {
+        Optional<ParameterizedSQL> actual = SQLParameterizer.parameterize("UPDATE t_order SET status = 'done' WHERE order_id = 1", false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("UPDATE t_order SET status = 'done' WHERE order_id = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1)));
+    }
+    
+    @Test
+    public void assertNotParameterizeLiteralWithoutParameterizableContext() {
+        Optional<ParameterizedSQL> actual = SQLParameterizer.parameterize(
+                "SELECT 1, IF(status = 'a', 'b', 'c') FROM t_order_1 WHERE order_id IN (SELECT 2 FROM t) AND d = DATE '2022-01-01' ORDER BY 1", true);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT 1, IF(status = ?, 'b', 'c') FROM t_order_1 WHERE order_id IN (SELECT 2 FROM t) AND d = DATE '2022-01-01' ORDER BY 1"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList("a")));
+    }
+    
+    @Test
+    public void assertNotParameterize() {
+        assertFalse(SQLParameterizer.parameterize("SET autocommit = 1", true).isPresent());
+        assertFalse(SQLParameterizer.parameterize("SELECT * FROM t_order WHERE order_id = ?", true).isPresent());
+        assertFalse(SQLParameterizer.parameterize("SELECT * FROM t_order WHERE order_id = $1", true).isPresent());
+        assertFalse(SQLParameterizer.parameterize("SELECT * FROM t_order WHERE order_id = 1; SELECT 1", true).isPresent());
+        assertFalse(SQLParameterizer.parameterize("/* hint */ SELECT * FROM t_order WHERE order_id = 1", true).isPresent());
+        assertFalse(SQLParameterizer.parameterize("SELECT * FROM t_order WHERE order_id = 1 -- comment", true).isPresent());
+        assertFalse(SQLParameterizer.parameterize("SELECT * FROM t_order WHERE status = 'a\\'b'", true).isPresent());
+        assertFalse(SQLParameterizer.parameterize("SELECT * FROM t_order WHERE order_id = 0x1F", true).isPresent());
+    }
+}
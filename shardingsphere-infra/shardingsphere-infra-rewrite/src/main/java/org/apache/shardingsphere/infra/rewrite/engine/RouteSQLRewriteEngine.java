@@ -28,12 +28,16 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedPar
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -53,18 +57,19 @@ public final class RouteSQLRewriteEngine {
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1);
+        Map<RouteUnit, List<Object>> routeParameters = buildRouteParameters(sqlRewriteContext.getParameterBuilder(), routeContext);
         for (Entry<String, Collection<RouteUnit>> entry : aggregateRouteUnitGroups(routeContext.getRouteUnits()).entrySet()) {
             Collection<RouteUnit> routeUnits = entry.getValue();
             if (isNeedAggregateRewrite(sqlRewriteContext.getSqlStatementContext(), routeUnits)) {
-                result.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits));
+                result.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeParameters, routeUnits));
             } else {
-                addSQLRewriteUnits(result, sqlRewriteContext, routeContext, routeUnits);
+                addSQLRewriteUnits(result, sqlRewriteContext, routeParameters, routeUnits);
             }
         }
         return new RouteSQLRewriteResult(result);
     }
     
-    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
+    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final Map<RouteUnit, List<Object>> routeParameters, final Collection<RouteUnit> routeUnits) {
         Collection<String> sql = new LinkedList<>();
         List<Object> parameters = new LinkedList<>();
         boolean containsDollarMarker = sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext
@@ -74,15 +79,15 @@ public final class RouteSQLRewriteEngine {
             if (containsDollarMarker && !parameters.isEmpty()) {
                 continue;
             }
-            parameters.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each));
+            parameters.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeParameters, each));
         }
         return new SQLRewriteUnit(String.join(" UNION ALL ", sql), parameters);
     }
     
     private void addSQLRewriteUnits(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final SQLRewriteContext sqlRewriteContext,
-                                    final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
+                                    final Map<RouteUnit, List<Object>> routeParameters, final Collection<RouteUnit> routeUnits) {
         for (RouteUnit each : routeUnits) {
-            sqlRewriteUnits.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
+            sqlRewriteUnits.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeParameters, each)));
         }
     }
     
@@ -108,37 +113,63 @@ public final class RouteSQLRewriteEngine {
         return result;
     }
     
-    private List<Object> getParameters(final ParameterBuilder parameterBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
-        if (parameterBuilder instanceof StandardParameterBuilder) {
-            return parameterBuilder.getParameters();
+    private Map<RouteUnit, List<Object>> buildRouteParameters(final ParameterBuilder parameterBuilder, final RouteContext routeContext) {
+        if (!(parameterBuilder instanceof GroupedParameterBuilder) || routeContext.getOriginalDataNodes().isEmpty()) {
+            return Collections.emptyMap();
         }
-        return routeContext.getOriginalDataNodes().isEmpty()
-                ? ((GroupedParameterBuilder) parameterBuilder).getParameters()
-                : buildRouteParameters((GroupedParameterBuilder) parameterBuilder, routeContext, routeUnit);
-    }
-    
-    private List<Object> buildRouteParameters(final GroupedParameterBuilder parameterBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
-        List<Object> result = new LinkedList<>();
+        GroupedParameterBuilder groupedParameterBuilder = (GroupedParameterBuilder) parameterBuilder;
+        Map<RouteUnit, List<Object>> result = new HashMap<>(routeContext.getRouteUnits().size(), 1);
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            result.put(each, new LinkedList<>());
+        }
+        Map<String, Collection<RouteUnit>> dataNodeRouteUnits = getDataNodeRouteUnits(routeContext.getRouteUnits());
         int count = 0;
         for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
-            if (isInSameDataNode(each, routeUnit)) {
-                result.addAll(parameterBuilder.getParameters(count));
+            List<Object> groupParameters = groupedParameterBuilder.getParameters(count);
+            for (RouteUnit routeUnit : findRouteUnits(each, dataNodeRouteUnits, result.keySet())) {
+                result.get(routeUnit).addAll(groupParameters);
             }
             count++;
         }
-        result.addAll(parameterBuilder.getGenericParameterBuilder().getParameters());
+        for (List<Object> each : result.values()) {
+            each.addAll(groupedParameterBuilder.getGenericParameterBuilder().getParameters());
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<RouteUnit>> getDataNodeRouteUnits(final Collection<RouteUnit> routeUnits) {
+        Map<String, Collection<RouteUnit>> result = new HashMap<>();
+        for (RouteUnit each : routeUnits) {
+            for (RouteMapper tableMapper : each.getTableMappers()) {
+                result.computeIfAbsent(getDataNodeKey(each.getDataSourceMapper().getLogicName(), tableMapper.getActualName()), unused -> new LinkedHashSet<>()).add(each);
+            }
+        }
         return result;
     }
     
-    private boolean isInSameDataNode(final Collection<DataNode> dataNodes, final RouteUnit routeUnit) {
+    private Collection<RouteUnit> findRouteUnits(final Collection<DataNode> dataNodes, final Map<String, Collection<RouteUnit>> dataNodeRouteUnits, final Collection<RouteUnit> allRouteUnits) {
         if (dataNodes.isEmpty()) {
-            return true;
+            return allRouteUnits;
+        }
+        if (1 == dataNodes.size()) {
+            DataNode dataNode = dataNodes.iterator().next();
+            return dataNodeRouteUnits.getOrDefault(getDataNodeKey(dataNode.getDataSourceName(), dataNode.getTableName()), Collections.emptyList());
         }
+        Collection<RouteUnit> result = new LinkedHashSet<>();
         for (DataNode each : dataNodes) {
-            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
-            }
+            result.addAll(dataNodeRouteUnits.getOrDefault(getDataNodeKey(each.getDataSourceName(), each.getTableName()), Collections.emptyList()));
+        }
+        return result;
+    }
+    
+    private String getDataNodeKey(final String dataSourceName, final String tableName) {
+        return dataSourceName.toLowerCase() + "." + tableName.toLowerCase();
+    }
+    
+    private List<Object> getParameters(final ParameterBuilder parameterBuilder, final Map<RouteUnit, List<Object>> routeParameters, final RouteUnit routeUnit) {
+        if (parameterBuilder instanceof StandardParameterBuilder) {
+            return parameterBuilder.getParameters();
         }
-        return false;
+        return routeParameters.isEmpty() ? ((GroupedParameterBuilder) parameterBuilder).getParameters() : routeParameters.get(routeUnit);
     }
 }
@@ -46,6 +46,8 @@ public final class RouteContext {
     
     private final Map<Class<? extends ShardingSphereRule>, RouteStageContext> routeStageContexts = new LinkedHashMap<>();
     
+    private final Collection<Integer> parameterMarkerIndexes = new LinkedHashSet<>();
+    
     @Setter
     private boolean isFederated;
     
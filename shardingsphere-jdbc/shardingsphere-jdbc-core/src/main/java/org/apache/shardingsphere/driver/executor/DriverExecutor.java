@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.driver.executor;
 
 import lombok.Getter;
+import org.apache.shardingsphere.driver.executor.hedge.DriverHedgedReadExecutor;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
@@ -45,6 +46,8 @@ public final class DriverExecutor implements AutoCloseable {
     
     private final TrafficExecutor trafficExecutor;
     
+    private final DriverHedgedReadExecutor hedgedReadExecutor;
+    
     public DriverExecutor(final ShardingSphereConnection connection) {
         MetaDataContexts metaDataContexts = connection.getContextManager().getMetaDataContexts();
         JDBCExecutor jdbcExecutor = new JDBCExecutor(metaDataContexts.getExecutorEngine(), connection.isHoldTransaction());
@@ -54,6 +57,7 @@ public final class DriverExecutor implements AutoCloseable {
         String schemaName = databaseType instanceof PostgreSQLDatabaseType || databaseType instanceof OpenGaussDatabaseType ? "public" : connection.getSchema();
         federationExecutor = FederationExecutorFactory.newInstance(connection.getSchema(), schemaName, metaDataContexts.getOptimizerContext(), metaDataContexts.getProps(), jdbcExecutor);
         trafficExecutor = new TrafficExecutor();
+        hedgedReadExecutor = new DriverHedgedReadExecutor(connection);
     }
     
     /**
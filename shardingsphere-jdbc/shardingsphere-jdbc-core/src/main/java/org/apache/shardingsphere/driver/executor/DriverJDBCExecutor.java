@@ -21,6 +21,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.refresher.MetaDataRefreshEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -75,7 +76,8 @@ public final class DriverJDBCExecutor {
                                           final LogicSQL logicSQL, final ExecuteQueryCallback callback) throws SQLException {
         try {
             ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, metaDataContexts.getProps());
-            List<QueryResult> result = jdbcExecutor.execute(executionGroupContext, callback);
+            List<QueryResult> result = jdbcExecutor.execute(
+                    executionGroupContext, null, callback, metaDataContexts.getProps().<Long>getValue(ConfigurationPropertyKey.KERNEL_EXECUTION_GROUP_TIMEOUT_MILLISECONDS));
             ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
             return result;
         } finally {
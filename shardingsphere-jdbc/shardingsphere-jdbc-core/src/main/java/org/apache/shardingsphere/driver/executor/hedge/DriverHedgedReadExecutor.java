@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.hedge;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.infra.rule.identifier.type.HedgedReadRule;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Driver hedged read executor.
+ *
+ * <p>
+ * If the read on routed data source is not finished in the delay given by {@link HedgedReadRule}, the same read is issued to the hedged data source.
+ * The first finished read wins, the other one is cancelled by {@link java.sql.Statement#cancel()}.
+ * A losing hedged read is awaited before returning, so that its connection is not reused while the read is still running.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class DriverHedgedReadExecutor {
+    
+    private static final ScheduledExecutorService HEDGED_READ_SCHEDULER = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("Hedged-Read-Scheduler"));
+    
+    private final ShardingSphereConnection connection;
+    
+    /**
+     * Find hedged data source name.
+     *
+     * @param executionGroupContext execution group context
+     * @return hedged data source name, empty if execution can not be hedged
+     */
+    public Optional<String> findHedgedDataSourceName(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) {
+        if (connection.isHoldTransaction() || 1 != executionGroupContext.getInputGroups().size()) {
+            return Optional.empty();
+        }
+        Collection<JDBCExecutionUnit> inputs = executionGroupContext.getInputGroups().iterator().next().getInputs();
+        if (1 != inputs.size()) {
+            return Optional.empty();
+        }
+        return findHedgedReadRule().flatMap(optional -> optional.findHedgedDataSourceName(inputs.iterator().next().getExecutionUnit().getDataSourceName()));
+    }
+    
+    private Optional<HedgedReadRule> findHedgedReadRule() {
+        return connection.getContextManager().getMetaDataContexts().getMetaData(connection.getSchema()).getRuleMetaData().findRules(HedgedReadRule.class).stream().findFirst();
+    }
+    
+    /**
+     * Execute query with hedged read.
+     *
+     * @param executionGroupContext execution group context which contains only one execution unit
+     * @param logicSQL logic SQL
+     * @param hedgedDataSourceName hedged data source name
+     * @param executionUnitProvider hedged execution unit provider
+     * @param callback execute query callback
+     * @return hedged read result
+     * @throws SQLException SQL exception
+     */
+    public HedgedReadResult executeQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final LogicSQL logicSQL, final String hedgedDataSourceName,
+                                         final HedgedExecutionUnitProvider executionUnitProvider, final ExecuteQueryCallback callback) throws SQLException {
+        MetaDataContexts metaDataContexts = connection.getContextManager().getMetaDataContexts();
+        try {
+            ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, metaDataContexts.getProps());
+            JDBCExecutionUnit executionUnit = executionGroupContext.getInputGroups().iterator().next().getInputs().iterator().next();
+            callback.setDatabaseName(executionGroupContext.getSchemaName());
+            Executor executor = metaDataContexts.getExecutorEngine().getExecutorServiceManager().getExecutorService();
+            HedgedReadResult result = doExecuteQuery(executionUnit, hedgedDataSourceName, executionUnitProvider, callback, executor);
+            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
+            return result;
+        } finally {
+            ExecuteProcessEngine.clean();
+        }
+    }
+    
+    private HedgedReadResult doExecuteQuery(final JDBCExecutionUnit executionUnit, final String hedgedDataSourceName,
+                                            final HedgedExecutionUnitProvider executionUnitProvider, final ExecuteQueryCallback callback, final Executor executor) throws SQLException {
+        String dataSourceName = executionUnit.getExecutionUnit().getDataSourceName();
+        Optional<HedgedReadRule> rule = findHedgedReadRule();
+        Optional<Long> delayMillis = rule.flatMap(optional -> optional.findHedgedReadDelayMillis(dataSourceName));
+        Map<String, Object> dataMap = ExecutorDataMap.getValue();
+        long startMillis = System.currentTimeMillis();
+        if (!delayMillis.isPresent()) {
+            List<QueryResult> result = execute(executionUnit, callback, dataMap);
+            rule.ifPresent(optional -> optional.recordReadLatency(dataSourceName, System.currentTimeMillis() - startMillis));
+            return new HedgedReadResult(executionUnit, result);
+        }
+        Map<String, Object> hedgedDataMap = new HashMap<>(dataMap);
+        hedgedDataMap.remove(ExecuteProcessConstants.EXECUTE_ID.name());
+        HedgedRead hedgedRead = new HedgedRead(executionUnit, hedgedDataSourceName, rule.get(), executionUnitProvider, callback, hedgedDataMap);
+        ScheduledFuture<?> scheduledFuture = HEDGED_READ_SCHEDULER.schedule(() -> hedgedRead.submit(executor), delayMillis.get(), TimeUnit.MILLISECONDS);
+        List<QueryResult> queryResults;
+        try {
+            queryResults = execute(executionUnit, callback, dataMap);
+        } catch (final SQLException ex) {
+            if (hedgedRead.decide()) {
+                cancelHedgedRead(scheduledFuture, hedgedRead);
+                throw ex;
+            }
+            queryResults = Collections.emptyList();
+        }
+        rule.get().recordReadLatency(dataSourceName, System.currentTimeMillis() - startMillis);
+        if (hedgedRead.decide()) {
+            cancelHedgedRead(scheduledFuture, hedgedRead);
+            return new HedgedReadResult(executionUnit, queryResults);
+        }
+        executionUnitProvider.release(executionUnit);
+        return hedgedRead.getResult();
+    }
+    
+    private static void cancelHedgedRead(final ScheduledFuture<?> scheduledFuture, final HedgedRead hedgedRead) {
+        if (scheduledFuture.cancel(false)) {
+            return;
+        }
+        hedgedRead.cancel();
+        hedgedRead.awaitFinished();
+    }
+    
+    private static List<QueryResult> execute(final JDBCExecutionUnit executionUnit, final ExecuteQueryCallback callback, final Map<String, Object> dataMap) throws SQLException {
+        return new ArrayList<>(callback.execute(Collections.singletonList(executionUnit), true, dataMap));
+    }
+    
+    private static void cancelQuietly(final JDBCExecutionUnit executionUnit) {
+        try {
+            executionUnit.getStorageResource().cancel();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class HedgedRead {
+        
+        private final JDBCExecutionUnit executionUnit;
+        
+        private final String hedgedDataSourceName;
+        
+        private final HedgedReadRule rule;
+        
+        private final HedgedExecutionUnitProvider executionUnitProvider;
+        
+        private final ExecuteQueryCallback callback;
+        
+        private final Map<String, Object> dataMap;
+        
+        private final AtomicBoolean decided = new AtomicBoolean();
+        
+        private final AtomicReference<JDBCExecutionUnit> hedgedExecutionUnit = new AtomicReference<>();
+        
+        private final CompletableFuture<HedgedReadResult> result = new CompletableFuture<>();
+        
+        private final CountDownLatch finished = new CountDownLatch(1);
+        
+        boolean decide() {
+            return decided.compareAndSet(false, true);
+        }
+        
+        void submit(final Executor executor) {
+            try {
+                executor.execute(this::execute);
+            } catch (final RejectedExecutionException ex) {
+                finished.countDown();
+            }
+        }
+        
+        void execute() {
+            try {
+                execute0();
+            } finally {
+                finished.countDown();
+            }
+        }
+        
+        private void execute0() {
+            if (decided.get()) {
+                return;
+            }
+            JDBCExecutionUnit hedgedUnit = null;
+            try {
+                hedgedUnit = executionUnitProvider.getExecutionUnit(hedgedDataSourceName);
+                hedgedExecutionUnit.set(hedgedUnit);
+                if (decided.get()) {
+                    executionUnitProvider.release(hedgedUnit);
+                    return;
+                }
+                long startMillis = System.currentTimeMillis();
+                List<QueryResult> queryResults = DriverHedgedReadExecutor.execute(hedgedUnit, callback, dataMap);
+                rule.recordReadLatency(hedgedDataSourceName, System.currentTimeMillis() - startMillis);
+                if (!queryResults.isEmpty() && decide()) {
+                    cancelQuietly(executionUnit);
+                    result.complete(new HedgedReadResult(hedgedUnit, queryResults));
+                    return;
+                }
+                executionUnitProvider.release(hedgedUnit);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                releaseQuietly(hedgedUnit);
+            }
+        }
+        
+        void cancel() {
+            JDBCExecutionUnit hedgedUnit = hedgedExecutionUnit.get();
+            if (null != hedgedUnit) {
+                cancelQuietly(hedgedUnit);
+            }
+        }
+        
+        void awaitFinished() {
+            try {
+                finished.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        HedgedReadResult getResult() throws SQLException {
+            try {
+                return result.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(ex);
+            } catch (final ExecutionException ex) {
+                throw new SQLException(ex.getCause());
+            }
+        }
+        
+        private void releaseQuietly(final JDBCExecutionUnit hedgedUnit) {
+            if (null == hedgedUnit) {
+                return;
+            }
+            try {
+                executionUnitProvider.release(hedgedUnit);
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+}
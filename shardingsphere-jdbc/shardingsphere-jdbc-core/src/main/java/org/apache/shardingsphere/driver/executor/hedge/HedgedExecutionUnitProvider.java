@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.hedge;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+
+import java.sql.SQLException;
+
+/**
+ * Hedged execution unit provider.
+ */
+public interface HedgedExecutionUnitProvider {
+    
+    /**
+     * Get execution unit which executes same SQL on another data source.
+     *
+     * @param dataSourceName data source name
+     * @return execution unit
+     * @throws SQLException SQL exception
+     */
+    JDBCExecutionUnit getExecutionUnit(String dataSourceName) throws SQLException;
+    
+    /**
+     * Release execution unit which lost hedged read, its statement is closed to free server side cursor.
+     *
+     * @param executionUnit execution unit
+     * @throws SQLException SQL exception
+     */
+    default void release(final JDBCExecutionUnit executionUnit) throws SQLException {
+        executionUnit.getStorageResource().close();
+    }
+}
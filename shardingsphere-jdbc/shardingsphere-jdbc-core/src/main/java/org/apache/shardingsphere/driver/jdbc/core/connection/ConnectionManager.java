@@ -25,7 +25,9 @@ import lombok.Getter;
 import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.driver.jdbc.adapter.invocation.MethodInvocationRecorder;
 import org.apache.shardingsphere.driver.jdbc.core.ShardingSphereSavepoint;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
+import org.apache.shardingsphere.infra.datasource.pool.utilization.DataSourcePoolUtilizationDetectorFactory;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
@@ -75,7 +77,12 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
     
     private final Random random = new SecureRandom();
     
+    private final ContextManager contextManager;
+    
+    private volatile boolean autoCommit = true;
+    
     public ConnectionManager(final String schema, final ContextManager contextManager) {
+        this.contextManager = contextManager;
         dataSourceMap.putAll(contextManager.getDataSourceMap(schema));
         dataSourceMap.putAll(getTrafficDataSourceMap(schema, contextManager));
         physicalDataSourceMap.putAll(contextManager.getDataSourceMap(schema));
@@ -139,6 +146,7 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
      * @throws SQLException SQL exception
      */
     public void setAutoCommit(final boolean autoCommit) throws SQLException {
+        this.autoCommit = autoCommit;
         methodInvocationRecorder.record("setAutoCommit", target -> target.setAutoCommit(autoCommit));
         forceExecuteTemplate.execute(cachedConnections.values(), connection -> connection.setAutoCommit(autoCommit));
     }
@@ -323,6 +331,21 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
         return result;
     }
     
+    @Override
+    public Optional<Integer> findAvailableConnectionSize(final String dataSourceName) {
+        DataSource dataSource = dataSourceMap.get(dataSourceName);
+        if (null == dataSource || !contextManager.getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED)
+                || connectionTransaction.isHoldTransaction(autoCommit)) {
+            return Optional.empty();
+        }
+        int cachedConnectionSize;
+        synchronized (cachedConnections) {
+            cachedConnectionSize = cachedConnections.get(dataSourceName).size();
+        }
+        return DataSourcePoolUtilizationDetectorFactory.newInstance(dataSource.getClass().getName()).findAvailableConnectionSize(dataSource)
+                .map(availableConnectionSize -> availableConnectionSize + cachedConnectionSize);
+    }
+    
     @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     private List<Connection> createConnections(final String dataSourceName, final DataSource dataSource, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         if (1 == connectionSize) {
@@ -25,6 +25,8 @@ import org.apache.shardingsphere.driver.executor.DriverExecutor;
 import org.apache.shardingsphere.driver.executor.batch.BatchExecutionUnit;
 import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
 import org.apache.shardingsphere.driver.executor.callback.impl.PreparedStatementExecuteQueryCallback;
+import org.apache.shardingsphere.driver.executor.hedge.HedgedExecutionUnitProvider;
+import org.apache.shardingsphere.driver.executor.hedge.HedgedReadResult;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractPreparedStatementAdapter;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.driver.jdbc.core.resultset.GeneratedKeysResultSet;
@@ -70,9 +72,11 @@ import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.HedgedReadRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.RawExecutionRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
@@ -185,14 +189,16 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         JDBCExecutor jdbcExecutor = new JDBCExecutor(metaDataContexts.getExecutorEngine(), connection.isHoldTransaction());
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(metaDataContexts, jdbcExecutor, connection.getSchema());
         kernelProcessor = new KernelProcessor();
-        statementsCacheable = isStatementsCacheable(metaDataContexts.getMetaData(connection.getSchema()).getRuleMetaData().getConfigurations());
+        statementsCacheable = isStatementsCacheable(metaDataContexts.getMetaData(connection.getSchema()).getRuleMetaData());
         trafficRule = metaDataContexts.getGlobalRuleMetaData().findSingleRule(TrafficRule.class).orElse(null);
         statementManager = new StatementManager();
     }
     
-    private boolean isStatementsCacheable(final Collection<RuleConfiguration> configurations) {
+    private boolean isStatementsCacheable(final ShardingSphereRuleMetaData ruleMetaData) {
         // TODO Consider cache statements with more case
-        return 1 == configurations.size() && configurations.iterator().next() instanceof ReadwriteSplittingRuleConfiguration && !HintManager.isInstantiated();
+        Collection<RuleConfiguration> configurations = ruleMetaData.getConfigurations();
+        return 1 == configurations.size() && configurations.iterator().next() instanceof ReadwriteSplittingRuleConfiguration && !HintManager.isInstantiated()
+                && ruleMetaData.findRules(HedgedReadRule.class).stream().noneMatch(HedgedReadRule::isHedgedReadEnabled);
     }
     
     @Override
@@ -275,9 +281,33 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         }
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext();
         cacheStatements(executionGroupContext.getInputGroups());
-        return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getLogicSQL(),
-                new PreparedStatementExecuteQueryCallback(metaDataContexts.getMetaData(connection.getSchema()).getResource().getDatabaseType(), sqlStatement,
-                        SQLExecutorExceptionHandler.isExceptionThrown()));
+        PreparedStatementExecuteQueryCallback callback = new PreparedStatementExecuteQueryCallback(metaDataContexts.getMetaData(connection.getSchema()).getResource().getDatabaseType(),
+                sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown());
+        Optional<String> hedgedDataSourceName = executor.getHedgedReadExecutor().findHedgedDataSourceName(executionGroupContext);
+        if (hedgedDataSourceName.isPresent()) {
+            return executeHedgedQuery(executionGroupContext, hedgedDataSourceName.get(), callback);
+        }
+        return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getLogicSQL(), callback);
+    }
+    
+    private List<QueryResult> executeHedgedQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final String hedgedDataSourceName,
+                                                 final PreparedStatementExecuteQueryCallback callback) throws SQLException {
+        HedgedExecutionUnitProvider executionUnitProvider = dataSourceName -> {
+            JDBCExecutionUnit result = createHedgedExecutionUnit(dataSourceName);
+            PreparedStatement preparedStatement = (PreparedStatement) result.getStorageResource();
+            replaySetParameter(preparedStatement, result.getExecutionUnit().getSqlUnit().getParameters());
+            getMethodInvocationRecorder().replay(preparedStatement);
+            return result;
+        };
+        HedgedReadResult hedgedReadResult = executor.getHedgedReadExecutor().executeQuery(executionGroupContext, executionContext.getLogicSQL(), hedgedDataSourceName, executionUnitProvider, callback);
+        statements.set(0, (PreparedStatement) hedgedReadResult.getExecutionUnit().getStorageResource());
+        return hedgedReadResult.getQueryResults();
+    }
+    
+    private JDBCExecutionUnit createHedgedExecutionUnit(final String dataSourceName) throws SQLException {
+        ExecutionUnit executionUnit = new ExecutionUnit(dataSourceName, executionContext.getExecutionUnits().iterator().next().getSqlUnit());
+        ExecutionGroupContext<JDBCExecutionUnit> context = createDriverExecutionPrepareEngine().prepare(executionContext.getRouteContext(), Collections.singletonList(executionUnit));
+        return context.getInputGroups().stream().flatMap(each -> each.getInputs().stream()).findFirst().orElseThrow(() -> new ShardingSphereException("Can not get hedged execution unit."));
     }
     
     private ResultSet executeFederationQuery(final LogicSQL logicSQL) throws SQLException {
@@ -401,7 +431,9 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private ExecutionGroupContext<JDBCExecutionUnit> createExecutionGroupContext() throws SQLException {
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine();
-        return prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        ExecutionGroupContext<JDBCExecutionUnit> result = prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        result.setSchemaName(connection.getSchema());
+        return result;
     }
     
     private JDBCExecutorCallback<Boolean> createExecuteCallback() {
@@ -25,6 +25,8 @@ import org.apache.shardingsphere.driver.executor.DriverExecutor;
 import org.apache.shardingsphere.driver.executor.callback.ExecuteCallback;
 import org.apache.shardingsphere.driver.executor.callback.ExecuteUpdateCallback;
 import org.apache.shardingsphere.driver.executor.callback.impl.StatementExecuteQueryCallback;
+import org.apache.shardingsphere.driver.executor.hedge.HedgedExecutionUnitProvider;
+import org.apache.shardingsphere.driver.executor.hedge.HedgedReadResult;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractStatementAdapter;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.driver.jdbc.core.resultset.GeneratedKeysResultSet;
@@ -202,9 +204,31 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         cacheStatements(executionGroupContext.getInputGroups());
         StatementExecuteQueryCallback callback = new StatementExecuteQueryCallback(metaDataContexts.getMetaData(connection.getSchema()).getResource().getDatabaseType(),
                 executionContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown());
+        Optional<String> hedgedDataSourceName = executor.getHedgedReadExecutor().findHedgedDataSourceName(executionGroupContext);
+        if (hedgedDataSourceName.isPresent()) {
+            return executeHedgedQuery(executionGroupContext, hedgedDataSourceName.get(), callback);
+        }
         return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getLogicSQL(), callback);
     }
     
+    private List<QueryResult> executeHedgedQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final String hedgedDataSourceName,
+                                                 final StatementExecuteQueryCallback callback) throws SQLException {
+        HedgedExecutionUnitProvider executionUnitProvider = dataSourceName -> {
+            JDBCExecutionUnit result = createHedgedExecutionUnit(dataSourceName);
+            getMethodInvocationRecorder().replay(result.getStorageResource());
+            return result;
+        };
+        HedgedReadResult hedgedReadResult = executor.getHedgedReadExecutor().executeQuery(executionGroupContext, executionContext.getLogicSQL(), hedgedDataSourceName, executionUnitProvider, callback);
+        statements.set(0, hedgedReadResult.getExecutionUnit().getStorageResource());
+        return hedgedReadResult.getQueryResults();
+    }
+    
+    private JDBCExecutionUnit createHedgedExecutionUnit(final String dataSourceName) throws SQLException {
+        ExecutionUnit executionUnit = new ExecutionUnit(dataSourceName, executionContext.getExecutionUnits().iterator().next().getSqlUnit());
+        ExecutionGroupContext<JDBCExecutionUnit> context = createDriverExecutionPrepareEngine().prepare(executionContext.getRouteContext(), Collections.singletonList(executionUnit));
+        return context.getInputGroups().stream().flatMap(each -> each.getInputs().stream()).findFirst().orElseThrow(() -> new ShardingSphereException("Can not get hedged execution unit."));
+    }
+    
     private ResultSet executeFederationQuery(final LogicSQL logicSQL) throws SQLException {
         StatementExecuteQueryCallback callback = new StatementExecuteQueryCallback(metaDataContexts.getMetaData(connection.getSchema()).getResource().getDatabaseType(),
                 executionContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown());
@@ -479,7 +503,9 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     
     private ExecutionGroupContext<JDBCExecutionUnit> createExecutionContext() throws SQLException {
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine();
-        return prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        ExecutionGroupContext<JDBCExecutionUnit> result = prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        result.setSchemaName(connection.getSchema());
+        return result;
     }
     
     private ExecutionGroupContext<RawSQLExecutionUnit> createRawExecutionContext() throws SQLException {
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.hedge;
+
+import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.rule.identifier.type.HedgedReadRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class DriverHedgedReadExecutorTest {
+    
+    private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(2);
+    
+    private final HedgedReadRule rule = mock(HedgedReadRule.class);
+    
+    private final ExecuteQueryCallback callback = mock(ExecuteQueryCallback.class);
+    
+    private final HedgedExecutionUnitProvider executionUnitProvider = mock(HedgedExecutionUnitProvider.class);
+    
+    private final JDBCExecutionUnit executionUnit = createExecutionUnit("read_ds_0");
+    
+    private final JDBCExecutionUnit hedgedExecutionUnit = createExecutionUnit("read_ds_1");
+    
+    private ShardingSphereConnection connection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        connection = mock(ShardingSphereConnection.class, RETURNS_DEEP_STUBS);
+        when(connection.getSchema()).thenReturn("logic_db");
+        when(connection.getContextManager().getMetaDataContexts().getMetaData("logic_db").getRuleMetaData().findRules(HedgedReadRule.class)).thenReturn(Collections.singletonList(rule));
+        when(connection.getContextManager().getMetaDataContexts().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        when(connection.getContextManager().getMetaDataContexts().getExecutorEngine()).thenReturn(executorEngine);
+        when(rule.findHedgedDataSourceName("read_ds_0")).thenReturn(Optional.of("read_ds_1"));
+        when(executionUnitProvider.getExecutionUnit("read_ds_1")).thenReturn(hedgedExecutionUnit);
+    }
+    
+    @After
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    private JDBCExecutionUnit createExecutionUnit(final String dataSourceName) {
+        return new JDBCExecutionUnit(new ExecutionUnit(dataSourceName, new SQLUnit("SELECT 1", Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, mock(Statement.class));
+    }
+    
+    private ExecutionGroupContext<JDBCExecutionUnit> createExecutionGroupContext() {
+        return new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(Collections.singletonList(executionUnit))));
+    }
+    
+    private HedgedReadResult executeQuery() throws SQLException {
+        return executeQuery(executionUnitProvider);
+    }
+    
+    private HedgedReadResult executeQuery(final HedgedExecutionUnitProvider executionUnitProvider) throws SQLException {
+        return new DriverHedgedReadExecutor(connection).executeQuery(createExecutionGroupContext(), mock(LogicSQL.class, RETURNS_DEEP_STUBS), "read_ds_1", executionUnitProvider, callback);
+    }
+    
+    @Test
+    public void assertFindHedgedDataSourceName() {
+        assertThat(new DriverHedgedReadExecutor(connection).findHedgedDataSourceName(createExecutionGroupContext()), is(Optional.of("read_ds_1")));
+    }
+    
+    @Test
+    public void assertFindHedgedDataSourceNameWhenHoldTransaction() {
+        when(connection.isHoldTransaction()).thenReturn(true);
+        assertFalse(new DriverHedgedReadExecutor(connection).findHedgedDataSourceName(createExecutionGroupContext()).isPresent());
+    }
+    
+    @Test
+    public void assertExecuteQueryWithoutHedgedReadDelay() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(rule.findHedgedReadDelayMillis("read_ds_0")).thenReturn(Optional.empty());
+        when(callback.execute(eq(Collections.singletonList(executionUnit)), eq(true), any())).thenReturn(Collections.singletonList(queryResult));
+        HedgedReadResult actual = executeQuery();
+        assertThat(actual.getExecutionUnit(), is(executionUnit));
+        assertThat(actual.getQueryResults(), is(Collections.singletonList(queryResult)));
+        verify(rule).recordReadLatency(eq("read_ds_0"), anyLong());
+        verify(executionUnitProvider, never()).getExecutionUnit(anyString());
+    }
+    
+    @Test
+    public void assertExecuteQueryWhenRoutedReadWins() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(rule.findHedgedReadDelayMillis("read_ds_0")).thenReturn(Optional.of(60000L));
+        when(callback.execute(eq(Collections.singletonList(executionUnit)), eq(true), any())).thenReturn(Collections.singletonList(queryResult));
+        HedgedReadResult actual = executeQuery();
+        assertThat(actual.getExecutionUnit(), is(executionUnit));
+        assertThat(actual.getQueryResults(), is(Collections.singletonList(queryResult)));
+        verify(executionUnitProvider, never()).getExecutionUnit(anyString());
+    }
+    
+    @Test
+    public void assertExecuteQueryWhenRoutedReadWinsAfterHedgedReadStarted() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        CountDownLatch hedgedReadStartedLatch = new CountDownLatch(1);
+        CountDownLatch hedgedCancelLatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            hedgedCancelLatch.countDown();
+            return null;
+        }).when(hedgedExecutionUnit.getStorageResource()).cancel();
+        when(rule.findHedgedReadDelayMillis("read_ds_0")).thenReturn(Optional.of(10L));
+        when(callback.execute(eq(Collections.singletonList(executionUnit)), eq(true), any())).thenAnswer(invocation -> {
+            hedgedReadStartedLatch.await(10L, TimeUnit.SECONDS);
+            return Collections.singletonList(queryResult);
+        });
+        when(callback.execute(eq(Collections.singletonList(hedgedExecutionUnit)), eq(true), any())).thenAnswer(invocation -> {
+            hedgedReadStartedLatch.countDown();
+            hedgedCancelLatch.await(10L, TimeUnit.SECONDS);
+            throw new SQLException("Query is cancelled.");
+        });
+        HedgedReadResult actual = executeQuery();
+        assertThat(actual.getExecutionUnit(), is(executionUnit));
+        assertThat(actual.getQueryResults(), is(Collections.singletonList(queryResult)));
+        verify(hedgedExecutionUnit.getStorageResource()).cancel();
+        verify(executionUnitProvider).release(hedgedExecutionUnit);
+    }
+    
+    @Test
+    public void assertExecuteQueryWhenHedgedReadWins() throws SQLException {
+        QueryResult hedgedQueryResult = mock(QueryResult.class);
+        CountDownLatch cancelLatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            cancelLatch.countDown();
+            return null;
+        }).when(executionUnit.getStorageResource()).cancel();
+        when(rule.findHedgedReadDelayMillis("read_ds_0")).thenReturn(Optional.of(10L));
+        when(callback.execute(eq(Collections.singletonList(executionUnit)), eq(true), any())).thenAnswer(invocation -> {
+            if (!cancelLatch.await(10L, TimeUnit.SECONDS)) {
+                return Collections.singletonList(mock(QueryResult.class));
+            }
+            throw new SQLException("Query is cancelled.");
+        });
+        when(callback.execute(eq(Collections.singletonList(hedgedExecutionUnit)), eq(true), any())).thenReturn(Collections.singletonList(hedgedQueryResult));
+        HedgedReadResult actual = executeQuery();
+        assertThat(actual.getExecutionUnit(), is(hedgedExecutionUnit));
+        assertThat(actual.getQueryResults(), is(Collections.singletonList(hedgedQueryResult)));
+        verify(executionUnitProvider).release(executionUnit);
+        verify(rule, timeout(1000L)).recordReadLatency(eq("read_ds_1"), anyLong());
+    }
+    
+    @Test
+    public void assertExecuteQueryWhenHedgedReadWinsCloseRoutedStatement() throws SQLException {
+        QueryResult hedgedQueryResult = mock(QueryResult.class);
+        CountDownLatch cancelLatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            cancelLatch.countDown();
+            return null;
+        }).when(executionUnit.getStorageResource()).cancel();
+        when(rule.findHedgedReadDelayMillis("read_ds_0")).thenReturn(Optional.of(10L));
+        when(callback.execute(eq(Collections.singletonList(executionUnit)), eq(true), any())).thenAnswer(invocation -> {
+            cancelLatch.await(10L, TimeUnit.SECONDS);
+            throw new SQLException("Query is cancelled.");
+        });
+        when(callback.execute(eq(Collections.singletonList(hedgedExecutionUnit)), eq(true), any())).thenReturn(Collections.singletonList(hedgedQueryResult));
+        HedgedReadResult actual = executeQuery(dataSourceName -> hedgedExecutionUnit);
+        assertThat(actual.getExecutionUnit(), is(hedgedExecutionUnit));
+        verify(executionUnit.getStorageResource()).close();
+        verify(hedgedExecutionUnit.getStorageResource(), never()).close();
+    }
+    
+    @Test
+    public void assertExecuteQueryWhenRoutedReadWinsCloseHedgedStatement() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        CountDownLatch hedgedReadStartedLatch = new CountDownLatch(1);
+        CountDownLatch hedgedCancelLatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            hedgedCancelLatch.countDown();
+            return null;
+        }).when(hedgedExecutionUnit.getStorageResource()).cancel();
+        when(rule.findHedgedReadDelayMillis("read_ds_0")).thenReturn(Optional.of(10L));
+        when(callback.execute(eq(Collections.singletonList(executionUnit)), eq(true), any())).thenAnswer(invocation -> {
+            hedgedReadStartedLatch.await(10L, TimeUnit.SECONDS);
+            return Collections.singletonList(queryResult);
+        });
+        when(callback.execute(eq(Collections.singletonList(hedgedExecutionUnit)), eq(true), any())).thenAnswer(invocation -> {
+            hedgedReadStartedLatch.countDown();
+            hedgedCancelLatch.await(10L, TimeUnit.SECONDS);
+            throw new SQLException("Query is cancelled.");
+        });
+        HedgedReadResult actual = executeQuery(dataSourceName -> hedgedExecutionUnit);
+        assertThat(actual.getExecutionUnit(), is(executionUnit));
+        verify(hedgedExecutionUnit.getStorageResource()).close();
+        verify(executionUnit.getStorageResource(), never()).close();
+    }
+}
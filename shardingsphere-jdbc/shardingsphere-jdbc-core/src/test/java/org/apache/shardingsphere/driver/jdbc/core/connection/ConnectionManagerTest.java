@@ -19,8 +19,11 @@ package org.apache.shardingsphere.driver.jdbc.core.connection;
 
 import com.google.common.collect.Sets;
 import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
+import org.apache.shardingsphere.infra.datasource.pool.utilization.DataSourcePoolUtilizationDetector;
+import org.apache.shardingsphere.infra.datasource.pool.utilization.DataSourcePoolUtilizationDetectorFactory;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.instance.definition.InstanceId;
@@ -53,6 +56,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -63,6 +67,8 @@ import static org.mockito.Mockito.when;
 
 public final class ConnectionManagerTest {
     
+    private ContextManager contextManager;
+    
     private ConnectionManager connectionManager;
     
     private ConnectionManager connectionManagerInXaTransaction;
@@ -71,7 +77,7 @@ public final class ConnectionManagerTest {
     
     @Before
     public void setUp() throws SQLException {
-        ContextManager contextManager = mockContextManager();
+        contextManager = mockContextManager();
         connectionManager = new ConnectionManager(DefaultSchema.LOGIC_NAME, contextManager);
         TransactionTypeHolder.set(TransactionType.XA);
         connectionManagerInXaTransaction = new ConnectionManager(DefaultSchema.LOGIC_NAME, contextManager);
@@ -226,6 +232,39 @@ public final class ConnectionManagerTest {
         assertThat(actual.size(), is(3));
     }
     
+    @Test
+    public void assertFindAvailableConnectionSizeWhenAdaptiveConnectionModeDisabled() {
+        when(contextManager.getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED)).thenReturn(false);
+        assertFalse(connectionManager.findAvailableConnectionSize("ds").isPresent());
+    }
+    
+    @Test
+    public void assertFindAvailableConnectionSizeWhenPoolUtilizationUnknown() {
+        when(contextManager.getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED)).thenReturn(true);
+        assertFalse(connectionManager.findAvailableConnectionSize("ds").isPresent());
+    }
+    
+    @Test
+    public void assertFindAvailableConnectionSizeWhenPoolUtilizationKnown() {
+        when(contextManager.getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED)).thenReturn(true);
+        DataSourcePoolUtilizationDetector detector = mock(DataSourcePoolUtilizationDetector.class);
+        when(detector.findAvailableConnectionSize(any())).thenReturn(Optional.of(4));
+        try (MockedStatic<DataSourcePoolUtilizationDetectorFactory> detectorFactory = mockStatic(DataSourcePoolUtilizationDetectorFactory.class)) {
+            detectorFactory.when(() -> DataSourcePoolUtilizationDetectorFactory.newInstance(any())).thenReturn(detector);
+            assertThat(connectionManager.findAvailableConnectionSize("ds"), is(Optional.of(4)));
+        }
+    }
+    
+    @Test
+    public void assertFindAvailableConnectionSizeWhenHoldTransaction() throws SQLException {
+        when(contextManager.getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED)).thenReturn(true);
+        connectionManager.setAutoCommit(false);
+        try (MockedStatic<DataSourcePoolUtilizationDetectorFactory> detectorFactory = mockStatic(DataSourcePoolUtilizationDetectorFactory.class)) {
+            assertFalse(connectionManager.findAvailableConnectionSize("ds").isPresent());
+            detectorFactory.verifyNoInteractions();
+        }
+    }
+    
     @Test
     public void assertGetConnectionsWhenConnectionCreateFailed() {
         try {
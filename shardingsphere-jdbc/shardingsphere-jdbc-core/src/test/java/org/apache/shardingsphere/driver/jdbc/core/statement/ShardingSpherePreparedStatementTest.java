@@ -28,6 +28,8 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -59,6 +61,10 @@ public final class ShardingSpherePreparedStatementTest extends AbstractShardingS
     
     private static final String SELECT_WITH_ORDER_BY = "SELECT order_id, user_id, status FROM t_order ORDER BY order_id";
     
+    private static final String SELECT_COUNT_WITH_PARAMETER_MARKER = "SELECT COUNT(*) FROM t_order WHERE user_id = ?";
+    
+    private static final String SELECT_WITH_SHARDING_VALUE_PARAMETER_MARKER = "SELECT order_id FROM t_order WHERE user_id = ? ORDER BY order_id";
+    
     private static final String SELECT_AUTO_SQL = "SELECT item_id, order_id, status FROM t_order_item_auto WHERE order_id >= ?";
     
     private static final String SELECT_SQL_COLUMN_WITH_PARAMETER_MARKER = "SELECT ?, order_id, status FROM t_order_item_auto";
@@ -527,6 +533,39 @@ public final class ShardingSpherePreparedStatementTest extends AbstractShardingS
         }
     }
     
+    @Test
+    public void assertExecuteSelectCountRepeatedlyGetResultSet() throws SQLException {
+        try (PreparedStatement preparedStatement = getShardingSphereDataSource().getConnection().prepareStatement(SELECT_COUNT_WITH_PARAMETER_MARKER)) {
+            for (int i = 0; i < 2; i++) {
+                preparedStatement.setInt(1, 10);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    assertTrue(resultSet.next());
+                    assertThat(resultSet.getInt(1), is(2));
+                    assertFalse(resultSet.next());
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void assertExecuteSelectWithDifferentShardingValuesGetResultSet() throws SQLException {
+        try (PreparedStatement preparedStatement = getShardingSphereDataSource().getConnection().prepareStatement(SELECT_WITH_SHARDING_VALUE_PARAMETER_MARKER)) {
+            assertThat(getOrderIds(preparedStatement, 10), is(Arrays.asList(1000, 1001)));
+            assertThat(getOrderIds(preparedStatement, 11), is(Arrays.asList(1100, 1101)));
+        }
+    }
+    
+    private List<Integer> getOrderIds(final PreparedStatement preparedStatement, final int userId) throws SQLException {
+        List<Integer> result = new LinkedList<>();
+        preparedStatement.setInt(1, userId);
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                result.add(resultSet.getInt(1));
+            }
+        }
+        return result;
+    }
+    
     @Test
     public void assertExecuteSelectWithOrderByAndExecuteGetResultSet() throws SQLException {
         Collection<Integer> result = Arrays.asList(1000, 1001, 1100, 1101);
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.ColumnVector;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecordBatch;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.Temporal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Abstract bulk load importer.
+ *
+ * <p>
+ * Inventory data record batches are encoded as tab separated text, with {@code \N} as null and backslash as escape character, and loaded by native bulk load of database.
+ * If bulk load is not available on connection, some value could not be encoded, or some rows conflict with existing rows, transaction is rolled back
+ * and batch is written by batched insert instead, the table keeps using batched insert afterwards.
+ * </p>
+ */
+@Slf4j
+public abstract class AbstractBulkLoadImporter extends AbstractImporter {
+    
+    private static final String CONFLICT_SQL_STATE_CLASS = "23";
+    
+    private final Set<String> batchInsertTableNames = new HashSet<>();
+    
+    protected AbstractBulkLoadImporter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final PipelineChannel channel) {
+        super(importerConfig, dataSourceManager, channel);
+    }
+    
+    @Override
+    protected final void executeBatchInsert(final Connection connection, final DataRecordBatch batch) throws SQLException {
+        if (batchInsertTableNames.contains(batch.getTableName())) {
+            super.executeBatchInsert(connection, batch);
+            return;
+        }
+        Optional<String> data = isBulkLoadSupported(connection) ? encode(batch) : Optional.empty();
+        if (data.isPresent() && tryBulkLoad(connection, batch, data.get())) {
+            return;
+        }
+        log.info("Bulk load is not applicable, use batched insert for table {}", batch.getTableName());
+        batchInsertTableNames.add(batch.getTableName());
+        super.executeBatchInsert(connection, batch);
+    }
+    
+    private boolean tryBulkLoad(final Connection connection, final DataRecordBatch batch, final String data) throws SQLException {
+        long loadedRowCount;
+        try {
+            loadedRowCount = bulkLoad(connection, batch.getTableName(), batch.getColumnNames(), data);
+        } catch (final SQLException ex) {
+            if (!isFallbackRequired(ex)) {
+                throw ex;
+            }
+            log.warn("Bulk load failed, table={}, sqlState={}, errorCode={}", batch.getTableName(), ex.getSQLState(), ex.getErrorCode());
+            loadedRowCount = -1;
+        }
+        if (loadedRowCount == batch.getRowCount()) {
+            return true;
+        }
+        connection.rollback();
+        return false;
+    }
+    
+    private Optional<String> encode(final DataRecordBatch batch) {
+        StringBuilder result = new StringBuilder();
+        for (int row = 0; row < batch.getRowCount(); row++) {
+            for (int i = 0; i < batch.getColumnCount(); i++) {
+                if (i > 0) {
+                    result.append('\t');
+                }
+                ColumnVector columnVector = batch.getColumnVector(i);
+                if (columnVector.isNull(row)) {
+                    result.append("\\N");
+                    continue;
+                }
+                switch (columnVector.getType()) {
+                    case LONG:
+                        result.append(columnVector.getLong(row));
+                        break;
+                    case DOUBLE:
+                        result.append(columnVector.getDouble(row));
+                        break;
+                    default:
+                        Object value = columnVector.getValue(row);
+                        if (isNullValue(value)) {
+                            result.append("\\N");
+                            break;
+                        }
+                        Optional<String> formattedValue = formatValue(value);
+                        if (!formattedValue.isPresent()) {
+                            return Optional.empty();
+                        }
+                        escape(result, formattedValue.get());
+                        break;
+                }
+            }
+            result.append('\n');
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private void escape(final StringBuilder builder, final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            switch (each) {
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                default:
+                    builder.append(each);
+                    break;
+            }
+        }
+    }
+    
+    /**
+     * Whether value should be bulk loaded as null, e.g. driver object wrapping null.
+     *
+     * @param value value, not null
+     * @return null value or not
+     */
+    protected boolean isNullValue(final Object value) {
+        return false;
+    }
+    
+    /**
+     * Format value as bulk load text.
+     *
+     * <p>Date time values which denote instant are formatted as ISO text with explicit offset, so they do not depend on time zone of database session.</p>
+     *
+     * @param value value, not null
+     * @return formatted value, empty if value could not be bulk loaded
+     */
+    protected Optional<String> formatValue(final Object value) {
+        if (value instanceof BigDecimal) {
+            return Optional.of(((BigDecimal) value).toPlainString());
+        }
+        if (value instanceof String || value instanceof Character || value instanceof Number || value instanceof Boolean || value instanceof UUID
+                || value instanceof Date || value instanceof LocalDate || value instanceof LocalTime || value instanceof LocalDateTime) {
+            return Optional.of(value.toString());
+        }
+        return formatDateTime(value);
+    }
+    
+    private Optional<String> formatDateTime(final Object value) {
+        if (value instanceof Timestamp) {
+            return Optional.of(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(((Timestamp) value).toLocalDateTime().atZone(ZoneId.systemDefault())));
+        }
+        if (value instanceof Time) {
+            return Optional.of(DateTimeFormatter.ISO_OFFSET_TIME.format(OffsetTime.ofInstant(Instant.ofEpochMilli(((Time) value).getTime()), ZoneId.systemDefault())));
+        }
+        if (value instanceof Instant) {
+            return Optional.of(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(((Instant) value).atOffset(ZoneOffset.UTC)));
+        }
+        if (value instanceof OffsetDateTime || value instanceof ZonedDateTime) {
+            return Optional.of(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format((Temporal) value));
+        }
+        if (value instanceof OffsetTime) {
+            return Optional.of(DateTimeFormatter.ISO_OFFSET_TIME.format((OffsetTime) value));
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Whether fall back to batched insert on bulk load failure.
+     *
+     * @param ex SQL exception of bulk load
+     * @return fall back or not
+     */
+    protected boolean isFallbackRequired(final SQLException ex) {
+        return null != ex.getSQLState() && ex.getSQLState().startsWith(CONFLICT_SQL_STATE_CLASS);
+    }
+    
+    /**
+     * Whether bulk load is supported by connection.
+     *
+     * @param connection connection
+     * @return supported or not
+     * @throws SQLException SQL exception
+     */
+    protected abstract boolean isBulkLoadSupported(Connection connection) throws SQLException;
+    
+    /**
+     * Bulk load data.
+     *
+     * @param connection connection
+     * @param tableName table name
+     * @param columnNames column names
+     * @param data encoded rows
+     * @return loaded row count, batch is rolled back and written by batched insert if it mismatches row count of batch
+     * @throws SQLException SQL exception
+     */
+    protected abstract long bulkLoad(Connection connection, String tableName, List<String> columnNames, String data) throws SQLException;
+}
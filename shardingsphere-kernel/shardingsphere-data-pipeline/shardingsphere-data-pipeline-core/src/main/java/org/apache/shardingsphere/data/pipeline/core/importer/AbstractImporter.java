@@ -22,7 +22,9 @@ import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterCo
 import org.apache.shardingsphere.data.pipeline.api.executor.AbstractLifecycleExecutor;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.ColumnVector;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecordBatch;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.GroupedDataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
@@ -89,7 +91,7 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
             List<Record> records = channel.fetchRecords(batchSize, 3);
             if (null != records && !records.isEmpty()) {
                 round++;
-                rowCount += records.size();
+                rowCount += getRowCount(records);
                 flush(dataSourceManager.getDataSource(importerConfig.getDataSourceConfig()), records);
                 channel.ack(records);
                 if (0 == round % 50) {
@@ -105,6 +107,14 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
         log.info("importer write done, rowCount={}, finishedByBreak={}", rowCount, finishedByBreak);
     }
     
+    private int getRowCount(final List<Record> records) {
+        int result = 0;
+        for (Record each : records) {
+            result += each instanceof DataRecordBatch ? ((DataRecordBatch) each).getRowCount() : 1;
+        }
+        return result;
+    }
+    
     private void flush(final DataSource dataSource, final List<Record> buffer) {
         List<GroupedDataRecord> groupedDataRecords = MERGER.group(buffer.stream().filter(each -> each instanceof DataRecord).map(each -> (DataRecord) each).collect(Collectors.toList()));
         groupedDataRecords.forEach(each -> {
@@ -112,22 +122,31 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
             flushInternal(dataSource, each.getInsertDataRecords());
             flushInternal(dataSource, each.getUpdateDataRecords());
         });
+        for (Record each : buffer) {
+            if (each instanceof DataRecordBatch && ((DataRecordBatch) each).getRowCount() > 0) {
+                flushInternal(dataSource, connection -> executeBatchInsert(connection, (DataRecordBatch) each));
+            }
+        }
     }
     
     private void flushInternal(final DataSource dataSource, final List<DataRecord> buffer) {
         if (null == buffer || buffer.isEmpty()) {
             return;
         }
-        boolean success = tryFlush(dataSource, buffer);
+        flushInternal(dataSource, connection -> doFlush(connection, buffer));
+    }
+    
+    private void flushInternal(final DataSource dataSource, final FlushCallback callback) {
+        boolean success = tryFlush(dataSource, callback);
         if (isRunning() && !success) {
             throw new PipelineJobExecutionException("write failed.");
         }
     }
     
-    private boolean tryFlush(final DataSource dataSource, final List<DataRecord> buffer) {
+    private boolean tryFlush(final DataSource dataSource, final FlushCallback callback) {
         for (int i = 0; isRunning() && i <= importerConfig.getRetryTimes(); i++) {
             try {
-                doFlush(dataSource, buffer);
+                doFlush(dataSource, callback);
                 return true;
             } catch (final SQLException ex) {
                 log.error("flush failed {}/{} times.", i, importerConfig.getRetryTimes(), ex);
@@ -137,26 +156,30 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
         return false;
     }
     
-    private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
+    private void doFlush(final DataSource dataSource, final FlushCallback callback) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
-            switch (buffer.get(0).getType()) {
-                case IngestDataChangeType.INSERT:
-                    executeBatchInsert(connection, buffer);
-                    break;
-                case IngestDataChangeType.UPDATE:
-                    executeUpdate(connection, buffer);
-                    break;
-                case IngestDataChangeType.DELETE:
-                    executeBatchDelete(connection, buffer);
-                    break;
-                default:
-                    break;
-            }
+            callback.flush(connection);
             connection.commit();
         }
     }
     
+    private void doFlush(final Connection connection, final List<DataRecord> buffer) throws SQLException {
+        switch (buffer.get(0).getType()) {
+            case IngestDataChangeType.INSERT:
+                executeBatchInsert(connection, buffer);
+                break;
+            case IngestDataChangeType.UPDATE:
+                executeUpdate(connection, buffer);
+                break;
+            case IngestDataChangeType.DELETE:
+                executeBatchDelete(connection, buffer);
+                break;
+            default:
+                break;
+        }
+    }
+    
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         String insertSql = pipelineSqlBuilder.buildInsertSQL(dataRecords.get(0));
         try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
@@ -171,6 +194,55 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
         }
     }
     
+    /**
+     * Execute batch insert of data record batch.
+     *
+     * @param connection connection
+     * @param batch data record batch
+     * @throws SQLException SQL exception
+     */
+    protected void executeBatchInsert(final Connection connection, final DataRecordBatch batch) throws SQLException {
+        String insertSql = pipelineSqlBuilder.buildInsertSQL(createColumnDefinitionRecord(batch));
+        try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
+            ps.setQueryTimeout(30);
+            for (int row = 0; row < batch.getRowCount(); row++) {
+                for (int i = 0; i < batch.getColumnCount(); i++) {
+                    setParameter(ps, i + 1, batch.getColumnVector(i), row);
+                }
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+    
+    private DataRecord createColumnDefinitionRecord(final DataRecordBatch batch) {
+        DataRecord result = new DataRecord(batch.getPosition(), batch.getColumnCount());
+        result.setType(IngestDataChangeType.INSERT);
+        result.setTableName(batch.getTableName());
+        for (int i = 0; i < batch.getColumnCount(); i++) {
+            result.addColumn(new Column(batch.getColumnNames().get(i), null, true, batch.isPrimaryKey(i)));
+        }
+        return result;
+    }
+    
+    private void setParameter(final PreparedStatement ps, final int parameterIndex, final ColumnVector columnVector, final int row) throws SQLException {
+        if (columnVector.isNull(row)) {
+            ps.setObject(parameterIndex, null);
+            return;
+        }
+        switch (columnVector.getType()) {
+            case LONG:
+                ps.setLong(parameterIndex, columnVector.getLong(row));
+                break;
+            case DOUBLE:
+                ps.setDouble(parameterIndex, columnVector.getDouble(row));
+                break;
+            default:
+                ps.setObject(parameterIndex, columnVector.getValue(row));
+                break;
+        }
+    }
+    
     private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         for (DataRecord each : dataRecords) {
             executeUpdate(connection, each);
@@ -212,4 +284,9 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     @Override
     protected void doStop() {
     }
+    
+    private interface FlushCallback {
+        
+        void flush(Connection connection) throws SQLException;
+    }
 }
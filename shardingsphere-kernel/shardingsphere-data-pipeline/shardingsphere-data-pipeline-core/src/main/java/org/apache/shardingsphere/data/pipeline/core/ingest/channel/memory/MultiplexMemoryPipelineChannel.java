@@ -20,29 +20,58 @@ package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Multiplex memory pipeline channel.
+ * 
+ * <p>Data records are partitioned by key, so changes of same row are imported in order by one importer.
+ * Acknowledged position only moves to a record after all previous records in every partition are acknowledged.
+ * A record which updates primary key moves the row to the partition of the new key, so it waits until previous records of the old key's partition are acknowledged
+ * and later records wait until it is acknowledged. Only the pushing thread and the two partitions involved are blocked, the other partitions keep importing.
+ * The importers of the two partitions are requested to flush while waiting, so they import without waiting for a full batch,
+ * but frequent primary key updates still serialize the dumper with the importers of those partitions.</p>
  */
 @Slf4j
 public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     private static final EmptyAckCallback EMPTY_ACK_CALLBACK = new EmptyAckCallback();
     
+    private static final long WAIT_ACKNOWLEDGED_MILLIS = 1000L;
+    
     private final int channelNumber;
     
-    private final PipelineChannel[] channels;
+    private final SimpleMemoryPipelineChannel[] channels;
+    
+    private final Map<String, Integer> channelAssignment = new ConcurrentHashMap<>();
+    
+    private final AckCallback ackCallback;
+    
+    private final NavigableMap<Long, Record> pendingRecords = new TreeMap<>();
+    
+    private final Queue<Long>[] pendingSequences;
+    
+    private long sequence;
     
-    private final Map<String, Integer> channelAssignment = new HashMap<>();
+    private volatile boolean closed;
     
     public MultiplexMemoryPipelineChannel() {
         this(EMPTY_ACK_CALLBACK);
@@ -56,32 +85,128 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
         this(1, blockQueueSize, ackCallback);
     }
     
+    @SuppressWarnings("unchecked")
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
         this.channelNumber = channelNumber;
-        channels = new PipelineChannel[channelNumber];
+        this.ackCallback = ackCallback;
+        channels = new SimpleMemoryPipelineChannel[channelNumber];
+        pendingSequences = new Queue[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
-            channels[i] = new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback);
+            int channelIndex = i;
+            channels[i] = new SimpleMemoryPipelineChannel(blockQueueSize, records -> onAck(channelIndex, records));
+            pendingSequences[i] = new LinkedList<>();
         }
     }
     
     @Override
     public void pushRecord(final Record record) {
+        if (!isPrimaryKeyUpdated(record)) {
+            doPushRecord(record);
+            return;
+        }
+        int oldChannelIndex = getChannelIndex(getOldKey((DataRecord) record));
+        int channelIndex = getChannelIndex(((DataRecord) record).getKey());
+        if (oldChannelIndex == channelIndex) {
+            doPushRecord(record);
+            return;
+        }
+        waitAcknowledged(oldChannelIndex, getSequence());
+        doPushRecord(record);
+        waitAcknowledged(channelIndex, getSequence());
+    }
+    
+    private void pushRecord(final Record record, final int channelIndex) {
+        PipelineChannel channel = channels[channelIndex];
+        channel.pushRecord(record);
+    }
+    
+    private boolean isPrimaryKeyUpdated(final Record record) {
+        return DataRecord.class.equals(record.getClass()) && IngestDataChangeType.UPDATE.equals(((DataRecord) record).getType())
+                && ((DataRecord) record).getColumns().stream().anyMatch(each -> each.isPrimaryKey() && each.isUpdated() && !Objects.equals(each.getOldValue(), each.getValue()));
+    }
+    
+    private DataRecord.Key getOldKey(final DataRecord record) {
+        List<Object> oldPrimaryKeyValues = record.getColumns().stream().filter(Column::isPrimaryKey).map(each -> each.isUpdated() ? each.getOldValue() : each.getValue()).collect(Collectors.toList());
+        return new DataRecord.Key(record.getTableName(), oldPrimaryKeyValues);
+    }
+    
+    private int getChannelIndex(final DataRecord.Key key) {
+        return Math.abs(key.hashCode() % channelNumber);
+    }
+    
+    private long getSequence() {
+        synchronized (pendingRecords) {
+            return sequence;
+        }
+    }
+    
+    private void waitAcknowledged(final int channelIndex, final long untilSequence) {
+        synchronized (pendingRecords) {
+            Long firstPendingSequence;
+            while (!closed && null != (firstPendingSequence = pendingSequences[channelIndex].peek()) && firstPendingSequence <= untilSequence) {
+                channels[channelIndex].requestFlush();
+                try {
+                    pendingRecords.wait(WAIT_ACKNOWLEDGED_MILLIS);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("wait pending records acknowledged failed", ex);
+                }
+            }
+        }
+    }
+    
+    private void doPushRecord(final Record record) {
         if (FinishedRecord.class.equals(record.getClass())) {
+            addPendingRecord(record, 0, channelNumber);
             for (int i = 0; i < channelNumber; i++) {
                 pushRecord(record, i);
             }
         } else if (DataRecord.class.equals(record.getClass())) {
-            pushRecord(record, Math.abs(record.hashCode() % channelNumber));
+            int channelIndex = getChannelIndex(((DataRecord) record).getKey());
+            addPendingRecord(record, channelIndex, channelIndex + 1);
+            pushRecord(record, channelIndex);
         } else if (PlaceholderRecord.class.equals(record.getClass())) {
+            addPendingRecord(record, 0, 1);
             pushRecord(record, 0);
         } else {
             throw new RuntimeException("Not Support Record Type");
         }
     }
     
-    private void pushRecord(final Record record, final int channelIndex) {
-        PipelineChannel channel = channels[channelIndex];
-        channel.pushRecord(record);
+    private void addPendingRecord(final Record record, final int fromChannelIndex, final int toChannelIndex) {
+        synchronized (pendingRecords) {
+            pendingRecords.put(++sequence, record);
+            for (int i = fromChannelIndex; i < toChannelIndex; i++) {
+                pendingSequences[i].offer(sequence);
+            }
+        }
+    }
+    
+    private void onAck(final int channelIndex, final List<Record> records) {
+        synchronized (pendingRecords) {
+            for (int i = 0; i < records.size(); i++) {
+                pendingSequences[channelIndex].poll();
+            }
+            pendingRecords.notifyAll();
+            long acknowledgedSequence = getAcknowledgedSequence();
+            Entry<Long, Record> acknowledgedRecord = pendingRecords.floorEntry(acknowledgedSequence);
+            if (null == acknowledgedRecord) {
+                return;
+            }
+            pendingRecords.headMap(acknowledgedSequence, true).clear();
+            ackCallback.onAck(Collections.singletonList(acknowledgedRecord.getValue()));
+        }
+    }
+    
+    private long getAcknowledgedSequence() {
+        long result = sequence;
+        for (Queue<Long> each : pendingSequences) {
+            Long firstPendingSequence = each.peek();
+            if (null != firstPendingSequence) {
+                result = Math.min(result, firstPendingSequence - 1);
+            }
+        }
+        return result;
     }
     
     @Override
@@ -121,8 +246,13 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     @Override
     public void close() {
+        closed = true;
         for (PipelineChannel each : channels) {
             each.close();
         }
+        synchronized (pendingRecords) {
+            pendingRecords.clear();
+            pendingRecords.notifyAll();
+        }
     }
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
 
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecordBatch;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
 import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
@@ -27,9 +28,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
 
 /**
  * Simple memory pipeline channel.
+ *
+ * <p>Capacity and batch size are counted by rows, {@link DataRecordBatch} counts as its row count.</p>
  */
 public final class SimpleMemoryPipelineChannel implements PipelineChannel {
     
@@ -37,20 +41,29 @@ public final class SimpleMemoryPipelineChannel implements PipelineChannel {
     
     private final BlockingQueue<Record> queue;
     
+    private final Semaphore rowPermits;
+    
+    private final int capacity;
+    
     private final AckCallback ackCallback;
     
+    private volatile boolean flushRequested;
+    
     public SimpleMemoryPipelineChannel(final int blockQueueSize) {
         this(blockQueueSize, EMPTY_ACK_CALLBACK);
     }
     
     public SimpleMemoryPipelineChannel(final int blockQueueSize, final AckCallback ackCallback) {
         this.queue = new ArrayBlockingQueue<>(blockQueueSize);
+        rowPermits = new Semaphore(blockQueueSize);
+        capacity = blockQueueSize;
         this.ackCallback = ackCallback;
     }
     
     @Override
     public void pushRecord(final Record dataRecord) {
         try {
+            rowPermits.acquire(getPermits(dataRecord));
             queue.put(dataRecord);
         } catch (final InterruptedException ex) {
             throw new RuntimeException("put " + dataRecord + " into queue failed", ex);
@@ -62,16 +75,38 @@ public final class SimpleMemoryPipelineChannel implements PipelineChannel {
     public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
         List<Record> result = new ArrayList<>(batchSize);
         long start = System.currentTimeMillis();
-        while (batchSize > queue.size()) {
+        while (!flushRequested && batchSize > capacity - rowPermits.availablePermits()) {
             if (timeoutSeconds * 1000L <= System.currentTimeMillis() - start) {
                 break;
             }
             ThreadUtil.sleep(100L);
         }
-        queue.drainTo(result, batchSize);
+        flushRequested = false;
+        int rowCount = 0;
+        Record record;
+        while (rowCount < batchSize && null != (record = queue.poll())) {
+            result.add(record);
+            rowCount += getRowCount(record);
+            rowPermits.release(getPermits(record));
+        }
         return result;
     }
     
+    private int getRowCount(final Record record) {
+        return record instanceof DataRecordBatch ? ((DataRecordBatch) record).getRowCount() : 1;
+    }
+    
+    private int getPermits(final Record record) {
+        return Math.min(Math.max(getRowCount(record), 1), capacity);
+    }
+    
+    /**
+     * Request flush, the waiting or next fetch returns records in queue without waiting for a full batch.
+     */
+    public void requestFlush() {
+        flushRequested = true;
+    }
+    
     @Override
     public void ack(final List<Record> records) {
         ackCallback.onAck(records);
@@ -80,5 +115,6 @@ public final class SimpleMemoryPipelineChannel implements PipelineChannel {
     @Override
     public void close() {
         queue.clear();
+        rowPermits.release(capacity - rowPermits.availablePermits());
     }
 }
@@ -29,27 +29,35 @@ import org.apache.shardingsphere.data.pipeline.api.executor.AbstractLifecycleExe
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.KeysetPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
-import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
-import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.ColumnVector;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecordBatch;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
-import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineTableMetaData;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.dumper.InventoryDumper;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 
 import javax.sql.DataSource;
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Abstract JDBC dumper implement.
@@ -95,21 +103,13 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
     }
     
     private void dump() {
-        String sql = getDumpSQL();
         IngestPosition<?> position = inventoryDumperConfig.getPosition();
-        log.info("inventory dump, sql={}, position={}", sql, position);
         try (Connection conn = dataSource.getConnection()) {
-            int round = 1;
-            Number startUniqueKeyValue = getPositionBeginValue(position) - 1;
-            Optional<Number> maxUniqueKeyValue;
-            while ((maxUniqueKeyValue = dump0(conn, sql, startUniqueKeyValue, round++)).isPresent()) {
-                startUniqueKeyValue = maxUniqueKeyValue.get();
-                if (!isRunning()) {
-                    log.info("inventory dump, running is false, break");
-                    break;
-                }
+            if (position instanceof KeysetPosition) {
+                dumpByKeyset(conn, (KeysetPosition) position);
+            } else {
+                dumpByPrimaryKeyRange(conn, position);
             }
-            log.info("inventory dump done, round={}, maxUniqueKeyValue={}", round, maxUniqueKeyValue);
         } catch (final SQLException ex) {
             log.error("inventory dump, ex caught, msg={}", ex.getMessage());
             throw new IngestException(ex);
@@ -119,6 +119,73 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
         }
     }
     
+    private void dumpByPrimaryKeyRange(final Connection conn, final IngestPosition<?> position) throws SQLException {
+        String sql = getDumpSQL();
+        log.info("inventory dump, sql={}, position={}", sql, position);
+        int round = 1;
+        Number startUniqueKeyValue = getPositionBeginValue(position) - 1;
+        Number maxUniqueKeyValue = null;
+        Optional<DataRecordBatch> batch;
+        while ((batch = dump0(conn, sql, getPrimaryKeyRangeParameterBinder(startUniqueKeyValue), round++)).isPresent()) {
+            maxUniqueKeyValue = getMaxUniqueKeyValue(getTableMetaData(), batch.get());
+            startUniqueKeyValue = maxUniqueKeyValue;
+            if (!isRunning()) {
+                log.info("inventory dump, running is false, break");
+                break;
+            }
+        }
+        log.info("inventory dump done, round={}, maxUniqueKeyValue={}", round, maxUniqueKeyValue);
+    }
+    
+    private ParameterBinder getPrimaryKeyRangeParameterBinder(final Number startUniqueKeyValue) {
+        return preparedStatement -> {
+            preparedStatement.setObject(1, startUniqueKeyValue);
+            preparedStatement.setObject(2, getPositionEndValue(inventoryDumperConfig.getPosition()));
+            preparedStatement.setInt(3, batchSize);
+        };
+    }
+    
+    private void dumpByKeyset(final Connection conn, final KeysetPosition position) throws SQLException {
+        List<String> keyColumns = getTableMetaData().getPrimaryKeyColumns();
+        log.info("inventory dump by keyset, keyColumns={}, position={}", keyColumns, position);
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.newInstance(inventoryDumperConfig.getDataSourceConfig().getDatabaseType().getName());
+        String tableName = inventoryDumperConfig.getTableName();
+        String firstSQL = sqlBuilder.buildKeysetDumpSQL(tableName, keyColumns, null != position.getBeginValues(), null != position.getEndValues());
+        String nextSQL = sqlBuilder.buildKeysetDumpSQL(tableName, keyColumns, true, null != position.getEndValues());
+        int round = 1;
+        List<String> beginValues = position.getBeginValues();
+        Optional<DataRecordBatch> batch;
+        while ((batch = dump0(conn, 1 == round ? firstSQL : nextSQL, getKeysetParameterBinder(beginValues, position.getEndValues()), round++)).isPresent()) {
+            beginValues = ((KeysetPosition) batch.get().getPosition()).getBeginValues();
+            if (!isRunning()) {
+                log.info("inventory dump, running is false, break");
+                break;
+            }
+        }
+        log.info("inventory dump by keyset done, round={}, beginValues={}", round, beginValues);
+    }
+    
+    private ParameterBinder getKeysetParameterBinder(final List<String> beginValues, final List<String> endValues) {
+        return preparedStatement -> {
+            List<Integer> keyColumnTypes = getKeyColumnTypes();
+            int parameterIndex = 1;
+            for (List<String> each : Arrays.asList(beginValues, endValues)) {
+                if (null == each) {
+                    continue;
+                }
+                for (int i = 0; i < each.size(); i++) {
+                    preparedStatement.setObject(parameterIndex++, each.get(i), keyColumnTypes.get(i));
+                }
+            }
+            preparedStatement.setInt(parameterIndex, batchSize);
+        };
+    }
+    
+    private List<Integer> getKeyColumnTypes() {
+        PipelineTableMetaData tableMetaData = getTableMetaData();
+        return tableMetaData.getPrimaryKeyColumns().stream().map(each -> tableMetaData.getColumnMetaData(each).getDataType()).collect(Collectors.toList());
+    }
+    
     private String getDumpSQL() {
         String tableName = inventoryDumperConfig.getTableName();
         String primaryKey = inventoryDumperConfig.getPrimaryKey();
@@ -130,44 +197,167 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
         return tableMetaDataLazyInitializer.get();
     }
     
-    private Optional<Number> dump0(final Connection conn, final String sql, final Number startUniqueKeyValue, final int round) throws SQLException {
+    private Optional<DataRecordBatch> dump0(final Connection conn, final String sql, final ParameterBinder parameterBinder, final int round) throws SQLException {
         if (null != rateLimitAlgorithm) {
-            rateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
+            rateLimitAlgorithm.intercept(JobOperationType.SELECT, batchSize);
         }
         PipelineTableMetaData tableMetaData = getTableMetaData();
         try (PreparedStatement preparedStatement = createPreparedStatement(conn, sql)) {
-            preparedStatement.setObject(1, startUniqueKeyValue);
-            preparedStatement.setObject(2, getPositionEndValue(inventoryDumperConfig.getPosition()));
-            preparedStatement.setInt(3, batchSize);
+            parameterBinder.bind(preparedStatement);
+            long startMillis = System.currentTimeMillis();
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 ResultSetMetaData metaData = resultSet.getMetaData();
-                int rowCount = 0;
-                Number maxUniqueKeyValue = null;
+                int columnCount = metaData.getColumnCount();
+                ColumnVector[] columnVectors = new ColumnVector[columnCount];
+                for (int i = 1; i <= columnCount; i++) {
+                    columnVectors[i - 1] = new ColumnVector(getColumnVectorType(metaData, i), batchSize);
+                }
+                long lastPrimaryKeyValue = 0;
                 while (resultSet.next()) {
-                    DataRecord record = new DataRecord(newPosition(resultSet), metaData.getColumnCount());
-                    record.setType(IngestDataChangeType.INSERT);
-                    record.setTableName(inventoryDumperConfig.getTableNameMap().get(inventoryDumperConfig.getTableName()));
-                    for (int i = 1; i <= metaData.getColumnCount(); i++) {
-                        boolean isPrimaryKey = tableMetaData.isPrimaryKey(i - 1);
-                        Object value = readValue(resultSet, i);
-                        if (isPrimaryKey) {
-                            maxUniqueKeyValue = (Number) value;
-                        }
-                        record.addColumn(new Column(metaData.getColumnName(i), value, true, isPrimaryKey));
+                    for (int i = 1; i <= columnCount; i++) {
+                        appendValue(resultSet, i, columnVectors[i - 1]);
+                    }
+                    if (null != inventoryDumperConfig.getPrimaryKey()) {
+                        lastPrimaryKeyValue = resultSet.getLong(inventoryDumperConfig.getPrimaryKey());
                     }
-                    pushRecord(record);
-                    rowCount++;
                     if (!isRunning()) {
                         log.info("dump, running is false, break");
                         break;
                     }
                 }
+                int rowCount = 0 == columnCount ? 0 : columnVectors[0].getSize();
+                if (null != rateLimitAlgorithm) {
+                    rateLimitAlgorithm.feedback(JobOperationType.SELECT, rowCount, estimateByteSize(columnVectors), System.currentTimeMillis() - startMillis);
+                }
                 if (0 == round % 50) {
-                    log.info("dump, round={}, rowCount={}, maxUniqueKeyValue={}", round, rowCount, maxUniqueKeyValue);
+                    log.info("dump, round={}, rowCount={}", round, rowCount);
                 }
-                return Optional.ofNullable(maxUniqueKeyValue);
+                if (0 == rowCount) {
+                    return Optional.empty();
+                }
+                IngestPosition<?> position = inventoryDumperConfig.getPosition() instanceof KeysetPosition
+                        ? newKeysetPosition(tableMetaData, metaData, columnVectors, rowCount - 1)
+                        : newPosition(lastPrimaryKeyValue);
+                DataRecordBatch result = createDataRecordBatch(metaData, tableMetaData, columnVectors, position);
+                pushRecord(result);
+                return Optional.of(result);
+            }
+        }
+    }
+    
+    private long estimateByteSize(final ColumnVector[] columnVectors) {
+        long result = 0;
+        for (ColumnVector each : columnVectors) {
+            for (int row = 0; row < each.getSize(); row++) {
+                if (each.isNull(row)) {
+                    continue;
+                }
+                if (ColumnVector.Type.OBJECT != each.getType()) {
+                    result += 8;
+                    continue;
+                }
+                Object value = each.getValue(row);
+                if (value instanceof String) {
+                    result += ((String) value).length();
+                } else if (value instanceof byte[]) {
+                    result += ((byte[]) value).length;
+                } else {
+                    result += 16;
+                }
+            }
+        }
+        return result;
+    }
+    
+    private KeysetPosition newKeysetPosition(final PipelineTableMetaData tableMetaData, final ResultSetMetaData metaData,
+                                             final ColumnVector[] columnVectors, final int lastRow) throws SQLException {
+        List<String> keyValues = new ArrayList<>(tableMetaData.getPrimaryKeyColumns().size());
+        for (String each : tableMetaData.getPrimaryKeyColumns()) {
+            keyValues.add(toKeysetValue(columnVectors[findColumnIndex(metaData, each)].getValue(lastRow)));
+        }
+        return new KeysetPosition(keyValues, ((KeysetPosition) inventoryDumperConfig.getPosition()).getEndValues());
+    }
+    
+    private String toKeysetValue(final Object value) {
+        return value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : String.valueOf(value);
+    }
+    
+    private int findColumnIndex(final ResultSetMetaData metaData, final String columnName) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (columnName.equalsIgnoreCase(metaData.getColumnName(i))) {
+                return i - 1;
             }
         }
+        throw new IngestException(new SQLException(String.format("Can not find key column %s in table %s", columnName, inventoryDumperConfig.getTableName())));
+    }
+    
+    /**
+     * Get column vector type.
+     * 
+     * <p>Dialect dumpers should return {@link ColumnVector.Type#OBJECT} for columns whose JDBC type does not match the value returned by {@link #readValue(ResultSet, int)}.</p>
+     *
+     * @param metaData result set meta data
+     * @param index column index
+     * @return column vector type
+     * @throws SQLException SQL exception
+     */
+    protected ColumnVector.Type getColumnVectorType(final ResultSetMetaData metaData, final int index) throws SQLException {
+        switch (metaData.getColumnType(index)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return metaData.isSigned(index) ? ColumnVector.Type.LONG : ColumnVector.Type.OBJECT;
+            case Types.DOUBLE:
+                return ColumnVector.Type.DOUBLE;
+            default:
+                return ColumnVector.Type.OBJECT;
+        }
+    }
+    
+    private void appendValue(final ResultSet resultSet, final int index, final ColumnVector columnVector) throws SQLException {
+        switch (columnVector.getType()) {
+            case LONG:
+                long longValue = resultSet.getLong(index);
+                if (resultSet.wasNull()) {
+                    columnVector.appendNull();
+                } else {
+                    columnVector.appendLong(longValue);
+                }
+                break;
+            case DOUBLE:
+                double doubleValue = resultSet.getDouble(index);
+                if (resultSet.wasNull()) {
+                    columnVector.appendNull();
+                } else {
+                    columnVector.appendDouble(doubleValue);
+                }
+                break;
+            default:
+                columnVector.appendObject(readValue(resultSet, index));
+                break;
+        }
+    }
+    
+    private Number getMaxUniqueKeyValue(final PipelineTableMetaData tableMetaData, final DataRecordBatch batch) {
+        Number result = null;
+        for (int i = 0; i < batch.getColumnCount(); i++) {
+            if (tableMetaData.isPrimaryKey(i)) {
+                result = (Number) batch.getColumnVector(i).getValue(batch.getRowCount() - 1);
+            }
+        }
+        return result;
+    }
+    
+    private DataRecordBatch createDataRecordBatch(final ResultSetMetaData metaData, final PipelineTableMetaData tableMetaData,
+                                                  final ColumnVector[] columnVectors, final IngestPosition<?> position) throws SQLException {
+        List<String> columnNames = new ArrayList<>(columnVectors.length);
+        boolean[] primaryKeys = new boolean[columnVectors.length];
+        for (int i = 0; i < columnVectors.length; i++) {
+            columnNames.add(metaData.getColumnName(i + 1));
+            primaryKeys[i] = tableMetaData.isPrimaryKey(i);
+        }
+        return new DataRecordBatch(position, inventoryDumperConfig.getTableNameMap().get(inventoryDumperConfig.getTableName()), columnNames, primaryKeys, columnVectors);
     }
     
     private long getPositionBeginValue(final IngestPosition<?> position) {
@@ -178,9 +368,9 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
         return position instanceof PrimaryKeyPosition ? ((PrimaryKeyPosition) position).getEndValue() : Integer.MAX_VALUE;
     }
     
-    private IngestPosition<?> newPosition(final ResultSet rs) throws SQLException {
+    private IngestPosition<?> newPosition(final long primaryKeyValue) {
         return null == inventoryDumperConfig.getPrimaryKey() ? new PlaceholderPosition()
-                : new PrimaryKeyPosition(rs.getLong(inventoryDumperConfig.getPrimaryKey()), ((PrimaryKeyPosition) inventoryDumperConfig.getPosition()).getEndValue());
+                : new PrimaryKeyPosition(primaryKeyValue, ((PrimaryKeyPosition) inventoryDumperConfig.getPosition()).getEndValue());
     }
     
     protected abstract PreparedStatement createPreparedStatement(Connection connection, String sql) throws SQLException;
@@ -196,4 +386,9 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
     @Override
     protected void doStop() {
     }
+    
+    private interface ParameterBinder {
+        
+        void bind(PreparedStatement preparedStatement) throws SQLException;
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ratelimit;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket job rate limit algorithm.
+ *
+ * <p>
+ * Rows and bytes budgets are token buckets shared by all operations using this algorithm instance, e.g. all inventory dumpers of a job.
+ * Rows are acquired before operation and reconciled against the fetched row count after it, unused rows are credited to later operations,
+ * credited rows are capped at one second of rows budget. Only the latest operation of each thread is reconciled.
+ * Bytes are charged after operation and delay the next one.
+ * If latency threshold is configured, rates are halved when operation latency exceeds it, and recovered step by step when latency is back to normal.
+ * </p>
+ */
+@Slf4j
+public final class TokenBucketJobRateLimitAlgorithm implements JobRateLimitAlgorithm {
+    
+    public static final String ROWS_PER_SECOND_KEY = "rows-per-second";
+    
+    public static final String BYTES_PER_SECOND_KEY = "bytes-per-second";
+    
+    public static final String LATENCY_THRESHOLD_MILLISECONDS_KEY = "latency-threshold-milliseconds";
+    
+    private static final double MIN_RATE_FACTOR = 0.1D;
+    
+    private static final double RATE_FACTOR_RECOVERY_STEP = 0.1D;
+    
+    @Getter
+    @Setter
+    private Properties props = new Properties();
+    
+    private double rowsPerSecond;
+    
+    private double bytesPerSecond;
+    
+    private long latencyThresholdMillis;
+    
+    private RateLimiter rowsRateLimiter;
+    
+    private RateLimiter bytesRateLimiter;
+    
+    private final ThreadLocal<Integer> acquiredRows = new ThreadLocal<>();
+    
+    private final AtomicLong creditedRows = new AtomicLong();
+    
+    @Getter
+    private volatile double rateFactor = 1D;
+    
+    @Override
+    public void init() {
+        rowsPerSecond = Double.parseDouble(props.getProperty(ROWS_PER_SECOND_KEY, "0"));
+        bytesPerSecond = Double.parseDouble(props.getProperty(BYTES_PER_SECOND_KEY, "0"));
+        latencyThresholdMillis = Long.parseLong(props.getProperty(LATENCY_THRESHOLD_MILLISECONDS_KEY, "0"));
+        Preconditions.checkArgument(rowsPerSecond >= 0 && bytesPerSecond >= 0 && latencyThresholdMillis >= 0, "Token bucket rate limit properties can not be negative.");
+        Preconditions.checkArgument(rowsPerSecond > 0 || bytesPerSecond > 0, "%s or %s is required.", ROWS_PER_SECOND_KEY, BYTES_PER_SECOND_KEY);
+        rowsRateLimiter = rowsPerSecond > 0 ? RateLimiter.create(rowsPerSecond) : null;
+        bytesRateLimiter = bytesPerSecond > 0 ? RateLimiter.create(bytesPerSecond) : null;
+    }
+    
+    @Override
+    public void intercept(final JobOperationType type, final Number data) {
+        acquiredRows.remove();
+        if (null != rowsRateLimiter && null != data && data.intValue() > 0) {
+            int rows = data.intValue();
+            acquireRows(rows - takeCreditedRows(rows));
+            acquiredRows.set(rows);
+        }
+        if (null != bytesRateLimiter) {
+            bytesRateLimiter.acquire(1);
+        }
+    }
+    
+    @Override
+    public void feedback(final JobOperationType type, final int rowCount, final long byteCount, final long elapsedMillis) {
+        reconcileRows(rowCount);
+        if (null != bytesRateLimiter && byteCount > 0) {
+            bytesRateLimiter.acquire((int) Math.min(byteCount, Integer.MAX_VALUE));
+        }
+        if (latencyThresholdMillis > 0) {
+            adjustRateFactor(elapsedMillis);
+        }
+    }
+    
+    private int takeCreditedRows(final int rows) {
+        long credited;
+        long taken;
+        do {
+            credited = creditedRows.get();
+            taken = Math.min(credited, rows);
+        } while (taken > 0 && !creditedRows.compareAndSet(credited, credited - taken));
+        return (int) taken;
+    }
+    
+    private void acquireRows(final int rows) {
+        if (rows > 0) {
+            rowsRateLimiter.acquire(rows);
+        }
+    }
+    
+    private void reconcileRows(final int rowCount) {
+        Integer rows = acquiredRows.get();
+        if (null == rows) {
+            return;
+        }
+        acquiredRows.remove();
+        if (rowCount < rows) {
+            creditRows(rows - rowCount);
+        } else {
+            acquireRows(rowCount - rows);
+        }
+    }
+    
+    private void creditRows(final int rows) {
+        long maxCreditedRows = getMaxCreditedRows();
+        creditedRows.accumulateAndGet(rows, (credited, added) -> Math.min(credited + added, maxCreditedRows));
+    }
+    
+    private long getMaxCreditedRows() {
+        return (long) (rowsPerSecond * rateFactor);
+    }
+    
+    private synchronized void adjustRateFactor(final long elapsedMillis) {
+        double newRateFactor = elapsedMillis > latencyThresholdMillis ? Math.max(rateFactor / 2, MIN_RATE_FACTOR) : Math.min(rateFactor + RATE_FACTOR_RECOVERY_STEP, 1D);
+        if (newRateFactor == rateFactor) {
+            return;
+        }
+        if (newRateFactor < rateFactor) {
+            log.info("Back off rate, elapsedMillis={}, latencyThresholdMillis={}, rateFactor={}", elapsedMillis, latencyThresholdMillis, newRateFactor);
+        }
+        rateFactor = newRateFactor;
+        if (null != rowsRateLimiter) {
+            rowsRateLimiter.setRate(rowsPerSecond * rateFactor);
+            long maxCreditedRows = getMaxCreditedRows();
+            creditedRows.accumulateAndGet(maxCreditedRows, Math::min);
+        }
+        if (null != bytesRateLimiter) {
+            bytesRateLimiter.setRate(bytesPerSecond * rateFactor);
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "TOKEN_BUCKET";
+    }
+    
+    @Override
+    public String toString() {
+        return "TokenBucketJobRateLimitAlgorithm{" + "props=" + props + '}';
+    }
+}
@@ -33,6 +33,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 /**
  * Abstract pipeline SQL builder.
@@ -180,4 +181,31 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         String quotedKey = quote(primaryKey).toString();
         return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t", quotedKey, quotedKey, quote(tableName), quotedKey, quotedKey);
     }
+    
+    @Override
+    public String buildSplitByKeysetSQL(final String tableName, final List<String> keyColumns, final boolean withBeginKeyset) {
+        String quotedKeys = keyColumns.stream().map(each -> quote(each).toString()).collect(Collectors.joining(","));
+        String whereSQL = withBeginKeyset ? String.format(" WHERE %s>%s", 1 == keyColumns.size() ? quotedKeys : "(" + quotedKeys + ")", buildKeysetPlaceholder(keyColumns.size())) : "";
+        return String.format("SELECT %s FROM %s%s ORDER BY %s LIMIT 1 OFFSET ?", quotedKeys, quote(tableName), whereSQL, quotedKeys);
+    }
+    
+    @Override
+    public String buildKeysetDumpSQL(final String tableName, final List<String> keyColumns, final boolean withBeginKeyset, final boolean withEndKeyset) {
+        String quotedKeys = keyColumns.stream().map(each -> quote(each).toString()).collect(Collectors.joining(","));
+        String keyset = 1 == keyColumns.size() ? quotedKeys : "(" + quotedKeys + ")";
+        String placeholder = buildKeysetPlaceholder(keyColumns.size());
+        List<String> conditions = new ArrayList<>(2);
+        if (withBeginKeyset) {
+            conditions.add(keyset + ">" + placeholder);
+        }
+        if (withEndKeyset) {
+            conditions.add(keyset + "<=" + placeholder);
+        }
+        String whereSQL = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        return String.format("SELECT * FROM %s%s ORDER BY %s ASC LIMIT ?", quote(tableName), whereSQL, quotedKeys);
+    }
+    
+    private String buildKeysetPlaceholder(final int keyCount) {
+        return 1 == keyCount ? "?" : "(" + String.join(",", Collections.nCopies(keyCount, "?")) + ")";
+    }
 }
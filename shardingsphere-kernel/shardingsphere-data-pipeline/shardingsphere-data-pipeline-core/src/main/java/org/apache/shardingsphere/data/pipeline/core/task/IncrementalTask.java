@@ -136,6 +136,7 @@ public final class IncrementalTask extends AbstractLifecycleExecutor implements
         for (Importer each : importers) {
             each.stop();
         }
+        channel.close();
     }
     
     @Override
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.api.config.ingest.InventoryDumper
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.JobConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.TaskConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.KeysetPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.job.JobStatus;
@@ -32,6 +33,7 @@ import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCreatio
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobPrepareFailedException;
 import org.apache.shardingsphere.data.pipeline.core.execute.ExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineTableMetaData;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
 import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
@@ -39,6 +41,7 @@ import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredC
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelFactory;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 import org.apache.shardingsphere.infra.config.rulealtered.OnRuleAlteredActionConfiguration.InputConfiguration;
 import org.apache.shardingsphere.infra.yaml.config.pojo.rulealtered.YamlOnRuleAlteredActionConfiguration.YamlInputConfiguration;
 import org.apache.shardingsphere.infra.yaml.config.swapper.rulealtered.OnRuleAlteredActionConfigurationYamlSwapper.InputConfigurationSwapper;
@@ -53,6 +56,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Inventory data task splitter.
@@ -147,6 +152,9 @@ public final class InventoryTaskSplitter {
             dumperConfig.setPrimaryKey(primaryKey);
             return getPositionByPrimaryKeyRange(jobContext, dataSource, dumperConfig);
         }
+        if (isSplitByKeyset(tableMetaData, dumperConfig.getTableName())) {
+            return getPositionByKeyset(jobContext, dataSource, dumperConfig.getTableName(), tableMetaData);
+        }
         throw new PipelineJobCreationException("Can not split by primary key range for table " + dumperConfig.getTableName());
     }
     
@@ -171,6 +179,40 @@ public final class InventoryTaskSplitter {
         return true;
     }
     
+    private boolean isSplitByKeyset(final PipelineTableMetaData tableMetaData, final String tableName) {
+        if (null == tableMetaData || tableMetaData.getPrimaryKeyColumns().isEmpty()) {
+            return false;
+        }
+        for (String each : tableMetaData.getPrimaryKeyColumns()) {
+            PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(each);
+            if (!isKeysetSupportedColumn(columnMetaData.getDataType(), columnMetaData.getDataTypeName())) {
+                log.warn("Can't split keyset for table {}, reason: primary key column {} type {} is not supported", tableName, each, columnMetaData.getDataTypeName());
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isKeysetSupportedColumn(final int columnType, final String columnTypeName) {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+                return true;
+            case Types.OTHER:
+                return "uuid".equalsIgnoreCase(columnTypeName);
+            default:
+                return false;
+        }
+    }
+    
     private boolean isNotIntegerPrimary(final int columnType) {
         return Types.INTEGER != columnType && Types.BIGINT != columnType && Types.SMALLINT != columnType && Types.TINYINT != columnType;
     }
@@ -210,4 +252,49 @@ public final class InventoryTaskSplitter {
         }
         return result;
     }
+    
+    private Collection<IngestPosition<?>> getPositionByKeyset(final RuleAlteredJobContext jobContext, final DataSource dataSource, final String tableName, final PipelineTableMetaData tableMetaData) {
+        Collection<IngestPosition<?>> result = new ArrayList<>();
+        List<String> keyColumns = tableMetaData.getPrimaryKeyColumns();
+        List<Integer> keyColumnTypes = keyColumns.stream().map(each -> tableMetaData.getColumnMetaData(each).getDataType()).collect(Collectors.toList());
+        JobConfiguration jobConfig = jobContext.getJobConfig();
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.newInstance(jobConfig.getHandleConfig().getSourceDatabaseType());
+        int shardingSize = jobConfig.getHandleConfig().getShardingSize();
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement firstStatement = connection.prepareStatement(sqlBuilder.buildSplitByKeysetSQL(tableName, keyColumns, false));
+                PreparedStatement nextStatement = connection.prepareStatement(sqlBuilder.buildSplitByKeysetSQL(tableName, keyColumns, true))) {
+            List<String> beginValues = null;
+            Optional<List<String>> endValues;
+            while ((endValues = findKeysetAtOffset(null == beginValues ? firstStatement : nextStatement, beginValues, keyColumnTypes, shardingSize)).isPresent()) {
+                result.add(new KeysetPosition(beginValues, endValues.get()));
+                beginValues = endValues.get();
+            }
+            result.add(new KeysetPosition(beginValues, null));
+        } catch (final SQLException ex) {
+            throw new PipelineJobPrepareFailedException(String.format("Split task for table %s by keyset %s error", tableName, keyColumns), ex);
+        }
+        return result;
+    }
+    
+    private Optional<List<String>> findKeysetAtOffset(final PreparedStatement preparedStatement, final List<String> beginValues,
+                                                      final List<Integer> keyColumnTypes, final int offset) throws SQLException {
+        int parameterIndex = 1;
+        if (null != beginValues) {
+            for (int i = 0; i < beginValues.size(); i++) {
+                preparedStatement.setObject(parameterIndex++, beginValues.get(i), keyColumnTypes.get(i));
+            }
+        }
+        preparedStatement.setInt(parameterIndex, offset - 1);
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            List<String> result = new ArrayList<>(keyColumnTypes.size());
+            for (int i = 1; i <= keyColumnTypes.size(); i++) {
+                result.add(resultSet.getString(i));
+            }
+            return Optional.of(result);
+        }
+    }
 }
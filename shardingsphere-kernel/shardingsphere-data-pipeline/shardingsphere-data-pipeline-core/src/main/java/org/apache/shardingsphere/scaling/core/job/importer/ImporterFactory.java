@@ -21,6 +21,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.spi.importer.Importer;
@@ -43,11 +44,32 @@ public final class ImporterFactory {
      * @param channel channel
      * @return importer
      */
-    @SneakyThrows(ReflectiveOperationException.class)
     public static Importer createImporter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final PipelineChannel channel) {
-        String databaseType = importerConfig.getDataSourceConfig().getDatabaseType().getName();
-        ScalingEntry scalingEntry = ScalingEntryFactory.getInstance(databaseType);
-        Constructor<? extends Importer> constructor = scalingEntry.getImporterClass().getConstructor(ImporterConfiguration.class, PipelineDataSourceManager.class, PipelineChannel.class);
+        ScalingEntry scalingEntry = ScalingEntryFactory.getInstance(importerConfig.getDataSourceConfig().getDatabaseType().getName());
+        return newImporter(scalingEntry.getImporterClass(), importerConfig, dataSourceManager, channel);
+    }
+    
+    /**
+     * Create inventory importer.
+     *
+     * <p>Bulk load importer is only used when bulk load is enabled in importer configuration and target is standard JDBC data source,
+     * since bulk load could not be routed by ShardingSphere data source.</p>
+     *
+     * @param importerConfig importer configuration
+     * @param dataSourceManager data source manager
+     * @param channel channel
+     * @return inventory importer
+     */
+    public static Importer createInventoryImporter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final PipelineChannel channel) {
+        ScalingEntry scalingEntry = ScalingEntryFactory.getInstance(importerConfig.getDataSourceConfig().getDatabaseType().getName());
+        boolean bulkLoadAvailable = importerConfig.isBulkLoad() && StandardPipelineDataSourceConfiguration.TYPE.equals(importerConfig.getDataSourceConfig().getType());
+        return newImporter(bulkLoadAvailable ? scalingEntry.getInventoryImporterClass() : scalingEntry.getImporterClass(), importerConfig, dataSourceManager, channel);
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private static Importer newImporter(final Class<? extends Importer> importerClass, final ImporterConfiguration importerConfig,
+                                        final PipelineDataSourceManager dataSourceManager, final PipelineChannel channel) {
+        Constructor<? extends Importer> constructor = importerClass.getConstructor(ImporterConfiguration.class, PipelineDataSourceManager.class, PipelineChannel.class);
         return constructor.newInstance(importerConfig, dataSourceManager, channel);
     }
 }
@@ -49,6 +49,15 @@ public interface ScalingEntry extends StatelessTypedSPI {
      */
     Class<? extends Importer> getImporterClass();
     
+    /**
+     * Get inventory importer type, which could use bulk load of database.
+     *
+     * @return inventory importer type
+     */
+    default Class<? extends Importer> getInventoryImporterClass() {
+        return getImporterClass();
+    }
+    
     /**
      * Get environment checker type.
      *
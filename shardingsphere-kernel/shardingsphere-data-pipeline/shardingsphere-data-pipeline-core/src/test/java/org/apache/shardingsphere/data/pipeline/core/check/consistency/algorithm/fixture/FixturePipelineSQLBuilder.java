@@ -73,6 +73,16 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildSplitByKeysetSQL(final String tableName, final List<String> keyColumns, final boolean withBeginKeyset) {
+        return "";
+    }
+    
+    @Override
+    public String buildKeysetDumpSQL(final String tableName, final List<String> keyColumns, final boolean withBeginKeyset, final boolean withEndKeyset) {
+        return "";
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String tableName, final String column) {
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", column, tableName));
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.data.pipeline.mysql;
 
 import org.apache.shardingsphere.data.pipeline.mysql.importer.MySQLImporter;
+import org.apache.shardingsphere.data.pipeline.mysql.importer.MySQLLoadDataImporter;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.MySQLIncrementalDumper;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.MySQLInventoryDumper;
 import org.apache.shardingsphere.scaling.core.spi.ScalingEntry;
@@ -42,6 +43,11 @@ public final class MySQLScalingEntry implements ScalingEntry {
         return MySQLImporter.class;
     }
     
+    @Override
+    public Class<MySQLLoadDataImporter> getInventoryImporterClass() {
+        return MySQLLoadDataImporter.class;
+    }
+    
     @Override
     public Class<MySQLEnvironmentChecker> getEnvironmentCheckerClass() {
         return MySQLEnvironmentChecker.class;
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.importer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.importer.AbstractBulkLoadImporter;
+import org.apache.shardingsphere.data.pipeline.mysql.sqlbuilder.MySQLPipelineSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * MySQL importer which loads inventory data by {@code LOAD DATA LOCAL INFILE} from in-memory stream.
+ *
+ * <p>
+ * It is only used when bulk load is enabled in importer configuration, since it enables {@code allowLoadLocalInfile} of target connections.
+ * Stream is set by {@code setLocalInfileInputStream} of MySQL Connector/J statement, which is invoked reflectively since driver is provided by user.
+ * Local load implies {@code IGNORE}, rows conflicting with existing rows are skipped and invalid values are adjusted with warnings,
+ * so batch whose loaded row count mismatches or which raises warnings is rolled back and written by batched insert.
+ * </p>
+ */
+@Slf4j
+public final class MySQLLoadDataImporter extends AbstractBulkLoadImporter {
+    
+    private static final Collection<Integer> LOCAL_INFILE_DISABLED_ERROR_CODES = Arrays.asList(1148, 3948);
+    
+    private static final String WARNING_COUNT_SQL = "SHOW COUNT(*) WARNINGS";
+    
+    private final MySQLPipelineSQLBuilder loadDataSQLBuilder = new MySQLPipelineSQLBuilder();
+    
+    private Class<?> driverConnectionClass;
+    
+    private Class<?> driverStatementClass;
+    
+    public MySQLLoadDataImporter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final PipelineChannel channel) {
+        super(importerConfig, dataSourceManager, channel);
+        Properties queryProps = new Properties();
+        queryProps.setProperty("rewriteBatchedStatements", Boolean.TRUE.toString());
+        queryProps.setProperty("allowLoadLocalInfile", Boolean.TRUE.toString());
+        importerConfig.getDataSourceConfig().appendJDBCQueryProperties(queryProps);
+        loadDriverClasses();
+    }
+    
+    private void loadDriverClasses() {
+        try {
+            driverConnectionClass = Class.forName("com.mysql.jdbc.Connection");
+            driverStatementClass = Class.forName("com.mysql.jdbc.Statement");
+        } catch (final ClassNotFoundException ignored) {
+            try {
+                driverConnectionClass = Class.forName("com.mysql.cj.jdbc.JdbcConnection");
+                driverStatementClass = Class.forName("com.mysql.cj.jdbc.JdbcStatement");
+            } catch (final ClassNotFoundException ex) {
+                log.warn("MySQL Connector/J is not found, load data is not available.");
+            }
+        }
+    }
+    
+    @Override
+    protected PipelineSQLBuilder createSQLBuilder(final Map<String, Set<String>> shardingColumnsMap) {
+        return new MySQLPipelineSQLBuilder(shardingColumnsMap);
+    }
+    
+    @Override
+    protected boolean isBulkLoadSupported(final Connection connection) throws SQLException {
+        return null != driverStatementClass && connection.isWrapperFor(driverConnectionClass);
+    }
+    
+    @Override
+    protected long bulkLoad(final Connection connection, final String tableName, final List<String> columnNames, final String data) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            InputStream inputStream = new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+            driverStatementClass.getMethod("setLocalInfileInputStream", InputStream.class).invoke(statement.unwrap(driverStatementClass), inputStream);
+            long result = statement.executeUpdate(loadDataSQLBuilder.buildLoadDataSQL(tableName, columnNames));
+            long warningCount = getWarningCount(statement);
+            if (warningCount > 0) {
+                log.warn("Load data raised warnings, table={}, warningCount={}", tableName, warningCount);
+                return -1;
+            }
+            return result;
+        } catch (final ReflectiveOperationException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private long getWarningCount(final Statement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(WARNING_COUNT_SQL)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+    
+    @Override
+    protected boolean isFallbackRequired(final SQLException ex) {
+        return super.isFallbackRequired(ex) || LOCAL_INFILE_DISABLED_ERROR_CODES.contains(ex.getErrorCode());
+    }
+    
+    @Override
+    protected Optional<String> formatValue(final Object value) {
+        if (value instanceof Boolean) {
+            return Optional.of((Boolean) value ? "1" : "0");
+        }
+        return super.formatValue(value);
+    }
+}
@@ -22,9 +22,11 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * MySQL pipeline SQL builder.
@@ -64,6 +66,18 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
         return result.toString();
     }
     
+    /**
+     * Build load data SQL, which loads tab separated rows from client side stream.
+     *
+     * @param tableName table name
+     * @param columnNames column names
+     * @return load data SQL
+     */
+    public String buildLoadDataSQL(final String tableName, final List<String> columnNames) {
+        return String.format("LOAD DATA LOCAL INFILE 'pipeline' INTO TABLE %s CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (%s)",
+                quote(tableName), columnNames.stream().map(each -> quote(each).toString()).collect(Collectors.joining(",")));
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String tableName, final String column) {
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum FROM %s", quote(column), quote(tableName)));
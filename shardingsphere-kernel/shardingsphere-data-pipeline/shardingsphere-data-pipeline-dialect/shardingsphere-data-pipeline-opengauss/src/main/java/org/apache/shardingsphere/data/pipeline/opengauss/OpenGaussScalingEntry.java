@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.opengauss;
 
+import org.apache.shardingsphere.data.pipeline.opengauss.importer.OpenGaussCopyImporter;
 import org.apache.shardingsphere.data.pipeline.opengauss.importer.OpenGaussImporter;
 import org.apache.shardingsphere.data.pipeline.opengauss.ingest.OpenGaussWalDumper;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.PostgreSQLInventoryDumper;
@@ -42,6 +43,11 @@ public final class OpenGaussScalingEntry implements ScalingEntry {
         return OpenGaussImporter.class;
     }
     
+    @Override
+    public Class<OpenGaussCopyImporter> getInventoryImporterClass() {
+        return OpenGaussCopyImporter.class;
+    }
+    
     @Override
     public Class<OpenGaussEnvironmentChecker> getEnvironmentCheckerClass() {
         return OpenGaussEnvironmentChecker.class;
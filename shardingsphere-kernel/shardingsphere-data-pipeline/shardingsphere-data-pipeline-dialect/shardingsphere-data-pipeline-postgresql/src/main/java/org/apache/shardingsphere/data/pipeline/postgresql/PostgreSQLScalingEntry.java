@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.postgresql;
 
+import org.apache.shardingsphere.data.pipeline.postgresql.importer.PostgreSQLCopyImporter;
 import org.apache.shardingsphere.data.pipeline.postgresql.importer.PostgreSQLImporter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.PostgreSQLInventoryDumper;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.PostgreSQLWalDumper;
@@ -42,6 +43,11 @@ public final class PostgreSQLScalingEntry implements ScalingEntry {
         return PostgreSQLImporter.class;
     }
     
+    @Override
+    public Class<PostgreSQLCopyImporter> getInventoryImporterClass() {
+        return PostgreSQLCopyImporter.class;
+    }
+    
     @Override
     public Class<PostgreSQLEnvironmentChecker> getEnvironmentCheckerClass() {
         return PostgreSQLEnvironmentChecker.class;
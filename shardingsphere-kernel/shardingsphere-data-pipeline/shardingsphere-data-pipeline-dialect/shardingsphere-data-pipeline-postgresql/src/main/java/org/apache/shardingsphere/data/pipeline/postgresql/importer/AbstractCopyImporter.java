@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.importer.AbstractBulkLoadImporter;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Abstract importer which loads inventory data by {@code COPY FROM STDIN}, for PostgreSQL and its derived databases.
+ *
+ * <p>Subclasses bind it to {@code CopyManager} and {@code PGobject} of their own driver.</p>
+ */
+public abstract class AbstractCopyImporter extends AbstractBulkLoadImporter {
+    
+    private final AbstractPipelineSQLBuilder copySQLBuilder;
+    
+    protected AbstractCopyImporter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final PipelineChannel channel,
+                                   final AbstractPipelineSQLBuilder copySQLBuilder) {
+        super(importerConfig, dataSourceManager, channel);
+        this.copySQLBuilder = copySQLBuilder;
+    }
+    
+    @Override
+    protected final long bulkLoad(final Connection connection, final String tableName, final List<String> columnNames, final String data) throws SQLException {
+        try {
+            return copyIn(connection, buildCopyInSQL(tableName, columnNames), new StringReader(data));
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Build copy in SQL.
+     *
+     * @param tableName table name
+     * @param columnNames column names
+     * @return copy in SQL
+     */
+    public final String buildCopyInSQL(final String tableName, final List<String> columnNames) {
+        return String.format("COPY %s (%s) FROM STDIN", copySQLBuilder.quote(tableName), columnNames.stream().map(each -> copySQLBuilder.quote(each).toString()).collect(Collectors.joining(",")));
+    }
+    
+    @Override
+    protected final boolean isNullValue(final Object value) {
+        return isDriverObject(value) && null == getDriverObjectValue(value);
+    }
+    
+    @Override
+    protected final Optional<String> formatValue(final Object value) {
+        if (value instanceof byte[]) {
+            return Optional.of(toByteaHex((byte[]) value));
+        }
+        if (isDriverObject(value)) {
+            return Optional.of(getDriverObjectValue(value));
+        }
+        return super.formatValue(value);
+    }
+    
+    private String toByteaHex(final byte[] value) {
+        StringBuilder result = new StringBuilder(2 + value.length * 2).append("\\x");
+        for (byte each : value) {
+            result.append(Character.forDigit((each >> 4) & 0xF, 16)).append(Character.forDigit(each & 0xF, 16));
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Copy data in by copy API of driver.
+     *
+     * @param connection connection
+     * @param sql copy in SQL
+     * @param reader reader of encoded rows
+     * @return copied row count
+     * @throws SQLException SQL exception
+     * @throws IOException IO exception
+     */
+    protected abstract long copyIn(Connection connection, String sql, Reader reader) throws SQLException, IOException;
+    
+    /**
+     * Judge whether value is object of driver, such as {@code PGobject}.
+     *
+     * @param value value, not null
+     * @return is driver object or not
+     */
+    protected abstract boolean isDriverObject(Object value);
+    
+    /**
+     * Get value of driver object.
+     *
+     * @param value driver object
+     * @return value, null if driver object wraps null
+     */
+    protected abstract String getDriverObjectValue(Object value);
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.postgresql.sqlbuilder.PostgreSQLPipelineSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.postgresql.PGConnection;
+import org.postgresql.util.PGobject;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PostgreSQL importer which loads inventory data by {@code COPY FROM STDIN}.
+ */
+public final class PostgreSQLCopyImporter extends AbstractCopyImporter {
+    
+    public PostgreSQLCopyImporter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final PipelineChannel channel) {
+        super(importerConfig, dataSourceManager, channel, new PostgreSQLPipelineSQLBuilder());
+    }
+    
+    @Override
+    protected PipelineSQLBuilder createSQLBuilder(final Map<String, Set<String>> shardingColumnsMap) {
+        return new PostgreSQLPipelineSQLBuilder(shardingColumnsMap);
+    }
+    
+    @Override
+    protected boolean isBulkLoadSupported(final Connection connection) throws SQLException {
+        return connection.isWrapperFor(PGConnection.class);
+    }
+    
+    @Override
+    protected long copyIn(final Connection connection, final String sql, final Reader reader) throws SQLException, IOException {
+        return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, reader);
+    }
+    
+    @Override
+    protected boolean isDriverObject(final Object value) {
+        return value instanceof PGobject;
+    }
+    
+    @Override
+    protected String getDriverObjectValue(final Object value) {
+        return ((PGobject) value).getValue();
+    }
+}
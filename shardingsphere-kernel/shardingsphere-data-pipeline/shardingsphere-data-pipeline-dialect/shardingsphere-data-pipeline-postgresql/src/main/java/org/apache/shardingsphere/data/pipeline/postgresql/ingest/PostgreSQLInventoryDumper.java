@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
 
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.InventoryDumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.ColumnVector;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.AbstractInventoryDumper;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
 import org.postgresql.util.PGobject;
@@ -27,6 +28,7 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
 
@@ -51,6 +53,11 @@ public final class PostgreSQLInventoryDumper extends AbstractInventoryDumper {
         return result;
     }
     
+    @Override
+    protected ColumnVector.Type getColumnVectorType(final ResultSetMetaData metaData, final int index) throws SQLException {
+        return PG_MONEY_TYPE.equalsIgnoreCase(metaData.getColumnTypeName(index)) ? ColumnVector.Type.OBJECT : super.getColumnVectorType(metaData, index);
+    }
+    
     @Override
     protected Object readValue(final ResultSet resultSet, final int index) throws SQLException {
         if (isPgMoneyType(resultSet, index)) {
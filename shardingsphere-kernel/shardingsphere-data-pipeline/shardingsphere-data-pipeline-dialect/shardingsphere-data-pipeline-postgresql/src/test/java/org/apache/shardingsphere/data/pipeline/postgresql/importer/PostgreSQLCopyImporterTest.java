@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterConfiguration;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.util.PGobject;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class PostgreSQLCopyImporterTest {
+    
+    private PostgreSQLCopyImporter importer;
+    
+    @Before
+    public void setUp() {
+        importer = new PostgreSQLCopyImporter(mock(ImporterConfiguration.class), null, null);
+    }
+    
+    @Test
+    public void assertBuildCopyInSQL() {
+        assertThat(importer.buildCopyInSQL("t_order", Arrays.asList("order_id", "status")), is("COPY \"t_order\" (\"order_id\",\"status\") FROM STDIN"));
+    }
+    
+    @Test
+    public void assertFormatBytea() {
+        assertThat(importer.formatValue(new byte[]{0x01, (byte) 0xAB}), is(Optional.of("\\x01ab")));
+    }
+    
+    @Test
+    public void assertFormatPGobject() throws SQLException {
+        PGobject value = createPGobject("{\"k\": 1}");
+        assertFalse(importer.isNullValue(value));
+        assertThat(importer.formatValue(value), is(Optional.of("{\"k\": 1}")));
+    }
+    
+    @Test
+    public void assertPGobjectWithNullValue() throws SQLException {
+        assertTrue(importer.isNullValue(createPGobject(null)));
+    }
+    
+    private PGobject createPGobject(final String value) throws SQLException {
+        PGobject result = new PGobject();
+        result.setType("json");
+        result.setValue(value);
+        return result;
+    }
+}
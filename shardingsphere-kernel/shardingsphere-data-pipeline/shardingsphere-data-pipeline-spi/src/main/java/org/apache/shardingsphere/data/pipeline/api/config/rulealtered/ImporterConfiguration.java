@@ -42,4 +42,6 @@ public final class ImporterConfiguration {
     private final int batchSize;
     
     private final int retryTimes;
+    
+    private boolean bulkLoad;
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.ingest.position;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Use keyset of (composite) primary key as position, it is available for any orderable primary key.
+ *
+ * <p>Range is {@code (beginValues, endValues]} in primary key order, null bound means unbounded. Values are kept as string.</p>
+ */
+@Getter
+public final class KeysetPosition implements IngestPosition<KeysetPosition> {
+    
+    private static final String PREFIX = "keyset:";
+    
+    private static final String UNBOUNDED = "~";
+    
+    private final List<String> beginValues;
+    
+    private final List<String> endValues;
+    
+    public KeysetPosition(final List<String> beginValues, final List<String> endValues) {
+        this.beginValues = null == beginValues ? null : Collections.unmodifiableList(beginValues);
+        this.endValues = null == endValues ? null : Collections.unmodifiableList(endValues);
+    }
+    
+    /**
+     * Judge whether string data is keyset position.
+     *
+     * @param data string data
+     * @return is keyset position or not
+     */
+    public static boolean isKeysetPosition(final String data) {
+        return data.startsWith(PREFIX);
+    }
+    
+    /**
+     * Init by string data.
+     *
+     * @param data string data
+     * @return keyset position
+     */
+    public static KeysetPosition init(final String data) {
+        Preconditions.checkArgument(isKeysetPosition(data), "Unknown keyset position: " + data);
+        String[] array = data.substring(PREFIX.length()).split(";", -1);
+        Preconditions.checkArgument(array.length == 2, "Unknown keyset position: " + data);
+        return new KeysetPosition(decode(array[0]), decode(array[1]));
+    }
+    
+    @SneakyThrows(UnsupportedEncodingException.class)
+    private static List<String> decode(final String data) {
+        if (UNBOUNDED.equals(data)) {
+            return null;
+        }
+        List<String> result = new ArrayList<>();
+        for (String each : data.split(",", -1)) {
+            result.add(URLDecoder.decode(each, StandardCharsets.UTF_8.name()));
+        }
+        return result;
+    }
+    
+    @SneakyThrows(UnsupportedEncodingException.class)
+    private static String encode(final List<String> values) {
+        if (null == values) {
+            return UNBOUNDED;
+        }
+        List<String> result = new ArrayList<>(values.size());
+        for (String each : values) {
+            result.add(URLEncoder.encode(each, StandardCharsets.UTF_8.name()));
+        }
+        return String.join(",", result);
+    }
+    
+    @Override
+    public int compareTo(final KeysetPosition position) {
+        return null == position ? 1 : 0;
+    }
+    
+    @Override
+    public String toString() {
+        return PREFIX + encode(beginValues) + ";" + encode(endValues);
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.ingest.record;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Column vector, values of one column in {@link DataRecordBatch}.
+ *
+ * <p>Integer and double values are kept in primitive arrays, nulls are kept in a bitmap.</p>
+ */
+public final class ColumnVector {
+    
+    @Getter
+    private final Type type;
+    
+    private long[] longValues;
+    
+    private double[] doubleValues;
+    
+    private Object[] objectValues;
+    
+    private long[] nulls;
+    
+    @Getter
+    private int size;
+    
+    public ColumnVector(final Type type, final int initialCapacity) {
+        this.type = type;
+        int capacity = Math.max(initialCapacity, 1);
+        switch (type) {
+            case LONG:
+                longValues = new long[capacity];
+                break;
+            case DOUBLE:
+                doubleValues = new double[capacity];
+                break;
+            default:
+                objectValues = new Object[capacity];
+                break;
+        }
+        nulls = new long[getNullWordCount(capacity)];
+    }
+    
+    private int getNullWordCount(final int capacity) {
+        return (capacity + 63) >>> 6;
+    }
+    
+    /**
+     * Append long value.
+     *
+     * @param value value
+     */
+    public void appendLong(final long value) {
+        ensureCapacity();
+        longValues[size++] = value;
+    }
+    
+    /**
+     * Append double value.
+     *
+     * @param value value
+     */
+    public void appendDouble(final double value) {
+        ensureCapacity();
+        doubleValues[size++] = value;
+    }
+    
+    /**
+     * Append object value.
+     *
+     * @param value value
+     */
+    public void appendObject(final Object value) {
+        if (null == value) {
+            appendNull();
+            return;
+        }
+        ensureCapacity();
+        objectValues[size++] = value;
+    }
+    
+    /**
+     * Append null value.
+     */
+    public void appendNull() {
+        ensureCapacity();
+        nulls[size >>> 6] |= 1L << size;
+        size++;
+    }
+    
+    private void ensureCapacity() {
+        int capacity = null != longValues ? longValues.length : null != doubleValues ? doubleValues.length : objectValues.length;
+        if (size < capacity) {
+            return;
+        }
+        int newCapacity = capacity << 1;
+        switch (type) {
+            case LONG:
+                longValues = Arrays.copyOf(longValues, newCapacity);
+                break;
+            case DOUBLE:
+                doubleValues = Arrays.copyOf(doubleValues, newCapacity);
+                break;
+            default:
+                objectValues = Arrays.copyOf(objectValues, newCapacity);
+                break;
+        }
+        nulls = Arrays.copyOf(nulls, getNullWordCount(newCapacity));
+    }
+    
+    /**
+     * Judge whether value is null.
+     *
+     * @param row row index
+     * @return is null or not
+     */
+    public boolean isNull(final int row) {
+        checkRow(row);
+        return 0 != (nulls[row >>> 6] & (1L << row));
+    }
+    
+    /**
+     * Get long value.
+     *
+     * @param row row index
+     * @return long value
+     */
+    public long getLong(final int row) {
+        checkRow(row);
+        return longValues[row];
+    }
+    
+    /**
+     * Get double value.
+     *
+     * @param row row index
+     * @return double value
+     */
+    public double getDouble(final int row) {
+        checkRow(row);
+        return doubleValues[row];
+    }
+    
+    /**
+     * Get value, primitive value is boxed.
+     *
+     * @param row row index
+     * @return value
+     */
+    public Object getValue(final int row) {
+        if (isNull(row)) {
+            return null;
+        }
+        switch (type) {
+            case LONG:
+                return longValues[row];
+            case DOUBLE:
+                return doubleValues[row];
+            default:
+                return objectValues[row];
+        }
+    }
+    
+    private void checkRow(final int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException(String.format("Row index %d out of bounds for size %d", row, size));
+        }
+    }
+    
+    /**
+     * Column vector type.
+     */
+    public enum Type {
+        
+        LONG, DOUBLE, OBJECT
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.ingest.record;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+
+import java.util.List;
+
+/**
+ * Data record batch, inserted rows of one table kept in column vectors.
+ *
+ * <p>Position is the position of the last row.</p>
+ */
+@Getter
+@ToString(of = {"tableName", "columnNames", "rowCount"}, callSuper = true)
+public final class DataRecordBatch extends Record {
+    
+    private final String tableName;
+    
+    private final List<String> columnNames;
+    
+    private final boolean[] primaryKeys;
+    
+    private final ColumnVector[] columnVectors;
+    
+    private final int rowCount;
+    
+    public DataRecordBatch(final IngestPosition<?> position, final String tableName, final List<String> columnNames, final boolean[] primaryKeys, final ColumnVector[] columnVectors) {
+        super(position);
+        this.tableName = tableName;
+        this.columnNames = columnNames;
+        this.primaryKeys = primaryKeys;
+        this.columnVectors = columnVectors;
+        rowCount = 0 == columnVectors.length ? 0 : columnVectors[0].getSize();
+    }
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columnVectors.length;
+    }
+    
+    /**
+     * Get column vector.
+     *
+     * @param index column index
+     * @return column vector
+     */
+    public ColumnVector getColumnVector(final int index) {
+        return columnVectors[index];
+    }
+    
+    /**
+     * Judge whether column is primary key.
+     *
+     * @param index column index
+     * @return is primary key or not
+     */
+    public boolean isPrimaryKey(final int index) {
+        return primaryKeys[index];
+    }
+}
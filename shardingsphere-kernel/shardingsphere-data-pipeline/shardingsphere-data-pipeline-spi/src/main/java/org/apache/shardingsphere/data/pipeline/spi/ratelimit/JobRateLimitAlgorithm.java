@@ -33,4 +33,15 @@ public interface JobRateLimitAlgorithm extends ShardingSphereAlgorithm, Sharding
      * @param data it's delta that means how much changed if type is INSERT, DELETE, UPDATE, SELECT; it's null if type is SYSTEM_LOAD, CPU_USAGE
      */
     void intercept(JobOperationType type, Number data);
+    
+    /**
+     * Feed back executed operation, so that rate limit algorithm could adapt to load of database.
+     *
+     * @param type job operation type
+     * @param rowCount affected or fetched row count
+     * @param byteCount estimated byte count
+     * @param elapsedMillis elapsed milliseconds of operation
+     */
+    default void feedback(final JobOperationType type, final int rowCount, final long byteCount, final long elapsedMillis) {
+    }
 }
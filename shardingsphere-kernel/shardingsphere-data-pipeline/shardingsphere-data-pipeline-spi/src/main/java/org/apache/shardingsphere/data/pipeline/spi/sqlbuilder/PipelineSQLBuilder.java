@@ -112,6 +112,27 @@ public interface PipelineSQLBuilder extends StatelessTypedSPI {
      */
     String buildSplitByPrimaryKeyRangeSQL(String tableName, String primaryKey);
     
+    /**
+     * Build split by keyset SQL, it queries the keyset at offset after begin keyset in key order.
+     *
+     * @param tableName table name
+     * @param keyColumns key columns
+     * @param withBeginKeyset whether there is begin keyset or not
+     * @return split SQL
+     */
+    String buildSplitByKeysetSQL(String tableName, List<String> keyColumns, boolean withBeginKeyset);
+    
+    /**
+     * Build keyset dump SQL, it queries rows after begin keyset and up to end keyset in key order.
+     *
+     * @param tableName table name
+     * @param keyColumns key columns
+     * @param withBeginKeyset whether there is begin keyset or not
+     * @param withEndKeyset whether there is end keyset or not
+     * @return dump SQL
+     */
+    String buildKeysetDumpSQL(String tableName, List<String> keyColumns, boolean withBeginKeyset, boolean withEndKeyset);
+    
     /**
      * Build CRC32 SQL.
      *
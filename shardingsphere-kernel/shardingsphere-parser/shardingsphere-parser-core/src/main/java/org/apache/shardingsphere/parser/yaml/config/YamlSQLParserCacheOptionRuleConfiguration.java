@@ -33,4 +33,8 @@ public final class YamlSQLParserCacheOptionRuleConfiguration implements YamlConf
     private long maximumSize;
     
     private int concurrencyLevel;
+    
+    private boolean softValues = true;
+    
+    private long maximumWeight;
 }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.traffic.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.datasource.latency.ResponseTimeStatistics;
+import org.apache.shardingsphere.infra.datasource.latency.ResponseTimeStatisticsRegistry;
+import org.apache.shardingsphere.infra.instance.definition.InstanceId;
+import org.apache.shardingsphere.traffic.spi.TrafficLoadBalanceAlgorithm;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Least response time traffic load balance algorithm.
+ * 
+ * <p>Picks two instances at random and chooses the one with the lower product of EWMA response time and in-flight requests.
+ * Instances are registered for response time statistics of traffic once they are picked.</p>
+ */
+public final class LeastResponseTimeTrafficLoadBalanceAlgorithm implements TrafficLoadBalanceAlgorithm {
+    
+    public static final String STATISTICS_SCOPE = "traffic";
+    
+    @Override
+    public InstanceId getInstanceId(final String name, final List<InstanceId> instanceIds) {
+        int size = instanceIds.size();
+        if (1 == size) {
+            return instanceIds.get(0);
+        }
+        int first = ThreadLocalRandom.current().nextInt(size);
+        int second = ThreadLocalRandom.current().nextInt(size - 1);
+        InstanceId firstInstanceId = instanceIds.get(first);
+        InstanceId secondInstanceId = instanceIds.get(second >= first ? second + 1 : second);
+        return getScore(firstInstanceId) <= getScore(secondInstanceId) ? firstInstanceId : secondInstanceId;
+    }
+    
+    private double getScore(final InstanceId instanceId) {
+        ResponseTimeStatisticsRegistry registry = ResponseTimeStatisticsRegistry.getInstance();
+        ResponseTimeStatistics statistics = registry.findStatistics(STATISTICS_SCOPE, instanceId.getId()).orElseGet(() -> registry.register(STATISTICS_SCOPE, instanceId.getId()));
+        return statistics.getScore();
+    }
+    
+    @Override
+    public String getType() {
+        return "LEAST_RESPONSE_TIME";
+    }
+}
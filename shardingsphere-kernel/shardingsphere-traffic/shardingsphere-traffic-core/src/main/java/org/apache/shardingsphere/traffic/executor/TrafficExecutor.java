@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.traffic.executor;
 
+import org.apache.shardingsphere.infra.datasource.latency.ResponseTimeStatistics;
+import org.apache.shardingsphere.infra.datasource.latency.ResponseTimeStatisticsRegistry;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.traffic.algorithm.loadbalance.LeastResponseTimeTrafficLoadBalanceAlgorithm;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -46,7 +49,20 @@ public final class TrafficExecutor implements AutoCloseable {
     public <T> T execute(final JDBCExecutionUnit executionUnit, final TrafficExecutorCallback<T> callback) throws SQLException {
         SQLUnit sqlUnit = executionUnit.getExecutionUnit().getSqlUnit();
         cacheStatement(sqlUnit.getParameters(), executionUnit.getStorageResource());
-        return callback.execute(statement, sqlUnit.getSql());
+        ResponseTimeStatistics responseTimeStatistics = ResponseTimeStatisticsRegistry.getInstance()
+                .findStatistics(LeastResponseTimeTrafficLoadBalanceAlgorithm.STATISTICS_SCOPE, executionUnit.getExecutionUnit().getDataSourceName()).orElse(null);
+        if (null == responseTimeStatistics) {
+            return callback.execute(statement, sqlUnit.getSql());
+        }
+        long startNanos = responseTimeStatistics.begin();
+        boolean succeeded = false;
+        try {
+            T result = callback.execute(statement, sqlUnit.getSql());
+            succeeded = true;
+            return result;
+        } finally {
+            responseTimeStatistics.end(startNanos, succeeded);
+        }
     }
     
     private void cacheStatement(final List<Object> parameters, final Statement statement) throws SQLException {
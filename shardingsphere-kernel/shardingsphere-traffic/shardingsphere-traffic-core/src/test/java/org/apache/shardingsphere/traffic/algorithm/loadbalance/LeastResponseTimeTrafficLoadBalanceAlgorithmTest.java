@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.traffic.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.datasource.latency.ResponseTimeStatisticsRegistry;
+import org.apache.shardingsphere.infra.instance.definition.InstanceId;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class LeastResponseTimeTrafficLoadBalanceAlgorithmTest {
+    
+    private final LeastResponseTimeTrafficLoadBalanceAlgorithm leastResponseTimeAlgorithm = new LeastResponseTimeTrafficLoadBalanceAlgorithm();
+    
+    @Test
+    public void assertGetInstanceId() {
+        InstanceId busyInstanceId = new InstanceId("127.0.0.1@3317");
+        InstanceId idleInstanceId = new InstanceId("127.0.0.1@3318");
+        for (int i = 0; i < 10; i++) {
+            ResponseTimeStatisticsRegistry.getInstance().register(LeastResponseTimeTrafficLoadBalanceAlgorithm.STATISTICS_SCOPE, busyInstanceId.getId()).begin();
+        }
+        List<InstanceId> instanceIds = Arrays.asList(busyInstanceId, idleInstanceId);
+        for (int i = 0; i < 10; i++) {
+            assertThat(leastResponseTimeAlgorithm.getInstanceId("simple_traffic", instanceIds), is(idleInstanceId));
+        }
+    }
+    
+    @Test
+    public void assertGetType() {
+        assertThat(leastResponseTimeAlgorithm.getType(), is("LEAST_RESPONSE_TIME"));
+    }
+    
+    @Test
+    public void assertIsDefault() {
+        assertFalse(leastResponseTimeAlgorithm.isDefault());
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRecognizer;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
@@ -114,6 +115,7 @@ public final class ContextManager implements AutoCloseable {
      * @param metaDataContexts meta data contexts
      */
     public synchronized void renewMetaDataContexts(final MetaDataContexts metaDataContexts) {
+        this.metaDataContexts.getAllDatabaseNames().forEach(each -> ExecutionPlanCache.invalidate(this.metaDataContexts.getMetaData(each)));
         this.metaDataContexts = metaDataContexts;
     }
     
@@ -182,6 +184,7 @@ public final class ContextManager implements AutoCloseable {
         metaData.getSchemaByName(schemaName).put(changedTableMetaData.getName(), changedTableMetaData);
         databaseMetaData.put(schemaName, changedTableMetaData);
         metaDataContexts.getOptimizerContext().getPlannerContexts().put(databaseName, OptimizerPlannerContextFactory.create(databaseMetaData));
+        ExecutionPlanCache.invalidate(metaData);
     }
     
     private void alterSingleTableDataNodes(final String databaseName, final ShardingSphereMetaData metaData, final TableMetaData changedTableMetaData) {
@@ -203,6 +206,7 @@ public final class ContextManager implements AutoCloseable {
         FederationDatabaseMetaData databaseMetaData = metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases().get(databaseName);
         databaseMetaData.remove(schemaName, deletedTable);
         metaDataContexts.getOptimizerContext().getPlannerContexts().put(databaseName, OptimizerPlannerContextFactory.create(databaseMetaData));
+        ExecutionPlanCache.invalidate(metaData);
     }
     
     private boolean containsInDataNodeContainedRule(final String tableName, final ShardingSphereMetaData schemaMetaData) {
@@ -399,6 +403,7 @@ public final class ContextManager implements AutoCloseable {
         SchemaMetaData schemaMetaData = TableMetaDataBuilder.load(Collections.singletonList(tableName), materials).getOrDefault(schemaName, new SchemaMetaData("", Collections.emptyMap()));
         if (schemaMetaData.getTables().containsKey(tableName)) {
             metaDataContexts.getMetaData(databaseName).getSchemaByName(schemaName).put(tableName, schemaMetaData.getTables().get(tableName));
+            ExecutionPlanCache.invalidate(metaDataContexts.getMetaData(databaseName));
             metaDataContexts.getMetaDataPersistService()
                     .ifPresent(optional -> optional.getSchemaMetaDataService().persistTables(databaseName, databaseName, metaDataContexts.getMetaData(databaseName).getDefaultSchema()));
         }
@@ -32,4 +32,6 @@ public final class DisabledStateChangedEvent implements GovernanceEvent {
     private final QualifiedDatabase qualifiedSchema;
     
     private final boolean disabled;
+    
+    private final long replicationDelayMilliseconds;
 }
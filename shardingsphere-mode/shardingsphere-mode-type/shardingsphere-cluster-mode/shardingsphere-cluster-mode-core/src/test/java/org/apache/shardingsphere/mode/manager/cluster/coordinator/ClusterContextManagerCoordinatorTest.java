@@ -45,7 +45,9 @@ import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.event.DataSourceStatusChangedEvent;
 import org.apache.shardingsphere.infra.rule.event.impl.DataSourceNameDisabledEvent;
+import org.apache.shardingsphere.infra.rule.event.impl.DataSourceReplicationDelayChangedEvent;
 import org.apache.shardingsphere.infra.rule.identifier.type.StatusContainedRule;
 import org.apache.shardingsphere.infra.state.StateType;
 import org.apache.shardingsphere.mode.manager.ContextManager;
@@ -196,10 +198,13 @@ public final class ClusterContextManagerCoordinatorTest {
     public void assertDisableStateChanged() {
         StatusContainedRule statusContainedRule = mock(StatusContainedRule.class);
         when(metaData.getRuleMetaData().getRules()).thenReturn(Collections.singletonList(statusContainedRule));
-        DisabledStateChangedEvent event = new DisabledStateChangedEvent(new QualifiedDatabase("db.readwrite_ds.ds_0"), true);
+        DisabledStateChangedEvent event = new DisabledStateChangedEvent(new QualifiedDatabase("db.readwrite_ds.ds_0"), true, 1000L);
         coordinator.renew(event);
-        verify(statusContainedRule, times(1)).updateStatus(argThat(
-                (ArgumentMatcher<DataSourceNameDisabledEvent>) argumentEvent -> Objects.equals(event.getQualifiedSchema(), argumentEvent.getQualifiedDatabase()) && argumentEvent.isDisabled()));
+        verify(statusContainedRule, times(1)).updateStatus(argThat((ArgumentMatcher<DataSourceStatusChangedEvent>) argumentEvent -> argumentEvent instanceof DataSourceNameDisabledEvent
+                && Objects.equals(event.getQualifiedSchema(), ((DataSourceNameDisabledEvent) argumentEvent).getQualifiedDatabase()) && ((DataSourceNameDisabledEvent) argumentEvent).isDisabled()));
+        verify(statusContainedRule, times(1)).updateStatus(argThat((ArgumentMatcher<DataSourceStatusChangedEvent>) argumentEvent -> argumentEvent instanceof DataSourceReplicationDelayChangedEvent
+                && Objects.equals(event.getQualifiedSchema(), ((DataSourceReplicationDelayChangedEvent) argumentEvent).getQualifiedDatabase())
+                && 1000L == ((DataSourceReplicationDelayChangedEvent) argumentEvent).getReplicationDelayMilliseconds()));
     }
     
     @Test
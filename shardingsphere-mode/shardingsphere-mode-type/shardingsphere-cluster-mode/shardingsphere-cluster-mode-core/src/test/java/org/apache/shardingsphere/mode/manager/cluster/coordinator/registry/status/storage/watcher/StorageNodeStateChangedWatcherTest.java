@@ -68,6 +68,17 @@ public final class StorageNodeStateChangedWatcherTest {
         assertTrue(actualEvent.isDisabled());
     }
     
+    @Test
+    public void assertCreateDisabledStateChangedEventWithReplicationDelay() {
+        String value = "role: member\nstatus: enabled\nreplicationDelayMilliseconds: 3000\n";
+        Optional<GovernanceEvent> actual = new StorageNodeStateChangedWatcher().createGovernanceEvent(
+                new DataChangedEvent("/nodes/storage_nodes/attributes/replica_query_db.readwrite_ds.replica_ds_0", value, Type.UPDATED));
+        assertTrue(actual.isPresent());
+        DisabledStateChangedEvent actualEvent = (DisabledStateChangedEvent) actual.get();
+        assertFalse(actualEvent.isDisabled());
+        assertThat(actualEvent.getReplicationDelayMilliseconds(), is(3000L));
+    }
+    
     @Test
     public void assertCreateEmptyEvent() {
         Optional<GovernanceEvent> actual = new StorageNodeStateChangedWatcher().createGovernanceEvent(
@@ -25,15 +25,19 @@ import org.apache.commons.lang3.concurrent.LazyInitializer;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.context.refresher.MetaDataRefreshEngine;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
@@ -47,10 +51,12 @@ import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -81,6 +87,8 @@ public abstract class DatabaseCommunicationEngine<T> {
     
     private MergedResult mergedResult;
     
+    private Class<?>[] textPassthroughValueTypes;
+    
     private final BackendConnection<?> backendConnection;
     
     public DatabaseCommunicationEngine(final String driverType, final ShardingSphereMetaData metaData, final LogicSQL logicSQL, final BackendConnection<?> backendConnection) {
@@ -110,9 +118,43 @@ public abstract class DatabaseCommunicationEngine<T> {
     protected QueryResponseHeader processExecuteQuery(final ExecutionContext executionContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
         queryHeaders = createQueryHeaders(executionContext, queryResultSample);
         mergedResult = mergeQuery(executionContext.getSqlStatementContext(), queryResults);
+        textPassthroughValueTypes = isTextPassthrough(executionContext) ? createTextPassthroughValueTypes() : null;
         return new QueryResponseHeader(queryHeaders);
     }
     
+    private boolean isTextPassthrough(final ExecutionContext executionContext) {
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps();
+        return props.<Boolean>getValue(ConfigurationPropertyKey.PROXY_TEXT_ROW_PASSTHROUGH_ENABLED) && !isBinary() && 1 == executionContext.getExecutionUnits().size()
+                && (mergedResult instanceof TransparentMergedResult || mergedResult instanceof IteratorStreamMergedResult) && isSameFrontendDatabaseType(props);
+    }
+    
+    private boolean isSameFrontendDatabaseType(final ConfigurationProperties props) {
+        String frontendDatabaseType = props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE);
+        return frontendDatabaseType.isEmpty() || DatabaseTypeRegistry.getTrunkDatabaseTypeName(DatabaseTypeRegistry.getActualDatabaseType(frontendDatabaseType))
+                .equals(DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaData.getResource().getDatabaseType()));
+    }
+    
+    private Class<?>[] createTextPassthroughValueTypes() {
+        Class<?>[] result = new Class<?>[queryHeaders.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = isBinaryColumn(queryHeaders.get(i).getColumnType()) ? Object.class : String.class;
+        }
+        return result;
+    }
+    
+    private boolean isBinaryColumn(final int columnType) {
+        switch (columnType) {
+            case Types.BIT:
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
     protected List<QueryHeader> createQueryHeaders(final ExecutionContext executionContext, final QueryResult queryResultSample) throws SQLException {
         int columnCount = getColumnCount(executionContext, queryResultSample);
         List<QueryHeader> result = new ArrayList<>(columnCount);
@@ -196,6 +238,8 @@ public abstract class DatabaseCommunicationEngine<T> {
     
     /**
      * Get query response row.
+     * 
+     * <p>For text passthrough, values are read as text of database driver, so that they are not converted to objects and back to text again.</p>
      *
      * @return query response row
      * @throws SQLException SQL exception
@@ -204,7 +248,7 @@ public abstract class DatabaseCommunicationEngine<T> {
         List<QueryResponseCell> cells = new ArrayList<>(queryHeaders.size());
         boolean isBinary = isBinary();
         for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
-            Object data = mergedResult.getValue(columnIndex, Object.class);
+            Object data = mergedResult.getValue(columnIndex, null == textPassthroughValueTypes ? Object.class : textPassthroughValueTypes[columnIndex - 1]);
             if (isBinary) {
                 cells.add(new BinaryQueryResponseCell(queryHeaders.get(columnIndex - 1).getColumnType(), data));
             } else {
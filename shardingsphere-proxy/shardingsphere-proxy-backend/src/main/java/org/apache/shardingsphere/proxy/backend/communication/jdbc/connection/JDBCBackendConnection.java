@@ -20,8 +20,10 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
@@ -41,7 +43,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * JDBC backend connection.
@@ -64,6 +69,9 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
     
     private final ResourceLock resourceLock = new ResourceLock();
     
+    @Getter(AccessLevel.NONE)
+    private final Lock lock = new ReentrantLock();
+    
     private volatile int connectionReferenceCount;
     
     public JDBCBackendConnection(final ConnectionSession connectionSession) {
@@ -96,6 +104,20 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         return result;
     }
     
+    @Override
+    public Optional<Integer> findAvailableConnectionSize(final String dataSourceName) {
+        if (!ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED)
+                || connectionSession.getTransactionStatus().isInTransaction()) {
+            return Optional.empty();
+        }
+        int cachedConnectionSize;
+        synchronized (cachedConnections) {
+            cachedConnectionSize = cachedConnections.get(dataSourceName).size();
+        }
+        return ProxyContext.getInstance().getBackendDataSource().findAvailableConnectionSize(connectionSession.getDatabaseName(), dataSourceName)
+                .map(availableConnectionSize -> availableConnectionSize + cachedConnectionSize);
+    }
+    
     private List<Connection> createNewConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         Preconditions.checkNotNull(connectionSession.getDatabaseName(), "Current schema is null.");
         List<Connection> result = ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getDatabaseName(), dataSourceName, connectionSize, connectionMode);
@@ -176,7 +198,8 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
     
     @Override
     public Void prepareForTaskExecution() throws BackendConnectionException {
-        synchronized (this) {
+        lock.lock();
+        try {
             connectionReferenceCount++;
             if (!connectionSession.isAutoCommit() && !connectionSession.getTransactionStatus().isInTransaction()) {
                 JDBCBackendTransactionManager transactionManager = new JDBCBackendTransactionManager(this);
@@ -187,12 +210,15 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
                 }
             }
             return null;
+        } finally {
+            lock.unlock();
         }
     }
     
     @Override
     public Void closeExecutionResources() throws BackendConnectionException {
-        synchronized (this) {
+        lock.lock();
+        try {
             if (connectionReferenceCount > 0 && connectionReferenceCount-- > 1) {
                 return null;
             }
@@ -207,16 +233,21 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
                 return null;
             }
             throw new BackendConnectionException(result);
+        } finally {
+            lock.unlock();
         }
     }
     
     @Override
     public Void closeAllResources() {
-        synchronized (this) {
+        lock.lock();
+        try {
             closeDatabaseCommunicationEngines(true);
             closeConnections(true);
             closeFederationExecutor();
             return null;
+        } finally {
+            lock.unlock();
         }
     }
     
@@ -23,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 
 /**
  * Resource lock.
@@ -48,6 +49,25 @@ public final class ResourceLock {
         }
     }
     
+    /**
+     * Await until condition is satisfied.
+     *
+     * <p>Condition is checked while holding the lock, so notification happens between check and await will not be lost.</p>
+     *
+     * @param predicate condition to be satisfied
+     */
+    @SneakyThrows(InterruptedException.class)
+    public void doAwaitUntil(final BooleanSupplier predicate) {
+        lock.lock();
+        try {
+            while (!predicate.getAsBoolean()) {
+                condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
     /**
      * Notify.
      */
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
 
 import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.infra.datasource.pool.utilization.DataSourcePoolUtilizationDetectorFactory;
 import org.apache.shardingsphere.infra.datasource.registry.GlobalDataSourceRegistry;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -34,12 +35,19 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Backend data source of JDBC.
  */
 public final class JDBCBackendDataSource implements BackendDataSource {
     
+    private final Map<DataSource, Lock> dataSourceLocks = Collections.synchronizedMap(new WeakHashMap<>());
+    
     /**
      * Get connections.
      *
@@ -65,7 +73,6 @@ public final class JDBCBackendDataSource implements BackendDataSource {
      * @return connections
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     public List<Connection> getConnections(final String schemaName, final String dataSourceName,
                                            final int connectionSize, final ConnectionMode connectionMode, final TransactionType transactionType) throws SQLException {
         DataSource dataSource = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(schemaName).getResource().getDataSources().get(dataSourceName);
@@ -82,11 +89,27 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
             return createConnections(schemaName, dataSourceName, dataSource, connectionSize, transactionType);
         }
-        synchronized (dataSource) {
+        Lock lock = dataSourceLocks.computeIfAbsent(dataSource, unused -> new ReentrantLock());
+        lock.lock();
+        try {
             return createConnections(schemaName, dataSourceName, dataSource, connectionSize, transactionType);
+        } finally {
+            lock.unlock();
         }
     }
     
+    /**
+     * Find available connection size of data source pool.
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @return available connection size, empty if pool utilization is unknown
+     */
+    public Optional<Integer> findAvailableConnectionSize(final String schemaName, final String dataSourceName) {
+        DataSource dataSource = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(schemaName).getResource().getDataSources().get(dataSourceName);
+        return null == dataSource ? Optional.empty() : DataSourcePoolUtilizationDetectorFactory.newInstance(dataSource.getClass().getName()).findAvailableConnectionSize(dataSource);
+    }
+    
     private List<Connection> createConnections(final String schemaName, final String dataSourceName,
                                                final DataSource dataSource, final int connectionSize, final TransactionType transactionType) throws SQLException {
         List<Connection> result = new ArrayList<>(connectionSize);
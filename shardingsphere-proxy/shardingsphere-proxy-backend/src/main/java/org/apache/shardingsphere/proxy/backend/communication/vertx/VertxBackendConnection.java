@@ -39,6 +39,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Vert.x backend connection.
@@ -113,6 +114,11 @@ public final class VertxBackendConnection implements BackendConnection<Future<Vo
         return Collections.singletonList(poolFuture);
     }
     
+    @Override
+    public Optional<Integer> findAvailableConnectionSize(final String dataSourceName) {
+        return Optional.empty();
+    }
+    
     @Override
     public Future<Void> prepareForTaskExecution() {
         if (!connectionSession.isAutoCommit() && !connectionSession.getTransactionStatus().isInTransaction()) {
@@ -21,13 +21,19 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.distsql.parser.statement.DistSQLStatement;
 import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.type.TableAvailable;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
+import org.apache.shardingsphere.infra.metadata.schema.util.SystemSchemaUtil;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.parser.parameterize.ParameterizedSQL;
+import org.apache.shardingsphere.infra.parser.parameterize.SQLParameterizer;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
@@ -36,18 +42,24 @@ import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.text.admin.DatabaseAdminBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.text.data.DatabaseBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.text.data.impl.SchemaAssignedDatabaseBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.database.DatabaseOperateBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.text.distsql.DistSQLBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.text.extra.ExtraTextProtocolBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.skip.SkipBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.transaction.TransactionBackendHandlerFactory;
 import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.FlushStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dcl.DCLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.CreateDatabaseStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DropDatabaseStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.TCLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowCreateUserStatement;
@@ -86,6 +98,10 @@ public final class TextProtocolBackendHandlerFactory {
         if (Strings.isNullOrEmpty(trimSQL)) {
             return new SkipBackendHandler(new EmptyStatement());
         }
+        Optional<TextProtocolBackendHandler> parameterizedBackendHandler = newParameterizedInstance(databaseType, sql, connectionSession);
+        if (parameterizedBackendHandler.isPresent()) {
+            return parameterizedBackendHandler.get();
+        }
         SQLStatement sqlStatement = sqlStatementSupplier.get().orElseGet(() -> {
             Optional<SQLParserRule> sqlParserRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getGlobalRuleMetaData().findSingleRule(SQLParserRule.class);
             Preconditions.checkState(sqlParserRule.isPresent());
@@ -126,6 +142,58 @@ public final class TextProtocolBackendHandlerFactory {
         return backendHandler.orElseGet(() -> DatabaseBackendHandlerFactory.newInstance(sqlStatementContext, sql, connectionSession));
     }
     
+    private static Optional<TextProtocolBackendHandler> newParameterizedInstance(final DatabaseType databaseType, final String sql, final ConnectionSession connectionSession) {
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        String databaseName = connectionSession.getDatabaseName();
+        if (!metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_SQL_PARAMETERIZE_ENABLED)
+                || Strings.isNullOrEmpty(databaseName) || !ProxyContext.getInstance().databaseExists(databaseName) || connectionSession.getTransactionStatus().isRollbackOnly()) {
+            return Optional.empty();
+        }
+        DatabaseType backendDatabaseType = getBackendDatabaseType(databaseType, connectionSession);
+        Optional<ParameterizedSQL> parameterizedSQL = SQLParameterizer.parameterize(sql, backendDatabaseType instanceof MySQLDatabaseType);
+        if (!parameterizedSQL.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<SQLStatement> sqlStatement = parseParameterizedSQL(backendDatabaseType, parameterizedSQL.get().getSql());
+        if (!sqlStatement.isPresent()) {
+            return Optional.empty();
+        }
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(
+                metaDataContexts.getMetaDataMap(), parameterizedSQL.get().getParameters(), sqlStatement.get(), connectionSession.getDefaultDatabaseName());
+        if (!isParameterizedExecutable(databaseType, sqlStatementContext, connectionSession, parameterizedSQL.get().getSql())) {
+            return Optional.empty();
+        }
+        String actualDatabaseName = sqlStatementContext.getTablesContext().getDatabaseName().orElse(databaseName);
+        sqlStatementContext.getTablesContext().getDatabaseName().ifPresent(SQLStatementDatabaseHolder::set);
+        SQLCheckEngine.check(sqlStatement.get(), parameterizedSQL.get().getParameters(), getRules(actualDatabaseName), actualDatabaseName, metaDataContexts.getMetaDataMap(),
+                connectionSession.getGrantee());
+        return Optional.of(new SchemaAssignedDatabaseBackendHandler(sqlStatementContext, parameterizedSQL.get().getSql(), parameterizedSQL.get().getParameters(), connectionSession));
+    }
+    
+    private static Optional<SQLStatement> parseParameterizedSQL(final DatabaseType backendDatabaseType, final String parameterizedSQL) {
+        Optional<SQLParserRule> sqlParserRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getGlobalRuleMetaData().findSingleRule(SQLParserRule.class);
+        Preconditions.checkState(sqlParserRule.isPresent());
+        SQLStatement result;
+        try {
+            result = new ShardingSphereSQLParserEngine(backendDatabaseType.getName(), sqlParserRule.get().toParserConfiguration()).parse(parameterizedSQL, true);
+        } catch (final SQLParsingException | ParseCancellationException ignored) {
+            return Optional.empty();
+        }
+        boolean isDataManipulation = result instanceof SelectStatement && null != ((SelectStatement) result).getFrom()
+                || result instanceof InsertStatement || result instanceof UpdateStatement || result instanceof DeleteStatement;
+        return isDataManipulation ? Optional.of(result) : Optional.empty();
+    }
+    
+    private static boolean isParameterizedExecutable(final DatabaseType databaseType, final SQLStatementContext<?> sqlStatementContext, final ConnectionSession connectionSession,
+                                                     final String parameterizedSQL) {
+        if (SystemSchemaUtil.containsSystemSchema(sqlStatementContext.getDatabaseType(), sqlStatementContext.getTablesContext().getSchemaNames(), connectionSession.getDatabaseName())) {
+            return false;
+        }
+        return !DatabaseAdminBackendHandlerFactory.newInstance(databaseType, sqlStatementContext, connectionSession, parameterizedSQL).isPresent()
+                && !DatabaseAdminBackendHandlerFactory.newInstance(databaseType, sqlStatementContext, connectionSession).isPresent()
+                && !findExtraTextProtocolBackendHandler(sqlStatementContext.getSqlStatement()).isPresent();
+    }
+    
     private static DatabaseType getBackendDatabaseType(final DatabaseType defaultDatabaseType, final ConnectionSession connectionSession) {
         String databaseName = connectionSession.getDatabaseName();
         return Strings.isNullOrEmpty(databaseName) || !ProxyContext.getInstance().databaseExists(databaseName)
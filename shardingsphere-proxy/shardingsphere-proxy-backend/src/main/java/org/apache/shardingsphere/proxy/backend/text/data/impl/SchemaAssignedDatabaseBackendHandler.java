@@ -33,6 +33,8 @@ import org.apache.shardingsphere.proxy.backend.text.data.DatabaseBackendHandler;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Database backend handler with assigned schema.
@@ -46,10 +48,16 @@ public final class SchemaAssignedDatabaseBackendHandler implements DatabaseBacke
     
     private final String sql;
     
+    private final List<Object> parameters;
+    
     private final ConnectionSession connectionSession;
     
     private DatabaseCommunicationEngine<?> databaseCommunicationEngine;
     
+    public SchemaAssignedDatabaseBackendHandler(final SQLStatementContext<?> sqlStatementContext, final String sql, final ConnectionSession connectionSession) {
+        this(sqlStatementContext, sql, Collections.emptyList(), connectionSession);
+    }
+    
     @Override
     public ResponseHeader execute() throws SQLException {
         prepareDatabaseCommunicationEngine();
@@ -77,7 +85,9 @@ public final class SchemaAssignedDatabaseBackendHandler implements DatabaseBacke
         if (!isSystemSchema && !ProxyContext.getInstance().getMetaData(connectionSession.getDatabaseName()).isComplete()) {
             throw new RuleNotExistedException();
         }
-        databaseCommunicationEngine = databaseCommunicationEngineFactory.newTextProtocolInstance(sqlStatementContext, sql, connectionSession.getBackendConnection());
+        databaseCommunicationEngine = parameters.isEmpty()
+                ? databaseCommunicationEngineFactory.newTextProtocolInstance(sqlStatementContext, sql, connectionSession.getBackendConnection())
+                : databaseCommunicationEngineFactory.newBinaryProtocolInstance(sqlStatementContext, sql, parameters, connectionSession.getBackendConnection());
     }
     
     @Override
@@ -19,11 +19,16 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc;
 
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.concurrent.LazyInitializer;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
@@ -36,6 +41,7 @@ import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
@@ -55,12 +61,14 @@ import org.mockito.internal.util.reflection.FieldSetter;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -75,6 +83,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -95,12 +104,18 @@ public final class JDBCDatabaseCommunicationEngineTest {
         when(backendConnection.getConnectionSession().getDatabaseName()).thenReturn("db");
         MetaDataContexts metaDataContexts = new MetaDataContexts(
                 mock(MetaDataPersistService.class), mockMetaDataMap(), mock(ShardingSphereRuleMetaData.class), mock(ExecutorEngine.class),
-                mock(OptimizerContext.class, RETURNS_DEEP_STUBS), new ConfigurationProperties(new Properties()));
+                mock(OptimizerContext.class, RETURNS_DEEP_STUBS), new ConfigurationProperties(createProperties()));
         ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
         when(contextManager.getMetaDataContexts()).thenReturn(metaDataContexts);
         ProxyContext.getInstance().init(contextManager);
     }
     
+    private Properties createProperties() {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.PROXY_TEXT_ROW_PASSTHROUGH_ENABLED.getKey(), Boolean.TRUE.toString());
+        return result;
+    }
+    
     private Map<String, ShardingSphereMetaData> mockMetaDataMap() {
         ShardingSphereMetaData result = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
         when(result.getResource().getDatabaseType()).thenReturn(new H2DatabaseType());
@@ -139,6 +154,54 @@ public final class JDBCDatabaseCommunicationEngineTest {
         }
     }
     
+    @Test
+    public void assertGetQueryResponseRowWithTextPassthrough() throws ReflectiveOperationException, SQLException {
+        QueryResult queryResult = mockQueryResult(Types.DECIMAL, Types.VARCHAR);
+        when(queryResult.getValue(1, String.class)).thenReturn("1.00");
+        when(queryResult.getValue(2, String.class)).thenReturn("foo");
+        Iterator<Object> actual = executeTextProtocolQuery(queryResult).getQueryResponseRow().getData().iterator();
+        assertThat(actual.next(), is("1.00"));
+        assertThat(actual.next(), is("foo"));
+    }
+    
+    @Test
+    public void assertGetQueryResponseRowWithTextPassthroughForBinaryColumns() throws ReflectiveOperationException, SQLException {
+        QueryResult queryResult = mockQueryResult(Types.VARBINARY, Types.BLOB);
+        byte[] content = {1, 2};
+        when(queryResult.getValue(1, Object.class)).thenReturn(content);
+        when(queryResult.getValue(2, Object.class)).thenReturn(content);
+        Iterator<Object> actual = executeTextProtocolQuery(queryResult).getQueryResponseRow().getData().iterator();
+        assertThat(actual.next(), is(content));
+        assertThat(actual.next(), is(content));
+        verify(queryResult, never()).getValue(1, String.class);
+        verify(queryResult, never()).getValue(2, String.class);
+    }
+    
+    private QueryResult mockQueryResult(final int... columnTypes) throws SQLException {
+        QueryResultMetaData queryResultMetaData = mock(QueryResultMetaData.class);
+        when(queryResultMetaData.getColumnCount()).thenReturn(columnTypes.length);
+        for (int i = 0; i < columnTypes.length; i++) {
+            when(queryResultMetaData.getColumnType(i + 1)).thenReturn(columnTypes[i]);
+        }
+        QueryResult result = mock(QueryResult.class);
+        when(result.getMetaData()).thenReturn(queryResultMetaData);
+        return result;
+    }
+    
+    private JDBCDatabaseCommunicationEngine executeTextProtocolQuery(final QueryResult queryResult) throws ReflectiveOperationException {
+        when(ProxyContext.getInstance().getMetaData("db").getDatabaseName()).thenReturn("db");
+        SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        JDBCDatabaseCommunicationEngine result = DatabaseCommunicationEngineFactory.getInstance().newTextProtocolInstance(sqlStatementContext, "SELECT * FROM t_order", backendConnection);
+        String sql = "SELECT * FROM t_order_0";
+        ExecutionContext executionContext = new ExecutionContext(new LogicSQL(sqlStatementContext, sql, Collections.emptyList()),
+                Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(sql, Collections.emptyList()))), new RouteContext());
+        Method processExecuteQuery = DatabaseCommunicationEngine.class.getDeclaredMethod("processExecuteQuery", ExecutionContext.class, List.class, QueryResult.class);
+        processExecuteQuery.setAccessible(true);
+        processExecuteQuery.invoke(result, executionContext, Collections.singletonList(queryResult), queryResult);
+        return result;
+    }
+    
     private ShardingSphereMetaData createMetaData() {
         ShardingSphereMetaData result = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
         ColumnMetaData columnMetaData = new ColumnMetaData("order_id", Types.INTEGER, true, false, false);
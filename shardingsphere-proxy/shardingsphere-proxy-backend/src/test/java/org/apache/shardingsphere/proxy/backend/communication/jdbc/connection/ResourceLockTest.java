@@ -21,6 +21,7 @@ import org.junit.Test;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.assertTrue;
 
@@ -49,4 +50,30 @@ public final class ResourceLockTest {
         resourceLock.doAwait();
         assertTrue(System.currentTimeMillis() > startTime);
     }
+    
+    @Test
+    public void assertDoAwaitUntilSatisfied() {
+        ResourceLock resourceLock = new ResourceLock();
+        long startTime = System.currentTimeMillis();
+        resourceLock.doAwaitUntil(() -> true);
+        assertTrue(System.currentTimeMillis() - startTime < 200L);
+    }
+    
+    @Test
+    public void assertDoAwaitUntilNotified() {
+        ResourceLock resourceLock = new ResourceLock();
+        AtomicBoolean satisfied = new AtomicBoolean();
+        ExecutorService executorService = Executors.newFixedThreadPool(1);
+        executorService.submit(() -> {
+            try {
+                Thread.sleep(50L);
+            } catch (final InterruptedException ignored) {
+            }
+            satisfied.set(true);
+            resourceLock.doNotify();
+        });
+        resourceLock.doAwaitUntil(satisfied::get);
+        assertTrue(satisfied.get());
+        executorService.shutdown();
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.text;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -52,12 +53,15 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.lang.reflect.Field;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -232,6 +236,27 @@ public final class TextProtocolBackendHandlerFactoryTest {
         assertThat(actual, instanceOf(DatabaseAdminQueryBackendHandler.class));
     }
     
+    @Test
+    public void assertNewInstanceWithParameterizedSQL() throws SQLException, ReflectiveOperationException {
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_SQL_PARAMETERIZE_ENABLED.getKey(), Boolean.TRUE.toString());
+        when(metaDataContexts.getProps()).thenReturn(new ConfigurationProperties(props));
+        when(metaDataContexts.getMetaData("db").getResource().getDatabaseType()).thenReturn(databaseType);
+        when(connectionSession.getDatabaseName()).thenReturn("db");
+        String sql = "UPDATE t_order SET status = 'PAID' WHERE order_id = 1";
+        TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, sql, Optional::empty, connectionSession);
+        assertThat(actual, instanceOf(SchemaAssignedDatabaseBackendHandler.class));
+        assertThat(getFieldValue(actual, "sql"), is("UPDATE t_order SET status = ? WHERE order_id = ?"));
+        assertThat(getFieldValue(actual, "parameters"), is(Arrays.<Object>asList("PAID", 1)));
+    }
+    
+    private Object getFieldValue(final Object target, final String fieldName) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+    
     @Test
     public void assertNewInstanceWithEmptyString() throws SQLException {
         String sql = "";
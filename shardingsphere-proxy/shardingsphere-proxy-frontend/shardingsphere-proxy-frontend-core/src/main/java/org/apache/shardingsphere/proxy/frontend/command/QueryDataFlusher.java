@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.netty.FrontendChannelWrittenBytesCounter;
+
+/**
+ * Query data flusher.
+ *
+ * <p>
+ * Query data are flushed once written bytes reach flush bytes threshold, or written records reach flush threshold if flush bytes threshold is not configured.
+ * Writer thread is parked until channel becomes writable once pending bytes of channel exceed high water mark.
+ * </p>
+ */
+public final class QueryDataFlusher {
+    
+    private final ChannelHandlerContext context;
+    
+    private final ResourceLock resourceLock;
+    
+    private final int flushThreshold;
+    
+    private final long flushBytesThreshold;
+    
+    private final FrontendChannelWrittenBytesCounter writtenBytesCounter;
+    
+    private int unflushedCount;
+    
+    private long flushedBytes;
+    
+    public QueryDataFlusher(final ChannelHandlerContext context, final ResourceLock resourceLock) {
+        this.context = context;
+        this.resourceLock = resourceLock;
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps();
+        flushThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        flushBytesThreshold = props.<Long>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD);
+        writtenBytesCounter = flushBytesThreshold > 0 ? context.pipeline().get(FrontendChannelWrittenBytesCounter.class) : null;
+        flushedBytes = null == writtenBytesCounter ? 0L : writtenBytesCounter.getWrittenBytes();
+    }
+    
+    /**
+     * Write query data packet.
+     *
+     * @param packet query data packet
+     */
+    public void write(final DatabasePacket<?> packet) {
+        awaitWritable();
+        context.write(packet);
+        unflushedCount++;
+        if (isFlushRequired()) {
+            flush();
+        }
+    }
+    
+    private void awaitWritable() {
+        Channel channel = context.channel();
+        if (channel.isWritable() || !channel.isActive()) {
+            return;
+        }
+        flush();
+        resourceLock.doAwaitUntil(() -> channel.isWritable() || !channel.isActive());
+    }
+    
+    private boolean isFlushRequired() {
+        if (null == writtenBytesCounter) {
+            return unflushedCount == flushThreshold;
+        }
+        return writtenBytesCounter.getWrittenBytes() - flushedBytes >= flushBytesThreshold;
+    }
+    
+    private void flush() {
+        context.flush();
+        unflushedCount = 0;
+        if (null != writtenBytesCounter) {
+            flushedBytes = writtenBytesCounter.getWrittenBytes();
+        }
+    }
+}
@@ -19,11 +19,16 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.thread.VirtualThreadUtil;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +38,7 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * The thread is virtual thread if virtual thread is enabled and supported by JVM, so that connections do not occupy platform threads.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -42,6 +48,8 @@ public final class ConnectionThreadExecutorGroup {
     
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    private final boolean virtualThreadEnabled = isVirtualThreadEnabled();
+    
     /**
      * Get connection thread executor group.
      *
@@ -60,8 +68,20 @@ public final class ConnectionThreadExecutorGroup {
         executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
     }
     
+    private static boolean isVirtualThreadEnabled() {
+        ContextManager contextManager = ProxyContext.getInstance().getContextManager();
+        return null != contextManager && Boolean.TRUE.equals(contextManager.getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.KERNEL_VIRTUAL_THREAD_ENABLED))
+                && VirtualThreadUtil.isSupported();
+    }
+    
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+        ThreadFactory threadFactory = virtualThreadEnabled ? VirtualThreadUtil.newThreadFactory() : Thread::new;
+        String threadName = String.format("Connection-%d-ThreadExecutor", connectionId);
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread result = threadFactory.newThread(runnable);
+            result.setName(threadName);
+            return result;
+        });
     }
     
     /**
@@ -19,7 +19,10 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import com.google.common.util.concurrent.ListeningExecutorService;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
 /**
  * User executor group.
@@ -34,10 +37,15 @@ public final class UserExecutorGroup {
     private final ListeningExecutorService executorService;
     
     private UserExecutorGroup() {
-        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT, isVirtualThreadEnabled());
         executorService = executorServiceManager.getExecutorService();
     }
     
+    private static boolean isVirtualThreadEnabled() {
+        ContextManager contextManager = ProxyContext.getInstance().getContextManager();
+        return null != contextManager && Boolean.TRUE.equals(contextManager.getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.KERNEL_VIRTUAL_THREAD_ENABLED));
+    }
+    
     /**
      * Get instance of user executor group.
      *
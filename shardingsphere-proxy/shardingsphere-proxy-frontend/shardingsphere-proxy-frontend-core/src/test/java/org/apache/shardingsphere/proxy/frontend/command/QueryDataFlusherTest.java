@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.netty.FrontendChannelWrittenBytesCounter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class QueryDataFlusherTest {
+    
+    private ContextManager contextManagerBefore;
+    
+    private final ChannelHandlerContext context = mock(ChannelHandlerContext.class, RETURNS_DEEP_STUBS);
+    
+    private final Channel channel = mock(Channel.class);
+    
+    private final ResourceLock resourceLock = mock(ResourceLock.class);
+    
+    private final DatabasePacket<?> packet = mock(DatabasePacket.class);
+    
+    @Before
+    public void setUp() {
+        contextManagerBefore = ProxyContext.getInstance().getContextManager();
+        ProxyContext.getInstance().init(mock(ContextManager.class, RETURNS_DEEP_STUBS));
+        when(context.channel()).thenReturn(channel);
+        when(channel.isWritable()).thenReturn(true);
+        when(channel.isActive()).thenReturn(true);
+    }
+    
+    private void setProps(final int flushThreshold, final long flushBytesThreshold) {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), String.valueOf(flushThreshold));
+        props.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), String.valueOf(flushBytesThreshold));
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps()).thenReturn(new ConfigurationProperties(props));
+    }
+    
+    @Test
+    public void assertWriteWithFlushThreshold() {
+        setProps(2, 0L);
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock);
+        flusher.write(packet);
+        flusher.write(packet);
+        flusher.write(packet);
+        verify(context, times(3)).write(packet);
+        verify(context).flush();
+        verify(resourceLock, never()).doAwaitUntil(any());
+    }
+    
+    @Test
+    public void assertWriteWithFlushBytesThreshold() {
+        setProps(1, 100L);
+        FrontendChannelWrittenBytesCounter counter = mock(FrontendChannelWrittenBytesCounter.class);
+        when(counter.getWrittenBytes()).thenReturn(0L, 60L, 120L, 120L, 150L);
+        when(context.pipeline().get(FrontendChannelWrittenBytesCounter.class)).thenReturn(counter);
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock);
+        flusher.write(packet);
+        flusher.write(packet);
+        flusher.write(packet);
+        verify(context, times(3)).write(packet);
+        verify(context).flush();
+    }
+    
+    @Test
+    public void assertWriteWhenChannelNotWritable() {
+        setProps(128, 0L);
+        when(channel.isWritable()).thenReturn(false);
+        QueryDataFlusher flusher = new QueryDataFlusher(context, resourceLock);
+        flusher.write(packet);
+        verify(context).flush();
+        verify(resourceLock).doAwaitUntil(any());
+        verify(context).write(packet);
+    }
+    
+    @After
+    public void tearDown() {
+        ProxyContext.getInstance().init(contextManagerBefore);
+    }
+}
@@ -69,9 +69,14 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
         DatabaseType databaseType = DatabaseTypeRegistry.getActualDatabaseType("MySQL");
-        SQLStatement sqlStatement = parseSql(packet.getSql(), databaseType);
-        textProtocolBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSql()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSql())
-                : TextProtocolBackendHandlerFactory.newInstance(databaseType, packet.getSql(), () -> Optional.of(sqlStatement), connectionSession);
+        if (isMultiStatementsCandidate(connectionSession, packet.getSql())) {
+            SQLStatement sqlStatement = parseSql(packet.getSql(), databaseType);
+            textProtocolBackendHandler = sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement
+                    ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSql())
+                    : TextProtocolBackendHandlerFactory.newInstance(databaseType, packet.getSql(), () -> Optional.of(sqlStatement), connectionSession);
+        } else {
+            textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(databaseType, packet.getSql(), () -> Optional.of(parseSql(packet.getSql(), databaseType)), connectionSession);
+        }
         characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
     }
     
@@ -85,11 +90,10 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         return sqlStatementParserEngine.parse(sql, false);
     }
     
-    private boolean areMultiStatements(final ConnectionSession connectionSession, final SQLStatement sqlStatement, final String sql) {
+    private boolean isMultiStatementsCandidate(final ConnectionSession connectionSession, final String sql) {
         // TODO Multi statements should be identified by SQL Parser instead of checking if sql contains ";".
         return connectionSession.getAttributeMap().hasAttr(MySQLConstants.MYSQL_OPTION_MULTI_STATEMENTS)
-                && MySQLComSetOptionPacket.MYSQL_OPTION_MULTI_STATEMENTS_ON == connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_OPTION_MULTI_STATEMENTS).get()
-                && (sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement) && sql.contains(";");
+                && MySQLComSetOptionPacket.MYSQL_OPTION_MULTI_STATEMENTS_ON == connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_OPTION_MULTI_STATEMENTS).get() && sql.contains(";");
     }
     
     @Override
@@ -32,4 +32,18 @@ public final class CacheOption {
     private final long maximumSize;
     
     private final int concurrencyLevel;
+    
+    /**
+     * Whether to hold cached values by soft reference, which may be reclaimed by GC under heap pressure.
+     */
+    private final boolean softValues;
+    
+    /**
+     * Maximum total length of cached SQL, cache is bounded by {@link #maximumSize} if it is not positive.
+     */
+    private final long maximumWeight;
+    
+    public CacheOption(final int initialCapacity, final long maximumSize, final int concurrencyLevel) {
+        this(initialCapacity, maximumSize, concurrencyLevel, true, 0L);
+    }
 }
@@ -17,8 +17,7 @@
 
 package org.apache.shardingsphere.sql.parser.core.database.cache;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
@@ -38,8 +37,8 @@ public final class ParseTreeCacheBuilder {
      * @return built parse tree cache
      */
     public static LoadingCache<String, ParseASTNode> build(final CacheOption option, final String databaseType) {
-        return CacheBuilder.newBuilder().softValues()
-                .initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize()).concurrencyLevel(option.getConcurrencyLevel())
-                .build(new ParseTreeCacheLoader(databaseType));
+        LoadingCache<String, ParseASTNode> result = SQLCacheBuilder.newBuilder(option).build(new ParseTreeCacheLoader(databaseType));
+        SQLParserCacheRegistry.register(SQLParserCacheRegistry.PARSE_TREE_CACHE, result);
+        return result;
     }
 }
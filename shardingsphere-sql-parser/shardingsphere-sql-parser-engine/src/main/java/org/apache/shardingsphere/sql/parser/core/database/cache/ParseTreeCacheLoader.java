@@ -17,16 +17,14 @@
 
 package org.apache.shardingsphere.sql.parser.core.database.cache;
 
-import com.google.common.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
 import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
 
-import javax.annotation.ParametersAreNonnullByDefault;
-
 /**
  * Parse context cache loader.
  */
-public final class ParseTreeCacheLoader extends CacheLoader<String, ParseASTNode> {
+public final class ParseTreeCacheLoader implements CacheLoader<String, ParseASTNode> {
     
     private final SQLParserExecutor sqlParserExecutor;
     
@@ -34,7 +32,6 @@ public final class ParseTreeCacheLoader extends CacheLoader<String, ParseASTNode
         sqlParserExecutor = new SQLParserExecutor(databaseType);
     }
     
-    @ParametersAreNonnullByDefault
     @Override
     public ParseASTNode load(final String sql) {
         return sqlParserExecutor.parse(sql);
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+
+/**
+ * Builder of cache which is keyed by SQL.
+ * 
+ * <p>Caffeine uses W-TinyLFU admission, so that a long tail of ad-hoc SQL can not evict frequently used entries.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLCacheBuilder {
+    
+    /**
+     * Create new cache builder.
+     *
+     * @param option cache option
+     * @return cache builder
+     */
+    public static Caffeine<Object, Object> newBuilder(final CacheOption option) {
+        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(option.getInitialCapacity()).recordStats();
+        if (option.getMaximumWeight() > 0) {
+            result.maximumWeight(option.getMaximumWeight()).weigher((Object sql, Object value) -> sql.toString().length());
+        } else {
+            result.maximumSize(option.getMaximumSize());
+        }
+        if (option.isSoftValues()) {
+            result.softValues();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+
+/**
+ * SQL parser cache registry.
+ * 
+ * <p>Caches are held by weak reference, so that caches of dropped databases or altered rules can be collected.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParserCacheRegistry {
+    
+    public static final String PARSE_TREE_CACHE = "parse_tree";
+    
+    public static final String SQL_STATEMENT_CACHE = "sql_statement";
+    
+    private static final Map<Cache<?, ?>, String> CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    /**
+     * Register cache.
+     *
+     * @param cacheName cache name
+     * @param cache cache to be registered
+     */
+    public static void register(final String cacheName, final Cache<?, ?> cache) {
+        CACHES.put(cache, cacheName);
+    }
+    
+    /**
+     * Get statistics of registered caches, caches with same name are summed up.
+     *
+     * @return cache name and statistics map
+     */
+    public static Map<String, SQLParserCacheStats> getStats() {
+        Map<String, SQLParserCacheStats> result = new LinkedHashMap<>(2, 1);
+        for (Entry<Cache<?, ?>, String> entry : getCaches()) {
+            CacheStats stats = entry.getKey().stats();
+            result.merge(entry.getValue(), new SQLParserCacheStats(entry.getKey().estimatedSize(), stats.hitCount(), stats.missCount(), stats.evictionCount()), SQLParserCacheStats::plus);
+        }
+        return result;
+    }
+    
+    private static Collection<Entry<Cache<?, ?>, String>> getCaches() {
+        synchronized (CACHES) {
+            return new LinkedList<>(CACHES.entrySet());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLParserCacheRegistryTest {
+    
+    @Test
+    public void assertGetStats() {
+        LoadingCache<String, String> cache = SQLCacheBuilder.newBuilder(new CacheOption(1, 10, 1)).build(sql -> sql);
+        SQLParserCacheRegistry.register("fixture", cache);
+        SQLParserCacheStats before = SQLParserCacheRegistry.getStats().get("fixture");
+        cache.get("SELECT 1");
+        cache.get("SELECT 1");
+        SQLParserCacheStats actual = SQLParserCacheRegistry.getStats().get("fixture");
+        assertThat(actual.getHitCount() - before.getHitCount(), is(1L));
+        assertThat(actual.getMissCount() - before.getMissCount(), is(1L));
+        assertTrue(actual.getSize() >= 1L);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.DataSourcesMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Meta data builder for benchmark.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkMetaDataBuilder {
+    
+    public static final String DATABASE_NAME = "logic_db";
+    
+    public static final String LOGIC_TABLE = "t_order";
+    
+    public static final int DATA_SOURCE_COUNT = 4;
+    
+    /**
+     * Build ShardingSphere meta data with table {@code t_order} sharded by {@code user_id} into data sources and by {@code order_id} into tables.
+     *
+     * @param databaseTypeName database type name
+     * @param shardCount total count of actual tables across all data sources
+     * @return ShardingSphere meta data
+     */
+    public static ShardingSphereMetaData build(final String databaseTypeName, final int shardCount) {
+        DatabaseType databaseType = DatabaseTypeRegistry.getTrunkDatabaseType(databaseTypeName);
+        ShardingSphereResource resource = new ShardingSphereResource(Collections.emptyMap(), new DataSourcesMetaData(databaseType, Collections.emptyMap()), null, databaseType);
+        Collection<ShardingSphereRule> rules = new LinkedList<>();
+        rules.add(new ShardingRule(createShardingRuleConfiguration(shardCount), Collections.emptyList()));
+        return new ShardingSphereMetaData(DATABASE_NAME, resource, new ShardingSphereRuleMetaData(Collections.emptyList(), rules), createSchemas(databaseType));
+    }
+    
+    private static ShardingRuleConfiguration createShardingRuleConfiguration(final int shardCount) {
+        int tableCountPerDataSource = Math.max(1, shardCount / DATA_SOURCE_COUNT);
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration(LOGIC_TABLE,
+                String.format("ds_${0..%d}.t_order_${0..%d}", DATA_SOURCE_COUNT - 1, tableCountPerDataSource - 1));
+        tableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+        tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "table_inline"));
+        result.getTables().add(tableRuleConfig);
+        result.getShardingAlgorithms().put("database_inline", createInlineAlgorithmConfiguration(String.format("ds_${user_id %% %d}", DATA_SOURCE_COUNT)));
+        result.getShardingAlgorithms().put("table_inline", createInlineAlgorithmConfiguration(String.format("t_order_${order_id %% %d}", tableCountPerDataSource)));
+        return result;
+    }
+    
+    private static ShardingSphereAlgorithmConfiguration createInlineAlgorithmConfiguration(final String algorithmExpression) {
+        Properties props = new Properties();
+        props.setProperty("algorithm-expression", algorithmExpression);
+        return new ShardingSphereAlgorithmConfiguration("INLINE", props);
+    }
+    
+    private static Map<String, ShardingSphereSchema> createSchemas(final DatabaseType databaseType) {
+        TableMetaData tableMetaData = new TableMetaData(LOGIC_TABLE, Arrays.asList(
+                new ColumnMetaData("order_id", Types.BIGINT, true, false, false),
+                new ColumnMetaData("user_id", Types.INTEGER, false, false, false),
+                new ColumnMetaData("status", Types.VARCHAR, false, false, false)), Collections.emptyList(), Collections.emptyList());
+        String schemaName = databaseType instanceof PostgreSQLDatabaseType || databaseType instanceof OpenGaussDatabaseType ? "public" : DATABASE_NAME;
+        return Collections.singletonMap(schemaName, new ShardingSphereSchema(Collections.singletonMap(LOGIC_TABLE, tableMetaData)));
+    }
+}
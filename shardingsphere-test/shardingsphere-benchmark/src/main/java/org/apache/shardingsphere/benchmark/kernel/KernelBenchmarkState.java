@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.kernel;
+
+import lombok.Getter;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkMetaDataBuilder;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Shared state of kernel benchmarks, parameterized by database type and shard count.
+ */
+@State(Scope.Benchmark)
+@Getter
+public class KernelBenchmarkState {
+    
+    public static final String POINT_SQL = "SELECT order_id, user_id, status FROM t_order WHERE order_id = ? AND user_id = ?";
+    
+    public static final String SCAN_SQL = "SELECT order_id, user_id, status FROM t_order WHERE status = ?";
+    
+    @Param({"MySQL", "PostgreSQL"})
+    private String databaseType;
+    
+    @Param({"4", "64", "1024"})
+    private int shardCount;
+    
+    private ShardingSphereMetaData metaData;
+    
+    private ConfigurationProperties props;
+    
+    private SQLStatementParserEngine sqlStatementParserEngine;
+    
+    private SQLRouteEngine sqlRouteEngine;
+    
+    private SQLRewriteEntry sqlRewriteEntry;
+    
+    private KernelProcessor kernelProcessor;
+    
+    private LogicSQL pointLogicSQL;
+    
+    private LogicSQL scanLogicSQL;
+    
+    private RouteContext pointRouteContext;
+    
+    private RouteContext scanRouteContext;
+    
+    /**
+     * Set up state.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        metaData = BenchmarkMetaDataBuilder.build(databaseType, shardCount);
+        props = new ConfigurationProperties(new Properties());
+        sqlStatementParserEngine = new SQLStatementParserEngine(databaseType, new CacheOption(2000, 65535L, 4), new CacheOption(128, 1024L, 4), false);
+        sqlRouteEngine = new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props);
+        sqlRewriteEntry = new SQLRewriteEntry(metaData.getDatabaseName(), metaData.getSchemas(), props, metaData.getRuleMetaData().getRules());
+        kernelProcessor = new KernelProcessor();
+        pointLogicSQL = createLogicSQL(POINT_SQL, Arrays.asList(1001L, 7));
+        scanLogicSQL = createLogicSQL(SCAN_SQL, Collections.singletonList("OK"));
+        pointRouteContext = sqlRouteEngine.route(pointLogicSQL, metaData);
+        scanRouteContext = sqlRouteEngine.route(scanLogicSQL, metaData);
+    }
+    
+    /**
+     * Create logic SQL.
+     *
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @return logic SQL
+     */
+    public LogicSQL createLogicSQL(final String sql, final List<Object> parameters) {
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(Collections.singletonMap(metaData.getDatabaseName(), metaData),
+                parameters, sqlStatementParserEngine.parse(sql, true), metaData.getDatabaseName());
+        if (sqlStatementContext instanceof ParameterAware) {
+            ((ParameterAware) sqlStatementContext).setUpParameters(parameters);
+        }
+        return new LogicSQL(sqlStatementContext, sql, parameters);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for route, rewrite and execution context generation of kernel processor.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KernelProcessorBenchmark {
+    
+    /**
+     * Generate execution context for SQL routed to single data node.
+     *
+     * @param state kernel benchmark state
+     * @return execution context
+     */
+    @Benchmark
+    public ExecutionContext generatePointExecutionContext(final KernelBenchmarkState state) {
+        return state.getKernelProcessor().generateExecutionContext(state.getPointLogicSQL(), state.getMetaData(), state.getProps());
+    }
+    
+    /**
+     * Generate execution context for SQL routed to all data nodes.
+     *
+     * @param state kernel benchmark state
+     * @return execution context
+     */
+    @Benchmark
+    public ExecutionContext generateScanExecutionContext(final KernelBenchmarkState state) {
+        return state.getKernelProcessor().generateExecutionContext(state.getScanLogicSQL(), state.getMetaData(), state.getProps());
+    }
+}
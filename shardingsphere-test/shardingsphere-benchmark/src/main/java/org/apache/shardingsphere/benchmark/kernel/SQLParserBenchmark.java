@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.kernel;
+
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for parse stage.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SQLParserBenchmark {
+    
+    /**
+     * Parse SQL without statement cache, which measures ANTLR parsing and visiting.
+     *
+     * @param state kernel benchmark state
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseWithoutCache(final KernelBenchmarkState state) {
+        return state.getSqlStatementParserEngine().parse(KernelBenchmarkState.POINT_SQL, false);
+    }
+    
+    /**
+     * Parse SQL with statement cache hit.
+     *
+     * @param state kernel benchmark state
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseWithCache(final KernelBenchmarkState state) {
+        return state.getSqlStatementParserEngine().parse(KernelBenchmarkState.POINT_SQL, true);
+    }
+}
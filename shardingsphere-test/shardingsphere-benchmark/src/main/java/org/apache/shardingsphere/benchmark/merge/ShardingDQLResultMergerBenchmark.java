@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkMetaDataBuilder;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for merge stage of sharding DQL, which drives in-memory query results of every shard through {@code ShardingDQLResultMerger}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShardingDQLResultMergerBenchmark {
+    
+    private static final int ROWS_PER_SHARD = 100;
+    
+    @Param({"MySQL", "PostgreSQL"})
+    private String databaseType;
+    
+    @Param({"4", "64", "1024"})
+    private int shardCount;
+    
+    private ShardingSphereMetaData metaData;
+    
+    private ShardingDQLResultMerger merger;
+    
+    private SQLStatementContext<?> orderBySQLStatementContext;
+    
+    private SQLStatementContext<?> limitSQLStatementContext;
+    
+    private SQLStatementContext<?> groupByStreamSQLStatementContext;
+    
+    private SQLStatementContext<?> groupByMemorySQLStatementContext;
+    
+    private RawQueryResultMetaData orderQueryResultMetaData;
+    
+    private RawQueryResultMetaData groupByQueryResultMetaData;
+    
+    private List<List<MemoryQueryResultDataRow>> orderRows;
+    
+    private List<List<MemoryQueryResultDataRow>> groupByRows;
+    
+    /**
+     * Set up state.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        metaData = BenchmarkMetaDataBuilder.build(databaseType, shardCount);
+        merger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getTrunkDatabaseType(databaseType));
+        SQLStatementParserEngine sqlStatementParserEngine = new SQLStatementParserEngine(databaseType, new CacheOption(128, 1024L, 4), new CacheOption(128, 1024L, 4), false);
+        orderBySQLStatementContext = createSQLStatementContext(sqlStatementParserEngine, "SELECT order_id, user_id, status FROM t_order ORDER BY order_id");
+        limitSQLStatementContext = createSQLStatementContext(sqlStatementParserEngine, "SELECT order_id, user_id, status FROM t_order ORDER BY order_id LIMIT 10");
+        groupByStreamSQLStatementContext = createSQLStatementContext(sqlStatementParserEngine, "SELECT user_id, COUNT(*) AS cnt FROM t_order GROUP BY user_id ORDER BY user_id");
+        groupByMemorySQLStatementContext = createSQLStatementContext(sqlStatementParserEngine, "SELECT user_id, COUNT(*) AS cnt FROM t_order GROUP BY user_id ORDER BY cnt DESC");
+        orderQueryResultMetaData = new RawQueryResultMetaData(Arrays.asList(new RawQueryResultColumnMetaData("t_order", "order_id", "order_id", Types.BIGINT, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData("t_order", "user_id", "user_id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData("t_order", "status", "status", Types.VARCHAR, "VARCHAR", 50, 0)));
+        groupByQueryResultMetaData = new RawQueryResultMetaData(Arrays.asList(new RawQueryResultColumnMetaData("t_order", "user_id", "user_id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData("", "cnt", "cnt", Types.BIGINT, "BIGINT", 20, 0)));
+        orderRows = createOrderRows();
+        groupByRows = createGroupByRows();
+    }
+    
+    private SQLStatementContext<?> createSQLStatementContext(final SQLStatementParserEngine sqlStatementParserEngine, final String sql) {
+        return SQLStatementContextFactory.newInstance(Collections.singletonMap(metaData.getDatabaseName(), metaData),
+                Collections.emptyList(), sqlStatementParserEngine.parse(sql, false), metaData.getDatabaseName());
+    }
+    
+    private List<List<MemoryQueryResultDataRow>> createOrderRows() {
+        List<List<MemoryQueryResultDataRow>> result = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            List<MemoryQueryResultDataRow> rows = new ArrayList<>(ROWS_PER_SHARD);
+            for (int row = 0; row < ROWS_PER_SHARD; row++) {
+                rows.add(new MemoryQueryResultDataRow(Arrays.asList((long) row * shardCount + shard, shard % BenchmarkMetaDataBuilder.DATA_SOURCE_COUNT, "OK")));
+            }
+            result.add(rows);
+        }
+        return result;
+    }
+    
+    private List<List<MemoryQueryResultDataRow>> createGroupByRows() {
+        List<List<MemoryQueryResultDataRow>> result = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            List<MemoryQueryResultDataRow> rows = new ArrayList<>(ROWS_PER_SHARD);
+            for (int row = 0; row < ROWS_PER_SHARD; row++) {
+                rows.add(new MemoryQueryResultDataRow(Arrays.asList(row, (long) shard + 1)));
+            }
+            result.add(rows);
+        }
+        return result;
+    }
+    
+    private List<QueryResult> createQueryResults(final RawQueryResultMetaData queryResultMetaData, final List<List<MemoryQueryResultDataRow>> rows) {
+        List<QueryResult> result = new ArrayList<>(rows.size());
+        for (List<MemoryQueryResultDataRow> each : rows) {
+            result.add(new RawMemoryQueryResult(queryResultMetaData, each));
+        }
+        return result;
+    }
+    
+    private void consume(final MergedResult mergedResult, final int columnCount, final Blackhole blackhole) throws SQLException {
+        while (mergedResult.next()) {
+            for (int i = 1; i <= columnCount; i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+    
+    /**
+     * Merge by order by stream merged result.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeOrderBy(final Blackhole blackhole) throws SQLException {
+        consume(merger.merge(createQueryResults(orderQueryResultMetaData, orderRows), orderBySQLStatementContext, metaData.getDefaultSchema()), 3, blackhole);
+    }
+    
+    /**
+     * Merge by limit decorator over order by stream merged result.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeOrderByWithLimit(final Blackhole blackhole) throws SQLException {
+        consume(merger.merge(createQueryResults(orderQueryResultMetaData, orderRows), limitSQLStatementContext, metaData.getDefaultSchema()), 3, blackhole);
+    }
+    
+    /**
+     * Merge by group by stream merged result.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeGroupByStream(final Blackhole blackhole) throws SQLException {
+        consume(merger.merge(createQueryResults(groupByQueryResultMetaData, groupByRows), groupByStreamSQLStatementContext, metaData.getDefaultSchema()), 2, blackhole);
+    }
+    
+    /**
+     * Merge by group by memory merged result.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeGroupByMemory(final Blackhole blackhole) throws SQLException {
+        consume(merger.merge(createQueryResults(groupByQueryResultMetaData, groupByRows), groupByMemorySQLStatementContext, metaData.getDefaultSchema()), 2, blackhole);
+    }
+}
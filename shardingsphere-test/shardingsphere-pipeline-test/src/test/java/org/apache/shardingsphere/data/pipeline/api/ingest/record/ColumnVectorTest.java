@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.ingest.record;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ColumnVectorTest {
+    
+    @Test
+    public void assertAppendLongValuesBeyondInitialCapacity() {
+        ColumnVector columnVector = new ColumnVector(ColumnVector.Type.LONG, 1);
+        for (int i = 0; i < 100; i++) {
+            if (0 == i % 3) {
+                columnVector.appendNull();
+            } else {
+                columnVector.appendLong(i);
+            }
+        }
+        assertThat(columnVector.getSize(), is(100));
+        assertTrue(columnVector.isNull(99));
+        assertFalse(columnVector.isNull(98));
+        assertThat(columnVector.getLong(98), is(98L));
+        assertThat(columnVector.getValue(98), is((Object) 98L));
+        assertThat(columnVector.getValue(99), nullValue());
+    }
+    
+    @Test
+    public void assertAppendDoubleValue() {
+        ColumnVector columnVector = new ColumnVector(ColumnVector.Type.DOUBLE, 2);
+        columnVector.appendDouble(1.5D);
+        columnVector.appendNull();
+        assertThat(columnVector.getDouble(0), is(1.5D));
+        assertTrue(columnVector.isNull(1));
+    }
+    
+    @Test
+    public void assertAppendObjectValue() {
+        ColumnVector columnVector = new ColumnVector(ColumnVector.Type.OBJECT, 2);
+        columnVector.appendObject("foo");
+        columnVector.appendObject(null);
+        assertThat(columnVector.getValue(0), is((Object) "foo"));
+        assertTrue(columnVector.isNull(1));
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void assertGetValueOutOfBounds() {
+        ColumnVector columnVector = new ColumnVector(ColumnVector.Type.LONG, 2);
+        columnVector.appendLong(1L);
+        columnVector.getValue(1);
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.ColumnVector;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecordBatch;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TimeZone;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class AbstractBulkLoadImporterTest {
+    
+    private static final String INSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?)";
+    
+    @Mock
+    private PipelineDataSourceManager dataSourceManager;
+    
+    @Mock
+    private PipelineSQLBuilder pipelineSqlBuilder;
+    
+    @Mock
+    private PipelineDataSourceConfiguration dataSourceConfig;
+    
+    @Mock
+    private PipelineChannel channel;
+    
+    @Mock
+    private PipelineDataSourceWrapper dataSource;
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private PreparedStatement preparedStatement;
+    
+    private final List<String> loadedData = new LinkedList<>();
+    
+    private SQLException bulkLoadException;
+    
+    private AbstractBulkLoadImporter importer;
+    
+    @Before
+    public void setUp() {
+        importer = new AbstractBulkLoadImporter(new ImporterConfiguration(dataSourceConfig, Collections.emptyMap(), 1000, 3), dataSourceManager, channel) {
+            
+            @Override
+            protected PipelineSQLBuilder createSQLBuilder(final Map<String, Set<String>> shardingColumnsMap) {
+                return pipelineSqlBuilder;
+            }
+            
+            @Override
+            protected boolean isBulkLoadSupported(final Connection connection) {
+                return true;
+            }
+            
+            @Override
+            protected long bulkLoad(final Connection connection, final String tableName, final List<String> columnNames, final String data) throws SQLException {
+                if (null != bulkLoadException) {
+                    throw bulkLoadException;
+                }
+                loadedData.add(data);
+                return data.split("\n").length;
+            }
+        };
+    }
+    
+    @Test
+    public void assertBulkLoad() throws SQLException {
+        mockConnection();
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(createDataRecordBatch("a\tb\\c\nd")));
+        importer.run();
+        assertThat(loadedData, is(Collections.singletonList("1\t\\N\ta\\tb\\\\c\\nd\n")));
+        verify(connection, never()).prepareStatement(any());
+        verify(connection).commit();
+    }
+    
+    @Test
+    public void assertBatchInsertWhenConflict() throws SQLException {
+        bulkLoadException = new SQLException("duplicate key value violates unique constraint", "23505");
+        when(pipelineSqlBuilder.buildInsertSQL(any())).thenReturn(INSERT_SQL);
+        when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
+        mockConnection();
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(createDataRecordBatch("INSERT")));
+        importer.run();
+        verify(connection).rollback();
+        verify(preparedStatement).setLong(1, 1L);
+        verify(preparedStatement).setObject(3, "INSERT");
+        verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    public void assertBatchInsertWhenValueUnsupported() throws SQLException {
+        when(pipelineSqlBuilder.buildInsertSQL(any())).thenReturn(INSERT_SQL);
+        when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
+        Object unsupportedValue = new Object();
+        mockConnection();
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(createDataRecordBatch(unsupportedValue)));
+        importer.run();
+        assertTrue(loadedData.isEmpty());
+        verify(preparedStatement).setObject(3, unsupportedValue);
+        verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    public void assertFormatDateTimeWithOffset() {
+        TimeZone originalTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("GMT+08:00"));
+        try {
+            assertThat(importer.formatValue(Timestamp.valueOf("2022-01-02 03:04:05.006")), is(Optional.of("2022-01-02T03:04:05.006+08:00")));
+            assertThat(importer.formatValue(Time.valueOf("03:04:05")), is(Optional.of("03:04:05+08:00")));
+        } finally {
+            TimeZone.setDefault(originalTimeZone);
+        }
+        assertThat(importer.formatValue(OffsetDateTime.of(2022, 1, 2, 3, 4, 5, 0, ZoneOffset.ofHours(-5))), is(Optional.of("2022-01-02T03:04:05-05:00")));
+        assertThat(importer.formatValue(Instant.parse("2022-01-02T03:04:05Z")), is(Optional.of("2022-01-02T03:04:05Z")));
+        assertThat(importer.formatValue(LocalDateTime.of(2022, 1, 2, 3, 4, 5)), is(Optional.of("2022-01-02T03:04:05")));
+        assertThat(importer.formatValue(Date.valueOf("2022-01-02")), is(Optional.of("2022-01-02")));
+    }
+    
+    @Test
+    public void assertFormatUnsupportedTemporal() {
+        assertFalse(importer.formatValue(Year.of(2022)).isPresent());
+    }
+    
+    private void mockConnection() throws SQLException {
+        when(dataSourceManager.getDataSource(dataSourceConfig)).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+    }
+    
+    private List<Record> mockRecords(final Record record) {
+        List<Record> result = new LinkedList<>();
+        result.add(record);
+        result.add(new FinishedRecord(new PlaceholderPosition()));
+        return result;
+    }
+    
+    private DataRecordBatch createDataRecordBatch(final Object status) {
+        ColumnVector idColumnVector = new ColumnVector(ColumnVector.Type.LONG, 1);
+        idColumnVector.appendLong(1L);
+        ColumnVector userColumnVector = new ColumnVector(ColumnVector.Type.LONG, 1);
+        userColumnVector.appendNull();
+        ColumnVector statusColumnVector = new ColumnVector(ColumnVector.Type.OBJECT, 1);
+        statusColumnVector.appendObject(status);
+        return new DataRecordBatch(new PlaceholderPosition(), "test_table", Arrays.asList("id", "user", "status"),
+                new boolean[]{true, false, false}, new ColumnVector[]{idColumnVector, userColumnVector, statusColumnVector});
+    }
+}
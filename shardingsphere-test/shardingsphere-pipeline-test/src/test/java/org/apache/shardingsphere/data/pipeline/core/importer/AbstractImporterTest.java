@@ -21,7 +21,9 @@ import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterCo
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.ColumnVector;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecordBatch;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
@@ -39,6 +41,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -112,6 +115,19 @@ public final class AbstractImporterTest {
         verify(preparedStatement).addBatch();
     }
     
+    @Test
+    public void assertWriteInsertDataRecordBatch() throws SQLException {
+        when(pipelineSqlBuilder.buildInsertSQL(any())).thenReturn(INSERT_SQL);
+        when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(getDataRecordBatch()));
+        jdbcImporter.run();
+        verify(preparedStatement).setLong(1, 1L);
+        verify(preparedStatement).setObject(2, null);
+        verify(preparedStatement).setObject(3, "INSERT");
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
+    }
+    
     @Test
     public void assertDeleteDataRecord() throws SQLException {
         DataRecord deleteRecord = getDataRecord("DELETE");
@@ -170,7 +186,7 @@ public final class AbstractImporterTest {
         return RecordUtil.extractConditionColumns(dataRecord, Collections.singleton("user"));
     }
     
-    private List<Record> mockRecords(final DataRecord dataRecord) {
+    private List<Record> mockRecords(final Record dataRecord) {
         List<Record> result = new LinkedList<>();
         result.add(dataRecord);
         result.add(new FinishedRecord(new PlaceholderPosition()));
@@ -187,6 +203,17 @@ public final class AbstractImporterTest {
         return result;
     }
     
+    private DataRecordBatch getDataRecordBatch() {
+        ColumnVector idColumnVector = new ColumnVector(ColumnVector.Type.LONG, 1);
+        idColumnVector.appendLong(1L);
+        ColumnVector userColumnVector = new ColumnVector(ColumnVector.Type.LONG, 1);
+        userColumnVector.appendNull();
+        ColumnVector statusColumnVector = new ColumnVector(ColumnVector.Type.OBJECT, 1);
+        statusColumnVector.appendObject("INSERT");
+        return new DataRecordBatch(new PlaceholderPosition(), TABLE_NAME, Arrays.asList("id", "user", "status"),
+                new boolean[]{true, false, false}, new ColumnVector[]{idColumnVector, userColumnVector, statusColumnVector});
+    }
+    
     private ImporterConfiguration mockImporterConfiguration() {
         Map<String, Set<String>> shardingColumnsMap = Collections.singletonMap("test_table", Collections.singleton("user"));
         return new ImporterConfiguration(dataSourceConfig, shardingColumnsMap, 1000, 3);
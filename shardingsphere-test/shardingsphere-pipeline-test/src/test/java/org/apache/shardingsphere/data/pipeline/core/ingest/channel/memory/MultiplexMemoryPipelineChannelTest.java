@@ -22,21 +22,33 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -62,6 +74,147 @@ public final class MultiplexMemoryPipelineChannelTest {
         execute(records -> assertThat(records.size(), is(1)), 2, new FinishedRecord(new PlaceholderPosition()));
     }
     
+    @Test
+    public void assertAckPositionIsMinimumAcrossChannels() throws InterruptedException, ExecutionException {
+        List<Record> actual = new CopyOnWriteArrayList<>();
+        MultiplexMemoryPipelineChannel memoryChannel = new MultiplexMemoryPipelineChannel(CHANNEL_NUMBER, 10000, actual::addAll);
+        DataRecord firstRecord = createDataRecord(1, 0);
+        DataRecord secondRecord = createDataRecord(2, 1);
+        memoryChannel.pushRecord(firstRecord);
+        memoryChannel.pushRecord(secondRecord);
+        ExecutorService firstImporter = Executors.newSingleThreadExecutor();
+        ExecutorService secondImporter = Executors.newSingleThreadExecutor();
+        try {
+            List<Record> firstFetchedRecords = firstImporter.submit(() -> memoryChannel.fetchRecords(1, 1)).get();
+            assertThat(firstFetchedRecords, is(Collections.<Record>singletonList(firstRecord)));
+            secondImporter.submit(() -> memoryChannel.ack(memoryChannel.fetchRecords(1, 1))).get();
+            assertTrue(actual.isEmpty());
+            firstImporter.submit(() -> memoryChannel.ack(firstFetchedRecords)).get();
+            assertThat(actual.size(), is(1));
+            assertThat(actual.get(0), sameInstance(secondRecord));
+        } finally {
+            firstImporter.shutdown();
+            secondImporter.shutdown();
+            memoryChannel.close();
+        }
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertPushPrimaryKeyUpdatedRecordInSamePartition() {
+        MultiplexMemoryPipelineChannel memoryChannel = new MultiplexMemoryPipelineChannel(CHANNEL_NUMBER, 10000, new EmptyAckCallback());
+        try {
+            memoryChannel.pushRecord(createDataRecord(1, 0));
+            memoryChannel.pushRecord(createPrimaryKeyUpdatedRecord(2, 0, 0));
+        } finally {
+            memoryChannel.close();
+        }
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertPushPrimaryKeyUpdatedRecordAcrossPartitions() throws InterruptedException, ExecutionException {
+        List<Record> actual = new CopyOnWriteArrayList<>();
+        MultiplexMemoryPipelineChannel memoryChannel = new MultiplexMemoryPipelineChannel(CHANNEL_NUMBER, 10000, actual::addAll);
+        memoryChannel.pushRecord(createDataRecord(1, 0));
+        DataRecord primaryKeyUpdatedRecord = createPrimaryKeyUpdatedRecord(2, 0, 1);
+        ExecutorService dumper = Executors.newSingleThreadExecutor();
+        ExecutorService firstImporter = Executors.newSingleThreadExecutor();
+        ExecutorService secondImporter = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> future = dumper.submit(() -> memoryChannel.pushRecord(primaryKeyUpdatedRecord));
+            TimeUnit.MILLISECONDS.sleep(200L);
+            assertFalse(future.isDone());
+            firstImporter.submit(() -> memoryChannel.ack(memoryChannel.fetchRecords(1, 1))).get();
+            List<Record> secondFetchedRecords = secondImporter.submit(() -> memoryChannel.fetchRecords(1, 1)).get();
+            assertThat(secondFetchedRecords, is(Collections.<Record>singletonList(primaryKeyUpdatedRecord)));
+            assertFalse(future.isDone());
+            secondImporter.submit(() -> memoryChannel.ack(secondFetchedRecords)).get();
+            future.get();
+            assertThat(actual.get(actual.size() - 1), sameInstance(primaryKeyUpdatedRecord));
+        } finally {
+            dumper.shutdown();
+            firstImporter.shutdown();
+            secondImporter.shutdown();
+            memoryChannel.close();
+        }
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertPushPrimaryKeyUpdatedRecordAcrossPartitionsWithoutWaitingFullBatch() {
+        MultiplexMemoryPipelineChannel memoryChannel = new MultiplexMemoryPipelineChannel(CHANNEL_NUMBER, 10000, new EmptyAckCallback());
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService importers = Executors.newFixedThreadPool(CHANNEL_NUMBER);
+        try {
+            for (int i = 0; i < CHANNEL_NUMBER; i++) {
+                importers.submit(() -> {
+                    while (running.get()) {
+                        List<Record> records = memoryChannel.fetchRecords(100, 3);
+                        if (!records.isEmpty()) {
+                            memoryChannel.ack(records);
+                        }
+                    }
+                });
+            }
+            memoryChannel.pushRecord(createDataRecord(1, 0));
+            long startMillis = System.currentTimeMillis();
+            memoryChannel.pushRecord(createPrimaryKeyUpdatedRecord(2, 0, 1));
+            long stallMillis = System.currentTimeMillis() - startMillis;
+            assertTrue("primary key update stalled " + stallMillis + " ms", stallMillis < 1000L);
+        } finally {
+            running.set(false);
+            importers.shutdown();
+            memoryChannel.close();
+        }
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertPushPrimaryKeyUpdatedRecordAfterClosed() throws InterruptedException, ExecutionException {
+        MultiplexMemoryPipelineChannel memoryChannel = new MultiplexMemoryPipelineChannel(CHANNEL_NUMBER, 10000, new EmptyAckCallback());
+        memoryChannel.pushRecord(createDataRecord(1, 0));
+        ExecutorService dumper = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> future = dumper.submit(() -> memoryChannel.pushRecord(createPrimaryKeyUpdatedRecord(2, 0, 1)));
+            TimeUnit.MILLISECONDS.sleep(200L);
+            assertFalse(future.isDone());
+            memoryChannel.close();
+            future.get();
+        } finally {
+            dumper.shutdown();
+        }
+    }
+    
+    private DataRecord createPrimaryKeyUpdatedRecord(final int id, final int oldChannelIndex, final int channelIndex) {
+        int oldPrimaryKeyValue = 0;
+        while (oldChannelIndex != getChannelIndex(new DataRecord.Key("t_order", Collections.singletonList(oldPrimaryKeyValue)))) {
+            oldPrimaryKeyValue++;
+        }
+        int primaryKeyValue = oldPrimaryKeyValue + 1;
+        while (channelIndex != getChannelIndex(new DataRecord.Key("t_order", Collections.singletonList(primaryKeyValue)))) {
+            primaryKeyValue++;
+        }
+        DataRecord result = new DataRecord(new IntPosition(id), 1);
+        result.setTableName("t_order");
+        result.setType(IngestDataChangeType.UPDATE);
+        result.addColumn(new Column("order_id", oldPrimaryKeyValue, primaryKeyValue, true, true));
+        return result;
+    }
+    
+    private int getChannelIndex(final DataRecord.Key key) {
+        return Math.abs(key.hashCode() % CHANNEL_NUMBER);
+    }
+    
+    private DataRecord createDataRecord(final int id, final int channelIndex) {
+        int primaryKeyValue = 0;
+        while (true) {
+            DataRecord result = new DataRecord(new IntPosition(id), 1);
+            result.setTableName("t_order");
+            result.setType(IngestDataChangeType.INSERT);
+            result.addColumn(new Column("order_id", primaryKeyValue++, true, true));
+            if (channelIndex == Math.abs(result.getKey().hashCode() % CHANNEL_NUMBER)) {
+                return result;
+            }
+        }
+    }
+    
     @SneakyThrows(InterruptedException.class)
     private void execute(final AckCallback ackCallback, final int recordCount, final Record... records) {
         CountDownLatch countDownLatch = new CountDownLatch(recordCount);
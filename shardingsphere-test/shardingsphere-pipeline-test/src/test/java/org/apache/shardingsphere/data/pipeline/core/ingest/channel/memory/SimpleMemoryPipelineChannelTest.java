@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.ColumnVector;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecordBatch;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SimpleMemoryPipelineChannelTest {
+    
+    @Test
+    public void assertFetchRecordsByRowCount() {
+        SimpleMemoryPipelineChannel channel = new SimpleMemoryPipelineChannel(10);
+        channel.pushRecord(createDataRecordBatch(4));
+        channel.pushRecord(createDataRecordBatch(4));
+        channel.pushRecord(new FinishedRecord(new PlaceholderPosition()));
+        List<Record> actual = channel.fetchRecords(5, 1);
+        assertThat(actual.size(), is(2));
+        actual = channel.fetchRecords(5, 0);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getClass().getName(), is(FinishedRecord.class.getName()));
+    }
+    
+    @Test(timeout = 1000L)
+    public void assertFetchRecordsWithFlushRequested() {
+        SimpleMemoryPipelineChannel channel = new SimpleMemoryPipelineChannel(10);
+        channel.pushRecord(createDataRecordBatch(4));
+        channel.requestFlush();
+        assertThat(channel.fetchRecords(5, 3).size(), is(1));
+    }
+    
+    private DataRecordBatch createDataRecordBatch(final int rowCount) {
+        ColumnVector columnVector = new ColumnVector(ColumnVector.Type.LONG, rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            columnVector.appendLong(i);
+        }
+        return new DataRecordBatch(new PlaceholderPosition(), "t_order", Collections.singletonList("order_id"), new boolean[]{true}, new ColumnVector[]{columnVector});
+    }
+}
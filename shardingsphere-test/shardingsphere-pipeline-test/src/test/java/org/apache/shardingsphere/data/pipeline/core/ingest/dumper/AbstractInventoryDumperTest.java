@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.dumper;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.InventoryDumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.KeysetPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecordBatch;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.fixture.FixtureInventoryDumper;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.SimpleMemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class AbstractInventoryDumperTest {
+    
+    private PipelineDataSourceManager dataSourceManager;
+    
+    private PipelineDataSourceWrapper dataSource;
+    
+    private SimpleMemoryPipelineChannel channel;
+    
+    @Before
+    public void setUp() {
+        dataSourceManager = new PipelineDataSourceManager();
+        dataSource = dataSourceManager.getDataSource(createDumperConfiguration().getDataSourceConfig());
+        channel = new SimpleMemoryPipelineChannel(100);
+        initTableData();
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void initTableData() {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
+            statement.execute("INSERT INTO t_order (order_id, user_id) VALUES (1, 'a'), (2, 'b'), (3, 'c'), (4, 'd'), (5, 'e')");
+            statement.execute("DROP TABLE IF EXISTS t_order_item");
+            statement.execute("CREATE TABLE t_order_item (order_id INT, item_id DECIMAL(10,2), status VARCHAR(12), PRIMARY KEY (order_id, item_id))");
+            statement.execute("INSERT INTO t_order_item (order_id, item_id, status) VALUES (1, 1.00, 'ok'), (1, 2.00, 'ok'), (2, 1.00, 'ok'), (2, 2.50, 'ok'), (3, 1.00, 'ok')");
+        }
+    }
+    
+    @After
+    public void tearDown() {
+        dataSourceManager.close();
+    }
+    
+    @Test
+    public void assertDumpByKeysetWithSingleColumnKey() {
+        createInventoryDumper("t_order", new KeysetPosition(null, null)).start();
+        List<Record> records = channel.fetchRecords(100, 0);
+        assertThat(getKeysetBeginValues(records), is(Arrays.asList(Collections.singletonList("2"), Collections.singletonList("4"), Collections.singletonList("5"))));
+        assertThat(getRowCount(records), is(5));
+        assertFinished(records);
+    }
+    
+    @Test
+    public void assertDumpByKeysetWithSingleColumnKeyAndEndValues() {
+        createInventoryDumper("t_order", new KeysetPosition(null, Collections.singletonList("3"))).start();
+        List<Record> records = channel.fetchRecords(100, 0);
+        assertThat(getKeysetBeginValues(records), is(Arrays.asList(Collections.singletonList("2"), Collections.singletonList("3"))));
+        assertThat(((KeysetPosition) records.get(0).getPosition()).getEndValues(), is(Collections.singletonList("3")));
+        assertThat(getRowCount(records), is(3));
+        assertFinished(records);
+    }
+    
+    @Test
+    public void assertDumpByKeysetWithCompositeKey() {
+        createInventoryDumper("t_order_item", new KeysetPosition(null, null)).start();
+        List<Record> records = channel.fetchRecords(100, 0);
+        assertThat(getKeysetBeginValues(records), is(Arrays.asList(Arrays.asList("1", "2.00"), Arrays.asList("2", "2.50"), Arrays.asList("3", "1.00"))));
+        assertThat(((KeysetPosition) records.get(0).getPosition()).getEndValues(), nullValue());
+        assertThat(getRowCount(records), is(5));
+        assertFinished(records);
+    }
+    
+    @Test
+    public void assertDumpByKeysetWithCompositeKeyResumedFromPersistedPosition() {
+        KeysetPosition persistedPosition = new KeysetPosition(Arrays.asList("1", "2.00"), null);
+        createInventoryDumper("t_order_item", KeysetPosition.init(persistedPosition.toString())).start();
+        List<Record> records = channel.fetchRecords(100, 0);
+        assertThat(getKeysetBeginValues(records), is(Arrays.asList(Arrays.asList("2", "2.50"), Arrays.asList("3", "1.00"))));
+        assertThat(getRowCount(records), is(3));
+        assertFinished(records);
+    }
+    
+    private FixtureInventoryDumper createInventoryDumper(final String tableName, final KeysetPosition position) {
+        InventoryDumperConfiguration dumperConfig = new InventoryDumperConfiguration(createDumperConfiguration());
+        dumperConfig.setTableName(tableName);
+        dumperConfig.setBatchSize(2);
+        dumperConfig.setPosition(position);
+        return new FixtureInventoryDumper(dumperConfig, channel, dataSource, new PipelineTableMetaDataLoader(dataSource));
+    }
+    
+    private DumperConfiguration createDumperConfiguration() {
+        DumperConfiguration result = new DumperConfiguration();
+        result.setDataSourceConfig(new StandardPipelineDataSourceConfiguration("jdbc:h2:mem:test_keyset_dump;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", "root", "root"));
+        return result;
+    }
+    
+    private List<List<String>> getKeysetBeginValues(final List<Record> records) {
+        List<List<String>> result = new ArrayList<>(records.size());
+        for (Record each : records) {
+            if (each instanceof DataRecordBatch) {
+                result.add(((KeysetPosition) each.getPosition()).getBeginValues());
+            }
+        }
+        return result;
+    }
+    
+    private int getRowCount(final List<Record> records) {
+        int result = 0;
+        for (Record each : records) {
+            if (each instanceof DataRecordBatch) {
+                result += ((DataRecordBatch) each).getRowCount();
+            }
+        }
+        return result;
+    }
+    
+    private void assertFinished(final List<Record> records) {
+        Record lastRecord = records.get(records.size() - 1);
+        assertThat(lastRecord, instanceOf(FinishedRecord.class));
+        assertThat(lastRecord.getPosition(), instanceOf(FinishedPosition.class));
+    }
+}
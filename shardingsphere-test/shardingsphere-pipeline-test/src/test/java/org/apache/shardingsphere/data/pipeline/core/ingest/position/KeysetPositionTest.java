@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.position;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.KeysetPosition;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class KeysetPositionTest {
+    
+    @Test
+    public void assertInit() {
+        KeysetPosition position = KeysetPosition.init("keyset:1,a%2Cb;~");
+        assertThat(position.getBeginValues(), is(Arrays.asList("1", "a,b")));
+        assertNull(position.getEndValues());
+    }
+    
+    @Test
+    public void assertToString() {
+        assertThat(new KeysetPosition(null, Arrays.asList("2", "c;d")).toString(), is("keyset:~;2,c%3Bd"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitWithPrimaryKeyPosition() {
+        KeysetPosition.init("1,100");
+    }
+}
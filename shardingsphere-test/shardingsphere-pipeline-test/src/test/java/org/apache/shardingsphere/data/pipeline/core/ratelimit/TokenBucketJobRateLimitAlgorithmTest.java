@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ratelimit;
+
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TokenBucketJobRateLimitAlgorithmTest {
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitWithoutRate() {
+        new TokenBucketJobRateLimitAlgorithm().init();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitWithNegativeRate() {
+        createAlgorithm("-1", "0");
+    }
+    
+    @Test
+    public void assertFeedbackWithoutLatencyThreshold() {
+        TokenBucketJobRateLimitAlgorithm algorithm = createAlgorithm("1000000", "0");
+        algorithm.intercept(JobOperationType.SELECT, 10);
+        algorithm.feedback(JobOperationType.SELECT, 10, 100L, 1000L);
+        assertThat(algorithm.getRateFactor(), is(1D));
+    }
+    
+    @Test
+    public void assertBackOffAndRecover() {
+        TokenBucketJobRateLimitAlgorithm algorithm = createAlgorithm("1000000", "100");
+        algorithm.feedback(JobOperationType.SELECT, 10, 100L, 200L);
+        assertThat(algorithm.getRateFactor(), is(0.5D));
+        for (int i = 0; i < 10; i++) {
+            algorithm.feedback(JobOperationType.SELECT, 10, 100L, 200L);
+        }
+        assertThat(algorithm.getRateFactor(), is(0.1D));
+        for (int i = 0; i < 10; i++) {
+            algorithm.feedback(JobOperationType.SELECT, 10, 100L, 10L);
+        }
+        assertThat(algorithm.getRateFactor(), is(1D));
+    }
+    
+    @Test
+    public void assertInterceptWithCreditedRows() {
+        TokenBucketJobRateLimitAlgorithm algorithm = createAlgorithm("10", "0");
+        algorithm.intercept(JobOperationType.SELECT, 10);
+        algorithm.feedback(JobOperationType.SELECT, 0, 0L, 10L);
+        long startMillis = System.currentTimeMillis();
+        algorithm.intercept(JobOperationType.SELECT, 10);
+        assertTrue(System.currentTimeMillis() - startMillis < 500L);
+    }
+    
+    @Test
+    public void assertInterceptWithoutCreditedRows() {
+        TokenBucketJobRateLimitAlgorithm algorithm = createAlgorithm("10", "0");
+        algorithm.intercept(JobOperationType.SELECT, 10);
+        algorithm.feedback(JobOperationType.SELECT, 10, 0L, 10L);
+        long startMillis = System.currentTimeMillis();
+        algorithm.intercept(JobOperationType.SELECT, 1);
+        assertTrue(System.currentTimeMillis() - startMillis >= 500L);
+    }
+    
+    @Test
+    public void assertInterceptWithCreditedRowsCappedAfterBackOff() {
+        TokenBucketJobRateLimitAlgorithm algorithm = createAlgorithm("100", "100");
+        algorithm.intercept(JobOperationType.SELECT, 100);
+        algorithm.feedback(JobOperationType.SELECT, 0, 0L, 200L);
+        assertThat(algorithm.getRateFactor(), is(0.5D));
+        long startMillis = System.currentTimeMillis();
+        algorithm.intercept(JobOperationType.SELECT, 100);
+        assertTrue(System.currentTimeMillis() - startMillis >= 500L);
+    }
+    
+    @Test
+    public void assertFeedbackWithoutReconcilingPreviousIntercept() {
+        TokenBucketJobRateLimitAlgorithm algorithm = createAlgorithm("1", "0");
+        algorithm.intercept(JobOperationType.SELECT, 1);
+        algorithm.intercept(JobOperationType.SELECT, 0);
+        algorithm.feedback(JobOperationType.SELECT, 0, 0L, 10L);
+        long startMillis = System.currentTimeMillis();
+        algorithm.intercept(JobOperationType.SELECT, 1);
+        assertTrue(System.currentTimeMillis() - startMillis >= 500L);
+    }
+    
+    @Test
+    public void assertInterceptWithBytesPerSecond() {
+        TokenBucketJobRateLimitAlgorithm algorithm = new TokenBucketJobRateLimitAlgorithm();
+        Properties props = new Properties();
+        props.setProperty(TokenBucketJobRateLimitAlgorithm.BYTES_PER_SECOND_KEY, "1000");
+        algorithm.setProps(props);
+        algorithm.init();
+        algorithm.intercept(JobOperationType.SELECT, 10);
+        algorithm.feedback(JobOperationType.SELECT, 10, 1000L, 10L);
+        long startMillis = System.currentTimeMillis();
+        algorithm.intercept(JobOperationType.SELECT, 10);
+        assertTrue(System.currentTimeMillis() - startMillis >= 500L);
+    }
+    
+    private TokenBucketJobRateLimitAlgorithm createAlgorithm(final String rowsPerSecond, final String latencyThresholdMillis) {
+        TokenBucketJobRateLimitAlgorithm result = new TokenBucketJobRateLimitAlgorithm();
+        Properties props = new Properties();
+        props.setProperty(TokenBucketJobRateLimitAlgorithm.ROWS_PER_SECOND_KEY, rowsPerSecond);
+        props.setProperty(TokenBucketJobRateLimitAlgorithm.LATENCY_THRESHOLD_MILLISECONDS_KEY, latencyThresholdMillis);
+        result.setProps(props);
+        result.init();
+        return result;
+    }
+}
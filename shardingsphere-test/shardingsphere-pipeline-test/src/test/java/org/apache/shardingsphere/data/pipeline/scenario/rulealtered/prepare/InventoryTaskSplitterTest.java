@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.scenario.rulealtered.prepare;
 
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.TaskConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.KeysetPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCreationException;
@@ -33,10 +34,13 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 public final class InventoryTaskSplitterTest {
@@ -88,16 +92,28 @@ public final class InventoryTaskSplitterTest {
         assertThat(((PrimaryKeyPosition) actual.get(9).getProgress().getPosition()).getEndValue(), is(100L));
     }
     
-    @Test(expected = PipelineJobCreationException.class)
+    @Test
     public void assertSplitInventoryDataWithCharPrimary() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(1);
         initCharPrimaryEnvironment(taskConfig.getDumperConfig());
-        inventoryTaskSplitter.splitInventoryData(jobContext);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext);
+        assertThat(actual.size(), is(3));
+        assertNull(((KeysetPosition) actual.get(0).getProgress().getPosition()).getBeginValues());
+        assertThat(((KeysetPosition) actual.get(0).getProgress().getPosition()).getEndValues(), is(Collections.singletonList("1")));
+        assertThat(((KeysetPosition) actual.get(1).getProgress().getPosition()).getBeginValues(), is(Collections.singletonList("1")));
+        assertThat(((KeysetPosition) actual.get(1).getProgress().getPosition()).getEndValues(), is(Collections.singletonList("999")));
+        assertThat(((KeysetPosition) actual.get(2).getProgress().getPosition()).getBeginValues(), is(Collections.singletonList("999")));
+        assertNull(((KeysetPosition) actual.get(2).getProgress().getPosition()).getEndValues());
     }
     
-    @Test(expected = PipelineJobCreationException.class)
+    @Test
     public void assertSplitInventoryDataWithUnionPrimary() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(1);
         initUnionPrimaryEnvironment(taskConfig.getDumperConfig());
-        inventoryTaskSplitter.splitInventoryData(jobContext);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext);
+        assertThat(actual.size(), is(3));
+        assertThat(((KeysetPosition) actual.get(1).getProgress().getPosition()).getBeginValues(), is(Arrays.asList("1", "xxx")));
+        assertThat(((KeysetPosition) actual.get(1).getProgress().getPosition()).getEndValues(), is(Arrays.asList("999", "yyy")));
     }
     
     @Test(expected = PipelineJobCreationException.class)
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.core.fixture.FixturePipelineSQLBu
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -66,6 +67,21 @@ public final class PipelineSQLBuilderTest {
         assertThat(actual, is("DELETE FROM `t3` WHERE `id` = ? and `sc` = ?"));
     }
     
+    @Test
+    public void assertBuildSplitByKeysetSQL() {
+        assertThat(pipelineSQLBuilder.buildSplitByKeysetSQL("t1", Collections.singletonList("id"), false), is("SELECT `id` FROM `t1` ORDER BY `id` LIMIT 1 OFFSET ?"));
+        assertThat(pipelineSQLBuilder.buildSplitByKeysetSQL("t1", Arrays.asList("id", "sc"), true),
+                is("SELECT `id`,`sc` FROM `t1` WHERE (`id`,`sc`)>(?,?) ORDER BY `id`,`sc` LIMIT 1 OFFSET ?"));
+    }
+    
+    @Test
+    public void assertBuildKeysetDumpSQL() {
+        assertThat(pipelineSQLBuilder.buildKeysetDumpSQL("t1", Collections.singletonList("id"), false, false), is("SELECT * FROM `t1` ORDER BY `id` ASC LIMIT ?"));
+        assertThat(pipelineSQLBuilder.buildKeysetDumpSQL("t1", Collections.singletonList("id"), true, false), is("SELECT * FROM `t1` WHERE `id`>? ORDER BY `id` ASC LIMIT ?"));
+        assertThat(pipelineSQLBuilder.buildKeysetDumpSQL("t1", Arrays.asList("id", "sc"), true, true),
+                is("SELECT * FROM `t1` WHERE (`id`,`sc`)>(?,?) AND (`id`,`sc`)<=(?,?) ORDER BY `id`,`sc` ASC LIMIT ?"));
+    }
+    
     private Collection<Column> mockConditionColumns(final DataRecord dataRecord) {
         return RecordUtil.extractConditionColumns(dataRecord, Collections.singleton("sc"));
     }